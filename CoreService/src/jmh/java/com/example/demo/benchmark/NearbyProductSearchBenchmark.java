@@ -0,0 +1,102 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.util.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주변 상품 검색 비용 비교 (상품 수에 따른 조회 시간)
+ * - full-scan: 기존 쿼리처럼 모든 상품의 거리를 계산한 뒤 반경으로 필터링
+ * - bounding-box: idx_products_geo 범위 조회를 흉내 (위도 정렬 배열 이분 탐색 → 경도 조건 → 정확한 거리)
+ * 상품 좌표는 국내 범위(위도 33~38.6, 경도 126~129.6)에 고르게 분포, 검색 중심은 서울
+ * DB 왕복 시간은 포함하지 않으며, 두 방식이 거리 계산을 몇 건 하는지의 차이를 보기 위한 것
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearbyProductSearchBenchmark {
+
+    private static final double CENTER_LATITUDE = 37.5665;
+    private static final double CENTER_LONGITUDE = 126.9780;
+
+    @Param({"10000", "100000", "500000"})
+    private int productCount;
+
+    @Param({"3", "10"})
+    private int distanceKm;
+
+    // 위도 오름차순 정렬 (B-tree 인덱스 순서)
+    private double[] latitudes;
+    private double[] longitudes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        double[][] points = new double[productCount][];
+        for (int i = 0; i < productCount; i++) {
+            points[i] = new double[]{33.0 + random.nextDouble() * 5.6, 126.0 + random.nextDouble() * 3.6};
+        }
+        Arrays.sort(points, (a, b) -> Double.compare(a[0], b[0]));
+
+        latitudes = new double[productCount];
+        longitudes = new double[productCount];
+        for (int i = 0; i < productCount; i++) {
+            latitudes[i] = points[i][0];
+            longitudes[i] = points[i][1];
+        }
+        System.out.printf("%n[result] products=%d, distanceKm=%d, matched=%d%n",
+                productCount, distanceKm, boundingBox());
+    }
+
+    @Benchmark
+    public int fullScan() {
+        int matched = 0;
+        for (int i = 0; i < latitudes.length; i++) {
+            if (GeoUtils.distanceKm(CENTER_LATITUDE, CENTER_LONGITUDE, latitudes[i], longitudes[i]) <= distanceKm) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int boundingBox() {
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(CENTER_LATITUDE, CENTER_LONGITUDE, distanceKm);
+        int from = lowerBound(box.getMinLatitude());
+        int matched = 0;
+        for (int i = from; i < latitudes.length && latitudes[i] <= box.getMaxLatitude(); i++) {
+            if (longitudes[i] < box.getMinLongitude() || longitudes[i] > box.getMaxLongitude()) {
+                continue;
+            }
+            if (GeoUtils.distanceKm(CENTER_LATITUDE, CENTER_LONGITUDE, latitudes[i], longitudes[i]) <= distanceKm) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private int lowerBound(double latitude) {
+        int low = 0;
+        int high = latitudes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (latitudes[mid] < latitude) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
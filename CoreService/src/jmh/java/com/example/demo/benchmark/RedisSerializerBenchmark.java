@@ -0,0 +1,105 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.CompactRedisSerializer;
+import com.example.demo.dto.Market.NotificationMessage;
+import com.example.demo.model.chat.ChatMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 값 직렬화기 비교 (인코딩/디코딩 시간, 크기)
+ * - jackson-object: RedisTemplate 기본 값 직렬화기 (Jackson2JsonRedisSerializer<Object>)
+ * - generic-json: 캐시 직렬화기 (GenericJackson2JsonRedisSerializer, 클래스명 포함)
+ * - json / smile: CompactRedisSerializer (타입 지정)
+ * - generic-smile: CompactRedisSerializer (클래스명 포함, 캐시용)
+ * 직렬화 크기는 Setup 단계에서 출력, 비교를 위해 기존 직렬화기에도 JavaTimeModule 등록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisSerializerBenchmark {
+
+    @Param({"jackson-object", "generic-json", "json", "smile", "generic-smile"})
+    private String serializer;
+
+    @Param({"chat", "notification"})
+    private String payload;
+
+    private RedisSerializer<Object> target;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        value = "chat".equals(payload) ? chatMessage() : notification();
+        target = createSerializer(serializer, value.getClass());
+        encoded = target.serialize(value);
+        System.out.printf("%n[size] serializer=%s, payload=%s, bytes=%d%n", serializer, payload, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return target.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return target.deserialize(encoded);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisSerializer<Object> createSerializer(String name, Class<?> type) {
+        switch (name) {
+            case "jackson-object":
+                return new Jackson2JsonRedisSerializer<>(new ObjectMapper().registerModule(new JavaTimeModule()),
+                        Object.class);
+            case "generic-json":
+                GenericJackson2JsonRedisSerializer generic = new GenericJackson2JsonRedisSerializer();
+                generic.configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+                return generic;
+            case "json":
+                return CompactRedisSerializer.forType((Class<Object>) type, "json");
+            case "smile":
+                return CompactRedisSerializer.forType((Class<Object>) type, CompactRedisSerializer.FORMAT_SMILE);
+            case "generic-smile":
+                return CompactRedisSerializer.generic(CompactRedisSerializer.FORMAT_SMILE);
+            default:
+                throw new IllegalArgumentException("알 수 없는 직렬화기: " + name);
+        }
+    }
+
+    private static ChatMessage chatMessage() {
+        return ChatMessage.builder()
+                .messageId(123456)
+                .chatroomId(4821)
+                .senderEmail("seller.kim@example.com")
+                .content("안녕하세요! 아직 판매 중인가요? 내일 오후에 직거래 가능할까요?")
+                .messageType("TEXT")
+                .sentAt(LocalDateTime.of(2024, 5, 1, 14, 30, 15))
+                .isRead(false)
+                .senderName("김판매")
+                .senderProfileUrl("https://cdn.example.com/profile/seller.kim.png")
+                .productId(98765L)
+                .build();
+    }
+
+    private static NotificationMessage notification() {
+        return new NotificationMessage("buyer.lee@example.com", "새로운 참여 요청이 도착했습니다.",
+                "REQUEST", 4821, 98765L);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis 값 직렬화기 (Smile 바이너리 / JSON)
+ * - smile: 필드명·반복 문자열을 역참조로 압축하고 숫자를 가변 길이 정수로 저장하여 JSON보다 작고 빠름
+ * - 타입을 지정하여 생성하면 클래스명을 저장하지 않음, generic은 캐시처럼 타입을 알 수 없는 값에만 사용
+ * - 읽을 때는 Smile 헤더(":)\n")로 형식을 판별하므로 형식을 바꾸는 중에도 기존 JSON 값을 읽을 수 있음
+ */
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+    public static final String FORMAT_SMILE = "smile";
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper jsonMapper;
+    private final JavaType type;
+    private final boolean writeSmile;
+
+    private CompactRedisSerializer(boolean typeInfo, Class<T> type, boolean writeSmile) {
+        this.smileMapper = createMapper(new ObjectMapper(new SmileFactory()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)), typeInfo);
+        this.jsonMapper = createMapper(new ObjectMapper(), typeInfo);
+        this.type = smileMapper.constructType(type);
+        this.writeSmile = writeSmile;
+    }
+
+    /**
+     * 타입이 정해진 값용 직렬화기 (채팅 메시지, 알림 등)
+     * @param format smile이면 Smile로 저장, 그 외에는 JSON으로 저장
+     */
+    public static <T> CompactRedisSerializer<T> forType(Class<T> type, String format) {
+        return new CompactRedisSerializer<>(false, type, FORMAT_SMILE.equalsIgnoreCase(format));
+    }
+
+    /**
+     * 타입을 알 수 없는 값용 직렬화기 (값에 클래스명을 함께 저장, 캐시 등)
+     */
+    public static CompactRedisSerializer<Object> generic(String format) {
+        return new CompactRedisSerializer<>(true, Object.class, FORMAT_SMILE.equalsIgnoreCase(format));
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        try {
+            return (writeSmile ? smileMapper : jsonMapper).writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SerializationException("Redis 값 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return (isSmile(bytes) ? smileMapper : jsonMapper).readValue(bytes, type);
+        } catch (Exception e) {
+            throw new SerializationException("Redis 값 역직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Smile 헤더(0x3A 0x29 0x0A) 여부 확인
+     */
+    public static boolean isSmile(byte[] bytes) {
+        return bytes.length >= 3 && bytes[0] == ':' && bytes[1] == ')' && bytes[2] == '\n';
+    }
+
+    private static ObjectMapper createMapper(ObjectMapper mapper, boolean typeInfo) {
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (typeInfo) {
+            // 클래스명은 GenericJackson2JsonRedisSerializer와 같이 "@class" 속성으로 저장
+            mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                    ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        }
+        return mapper;
+    }
+}
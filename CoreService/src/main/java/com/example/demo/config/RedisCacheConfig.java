@@ -1,34 +1,89 @@
 package com.example.demo.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 
+/**
+ * 캐시 설정
+ * - cache.local.enabled=true(기본값)면 노드 메모리(L1) + Redis(L2) 2단계 캐시, false면 Redis 캐시만 사용
+ * - 캐시 이름은 아래 상수를 사용하고, null 결과는 캐싱하지 않도록 unless = "#result == null" 지정
+ */
 @Configuration
 @EnableCaching
 public class RedisCacheConfig {
 
+    // 게시판 단건 조회 (BoardMapper.findBoardById)
+    public static final String CACHE_BOARDS = "boards";
+    // 게시판 멤버십 조회 (BoardMemberMapper.findBoardMemberByEmailAndBoardId, 키: 게시판 ID:이메일)
+    public static final String CACHE_BOARD_MEMBERS = "boardMembers";
+    // 사용자 프로필 단건 조회 (UserMapper.findProfileByEmail, 비밀번호 해시/로그인 잠금 정보는 캐싱하지 않음)
+    public static final String CACHE_USER_PROFILES = "userProfiles";
+    // 상품 목록 카드 (ProductCardService, 상품 ID별)
+    public static final String CACHE_PRODUCT_CARDS = "productCards";
+
+    @Value("${redis.serialization.format:json}")
+    private String serializationFormat;
+
+    @Value("${cache.product-cards.ttl-seconds:300}")
+    private long productCardsTtlSeconds;
+
+    @Value("${cache.local.enabled:true}")
+    private boolean localCacheEnabled;
+
+    @Value("${cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+
+    @Value("${cache.local.expire-after-write-ms:60000}")
+    private long localExpireAfterWriteMs;
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisTemplate<String, Object> redisTemplate,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     MeterRegistry meterRegistry) {
         RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))  // 캐시 항목의 기본 만료 시간
                 .disableCachingNullValues() // null 값은 캐싱하지 않음
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                        RedisSerializationContext.SerializationPair.fromSerializer(
+                                CompactRedisSerializer.generic(serializationFormat)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfiguration)
-                .transactionAware() // 트랜잭션 인식
-                .build();
+                // 계정 상태 변경이 다른 경로로 반영될 수 있으므로 짧게 유지
+                .withCacheConfiguration(CACHE_USER_PROFILES, cacheConfiguration.entryTtl(Duration.ofMinutes(1)))
+                // 상품 변경은 바로 삭제하고, 등록자 닉네임/도파민 변경은 만료 시 반영
+                .withCacheConfiguration(CACHE_PRODUCT_CARDS,
+                        cacheConfiguration.entryTtl(Duration.ofSeconds(productCardsTtlSeconds)));
+
+        if (!localCacheEnabled) {
+            return builder.transactionAware().build(); // 트랜잭션 인식
+        }
+
+        // 2단계 캐시는 삭제를 즉시 + 커밋 후 한 번 더 수행하므로 트랜잭션 인식 데코레이터를 사용하지 않음
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, redisTemplate,
+                meterRegistry, localMaximumSize, Duration.ofMillis(localExpireAfterWriteMs));
+        redisMessageListenerContainer.addMessageListener(cacheManager,
+                new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return cacheManager;
     }
 }
@@ -1,5 +1,6 @@
 package com.example.demo.config;
 
+import com.example.demo.dto.Market.NotificationMessage;
 import com.example.demo.listener.NotificationSubscriber;
 import com.example.demo.listener.RedisMessageListener;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,8 +13,8 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import java.time.Duration;
 
@@ -38,6 +39,9 @@ public class RedisConfig {
     @Value("${notification.redis.topic.name:notification}")
     private String notificationTopicName;
 
+    @Value("${redis.serialization.format:json}")
+    private String serializationFormat;
+
     /**
      * Redis ConnectionFactory 설정
      */
@@ -74,20 +78,29 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * 알림 Pub/Sub 메시지 직렬화기 (redis.serialization.format=smile이면 바이너리로 발행)
+     * - RedisTemplate 값 직렬화기는 카운터(HINCRBY/INCR)와 Lua 인자가 숫자 문자열이어야 하므로 JSON 유지
+     */
+    @Bean
+    public RedisSerializer<NotificationMessage> notificationSerializer() {
+        return CompactRedisSerializer.forType(NotificationMessage.class, serializationFormat);
+    }
+
     /**
      * Redis Message Listener 설정
      */
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            MessageListenerAdapter chatListenerAdapter,
+            RedisMessageListener redisMessageListener,
             NotificationSubscriber notificationSubscriber) {
 
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
-        // 채팅 메시지 리스너
-        container.addMessageListener(chatListenerAdapter, chatChannelTopic());
+        // 채팅 메시지 리스너 (원본 바이트를 그대로 전달받음)
+        container.addMessageListener(redisMessageListener, chatChannelTopic());
 
         // 알림 메시지 리스너
         container.addMessageListener(notificationSubscriber, notificationChannelTopic());
@@ -95,14 +108,6 @@ public class RedisConfig {
         return container;
     }
 
-    /**
-     * Redis 메시지 리스너 어댑터 (채팅)
-     */
-    @Bean
-    public MessageListenerAdapter chatListenerAdapter(RedisMessageListener redisMessageListener) {
-        return new MessageListenerAdapter(redisMessageListener, "onMessage");
-    }
-
     /**
      * Redis 채널 설정 (채팅)
      */
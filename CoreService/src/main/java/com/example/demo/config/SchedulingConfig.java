@@ -0,0 +1,36 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * @Scheduled 작업 활성화 (위치 데이터 정리, 채팅 카운터 보정 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Value("${product.request-events.worker-threads:2}")
+    private int productRequestEventWorkerThreads;
+
+    @Value("${product.request-events.queue-capacity:1000}")
+    private int productRequestEventQueueCapacity;
+
+    /**
+     * 상품 요청 후속 작업 실행기 (ProductRequestEventService)
+     * - 큐가 가득 차서 거절된 작업은 주기적 재처리에서 처리
+     */
+    @Bean
+    public ThreadPoolTaskExecutor productRequestEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(productRequestEventWorkerThreads);
+        executor.setMaxPoolSize(productRequestEventWorkerThreads);
+        executor.setQueueCapacity(productRequestEventQueueCapacity);
+        executor.setThreadNamePrefix("product-request-event-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -58,6 +58,8 @@ public class SecurityConfig {
                                 "/api/core/market/products/requests/approved",
                                 "/api/core/market/products/all",
                                 "/api/core/market/products/all/filter",
+                                "/api/core/market/products/feed",
+                                "/api/core/market/products/cards/feed",
                                 "/api/core/market/products/images/**",
                                 "/api/core/market/products/{id}",
                                 // WebSocket 관련 허용
@@ -77,7 +79,7 @@ public class SecurityConfig {
                                 "/api/core/market/products/requests/approval-status"
                         ).permitAll()
                         // 관리자 전용 API
-                        .requestMatchers("/api/core/profiles/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/api/core/profiles/admin/**", "/api/core/hobbies/admin/**").hasRole("ADMIN")
                         // 인증이 필요한 엔드포인트
                         .requestMatchers(
                                 "/api/core/market/products/registers",
@@ -0,0 +1,168 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 노드 메모리(L1, Caffeine) + Redis(L2) 2단계 캐시
+ * - 조회: L1 → L2 순서, L2에서 찾은 값은 L1에 적재
+ * - 저장/삭제: L2와 L1에 반영 후 다른 노드에 L1 무효화 메시지 발행
+ * - 트랜잭션 안에서 삭제하면 커밋 후 한 번 더 삭제 (커밋 전 다른 요청이 이전 값을 다시 적재하는 경우 대비)
+ * - L1 키는 문자열로 변환하여 저장 (무효화 메시지와 같은 키 사용)
+ * - L1에는 Smile로 인코딩한 값을 저장하고 조회마다 새 객체로 복원 (호출 측에서 결과 객체를 수정해도 캐시에 영향 없음)
+ * - null 값은 저장하지 않음 (@Cacheable에 unless = "#result == null" 지정)
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, byte[]> localCache;
+    private final RedisSerializer<Object> localSerializer;
+    private final Cache remoteCache;
+    private final TwoLevelCacheManager cacheManager;
+    private final Counter remoteHitCounter;
+    private final Counter remoteMissCounter;
+
+    TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, byte[]> localCache,
+                  RedisSerializer<Object> localSerializer, Cache remoteCache, TwoLevelCacheManager cacheManager,
+                  Counter remoteHitCounter, Counter remoteMissCounter) {
+        this.name = name;
+        this.localCache = localCache;
+        this.localSerializer = localSerializer;
+        this.remoteCache = remoteCache;
+        this.cacheManager = cacheManager;
+        this.remoteHitCounter = remoteHitCounter;
+        this.remoteMissCounter = remoteMissCounter;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        byte[] encoded = localCache.getIfPresent(localKey);
+        if (encoded != null) {
+            return new SimpleValueWrapper(localSerializer.deserialize(encoded));
+        }
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null) {
+            remoteMissCounter.increment();
+            return null;
+        }
+        remoteHitCounter.increment();
+        if (wrapper.get() != null) {
+            localCache.put(localKey, localSerializer.serialize(wrapper.get()));
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: cache=" + name + ", key=" + key
+                    + ", expected=" + type.getName() + ", actual=" + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        remoteCache.put(key, value);
+        String localKey = localKey(key);
+        localCache.put(localKey, localSerializer.serialize(value));
+        cacheManager.publishInvalidation(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (value == null) {
+            return get(key);
+        }
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        if (existing == null) {
+            String localKey = localKey(key);
+            localCache.put(localKey, localSerializer.serialize(value));
+            cacheManager.publishInvalidation(name, localKey);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        doEvict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(key);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        cacheManager.publishInvalidation(name, null);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 처리 (L1만 삭제)
+     */
+    void evictLocal(String localKey) {
+        if (localKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(localKey);
+        }
+    }
+
+    private void doEvict(Object key) {
+        remoteCache.evict(key);
+        String localKey = localKey(key);
+        localCache.invalidate(localKey);
+        cacheManager.publishInvalidation(name, localKey);
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단계 캐시 매니저
+ * - 캐시는 처음 사용할 때 생성, L2는 RedisCacheManager의 캐시 설정(TTL 등)을 그대로 사용
+ * - 저장/삭제 시 cache:invalidate 채널로 "{nodeId}\n{cacheName}\n{key}" 발행 (key가 없으면 전체 삭제)
+ * - 지표: cache.gets / cache.puts / cache.evictions 등 (tier=l1, Caffeine 통계), cache.gets (tier=l2, result=hit|miss)
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractCacheManager implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    private static final byte[] RAW_INVALIDATION_CHANNEL = INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisCacheManager redisCacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long localMaximumSize;
+    private final Duration localExpireAfterWrite;
+
+    // 이 노드의 ID (자신이 발행한 무효화 메시지는 무시)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    // L1 값 인코딩 (Smile)
+    private final RedisSerializer<Object> localSerializer = CompactRedisSerializer.generic(CompactRedisSerializer.FORMAT_SMILE);
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager, RedisTemplate<String, Object> redisTemplate,
+                                MeterRegistry meterRegistry, long localMaximumSize, Duration localExpireAfterWrite) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localMaximumSize = localMaximumSize;
+        this.localExpireAfterWrite = localExpireAfterWrite;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache remoteCache = redisCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, byte[]> localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localExpireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name, Tags.of("tier", "l1"));
+
+        TwoLevelCache cache = new TwoLevelCache(name, localCache, localSerializer, remoteCache, this,
+                remoteGetCounter(name, "hit"), remoteGetCounter(name, "miss"));
+        twoLevelCaches.put(name, cache);
+        log.info("2단계 캐시 생성: name={}, L1 최대 {}건, L1 만료 {}", name, localMaximumSize, localExpireAfterWrite);
+        return cache;
+    }
+
+    /**
+     * 다른 노드에 L1 무효화 요청 (실패해도 L1 만료 시간 후에는 반영됨)
+     */
+    void publishInvalidation(String cacheName, String localKey) {
+        String body = localKey == null
+                ? nodeId + "\n" + cacheName
+                : nodeId + "\n" + cacheName + "\n" + localKey;
+        byte[] rawBody = body.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.publish(RAW_INVALIDATION_CHANNEL, rawBody));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패: cache={}, key={}, error={}", cacheName, localKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = twoLevelCaches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(parts.length == 3 ? parts[2] : null);
+        }
+    }
+
+    private Counter remoteGetCounter(String cacheName, String result) {
+        return Counter.builder("cache.gets")
+                .description("L2(Redis) 캐시 조회 결과")
+                .tags("cache", cacheName, "tier", "l2", "result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.demo.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
@@ -30,10 +33,54 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final WebSocketOutboundMetrics outboundMetrics;
     private static final Logger log = LoggerFactory.getLogger(WebSocketConfig.class);
 
-    public WebSocketConfig(JwtTokenProvider jwtTokenProvider) {
+    // 아웃바운드(서버 -> 클라이언트) 전송 설정
+    @Value("${websocket.outbound.core-pool-size:4}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:10}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:25}")
+    private int outboundQueueCapacity;
+
+    // 큐가 가득 찼을 때 처리 방식: caller-runs, discard, discard-oldest, abort
+    @Value("${websocket.outbound.rejection-policy:caller-runs}")
+    private String outboundRejectionPolicy;
+
+    // 세션 단위 메시지 순서 보장
+    @Value("${websocket.outbound.preserve-order:true}")
+    private boolean preservePublishOrder;
+
+    // 느린 클라이언트 판정: 전송 시간 또는 세션 버퍼가 한도를 넘으면 세션 종료
+    @Value("${websocket.outbound.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.outbound.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    public WebSocketConfig(JwtTokenProvider jwtTokenProvider, WebSocketOutboundMetrics outboundMetrics) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.outboundMetrics = outboundMetrics;
+    }
+
+    /**
+     * 아웃바운드 채널 실행기 (설정값 기반, 큐 깊이/스레드 Gauge 등록)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor clientOutboundExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(outboundCorePoolSize);
+        executor.setMaxPoolSize(outboundMaxPoolSize);
+        executor.setQueueCapacity(outboundQueueCapacity);
+        executor.setThreadNamePrefix("websocket-outbound-");
+        executor.setRejectedExecutionHandler(outboundMetrics.countRejections(
+                WebSocketOutboundMetrics.rejectionPolicy(outboundRejectionPolicy)));
+        executor.initialize();
+        outboundMetrics.bindExecutor(executor);
+        return executor;
     }
 
     @Bean
@@ -55,12 +102,17 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 클라이언트에서 구독할 주제 경로 설정
+        // SimpleBroker는 노드 내 전달만 담당, 노드 간 전달은 websocket.broker.mode에 따라
+        // Redis 전체 발행(broadcast) 또는 ClusterMessageRouter(routed)가 처리
         registry.enableSimpleBroker(
             "/topic"     // 일반 토픽만 사용
         )
         .setTaskScheduler(messageBrokerTaskScheduler())
         .setHeartbeatValue(new long[] {10000, 10000});
         
+        // 같은 세션으로 가는 메시지는 발행 순서대로 전송 (세션별 순차 전송, 다른 세션은 병렬)
+        registry.setPreservePublishOrder(preservePublishOrder);
+        
         // 클라이언트에서 서버로 메시지를 전송할 때 사용할 접두사
         registry.setApplicationDestinationPrefixes("/app");
     }
@@ -110,10 +162,15 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientOutboundChannel(ChannelRegistration registration) {
         // 아웃바운드 채널 설정 (서버 -> 클라이언트)
-        registration.taskExecutor()
-                .corePoolSize(4)
-                .maxPoolSize(10)
-                .queueCapacity(25);
+        registration.taskExecutor(clientOutboundExecutor());
+        registration.interceptors(outboundMetrics);
+    }
+    
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 느린 클라이언트 감지: 한도를 넘으면 해당 세션만 종료하여 다른 세션 전송이 막히지 않도록 함
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit);
     }
     
     @Bean
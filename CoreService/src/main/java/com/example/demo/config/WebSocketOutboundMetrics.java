@@ -0,0 +1,116 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 아웃바운드 채널(서버 -> 클라이언트) 계측
+ * - websocket.outbound.queue.size / active / pool.size: 아웃바운드 실행기 큐 깊이와 스레드 현황 (Gauge)
+ * - websocket.outbound.send: 세션으로 메시지 1건을 전송하는 데 걸린 시간 (Timer)
+ * - websocket.outbound.rejected: 큐가 가득 차 거부/폐기된 메시지 수 (Counter)
+ * - 전송 시간이 임계값을 넘으면 세션 ID와 함께 경고 로그 (세션 ID를 태그로 쓰면 지표 수가 폭증하므로 로그로 남김)
+ */
+@Component
+@Slf4j
+public class WebSocketOutboundMetrics implements ExecutorChannelInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer sendTimer;
+    private final Counter rejectedCounter;
+    private final ThreadLocal<Long> sendStartTime = new ThreadLocal<>();
+
+    @Value("${websocket.outbound.slow-send-warn-ms:1000}")
+    private long slowSendWarnMs;
+
+    public WebSocketOutboundMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.sendTimer = Timer.builder("websocket.outbound.send")
+                .description("STOMP 아웃바운드 메시지 세션 전송 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("websocket.outbound.rejected")
+                .description("아웃바운드 큐 포화로 거부된 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 아웃바운드 실행기의 큐 깊이와 스레드 현황을 Gauge로 등록
+     */
+    public void bindExecutor(ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.outbound.queue.size", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("아웃바운드 대기 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("전송 중인 아웃바운드 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("아웃바운드 스레드 풀 크기")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 거부 정책에 거부 건수 계측을 덧붙임
+     */
+    public RejectedExecutionHandler countRejections(RejectedExecutionHandler delegate) {
+        return (task, executor) -> {
+            rejectedCounter.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        sendStartTime.set(System.nanoTime());
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Long start = sendStartTime.get();
+        if (start == null) {
+            return;
+        }
+        sendStartTime.remove();
+        long elapsedNanos = System.nanoTime() - start;
+        sendTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs >= slowSendWarnMs) {
+            log.warn("WebSocket 전송 지연: sessionId={}, destination={}, {}ms",
+                    SimpMessageHeaderAccessor.getSessionId(message.getHeaders()),
+                    SimpMessageHeaderAccessor.getDestination(message.getHeaders()), elapsedMs);
+        }
+    }
+
+    /**
+     * 설정값으로 거부 정책 생성 (caller-runs: 발행 스레드에서 직접 전송, discard: 새 메시지 폐기, abort: 예외 발생)
+     */
+    public static RejectedExecutionHandler rejectionPolicy(String policy) {
+        switch (policy.toLowerCase()) {
+            case "discard":
+                return new ThreadPoolExecutor.DiscardPolicy();
+            case "discard-oldest":
+                return new ThreadPoolExecutor.DiscardOldestPolicy();
+            case "abort":
+                return new ThreadPoolExecutor.AbortPolicy();
+            default:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+    }
+}
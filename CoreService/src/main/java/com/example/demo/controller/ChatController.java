@@ -4,11 +4,12 @@ import com.example.demo.dto.chat.ChatRoomRequest;
 import com.example.demo.dto.chat.ChatRoomResponse;
 import com.example.demo.util.BaseResponse;
 import com.example.demo.mapper.ChatRoomMapper;
-import com.example.demo.mapper.Market.ProductMapper;
 import com.example.demo.mapper.Market.ProductRequestMapper;
 import com.example.demo.model.chat.ChatRoom;
 import com.example.demo.service.ChatService;
 import com.example.demo.service.NotificationService;
+import com.example.demo.service.Market.ParticipantSlotService;
+import com.example.demo.service.Market.ProductRequestEventService;
 import com.example.demo.util.TokenUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,9 +33,10 @@ public class ChatController {
     private final ChatService chatService;
     private final TokenUtils tokenUtils;
     private final ChatRoomMapper chatRoomMapper;
-    private final ProductMapper productMapper;
     private final ProductRequestMapper productRequestMapper;
     private final NotificationService notificationService;
+    private final ParticipantSlotService participantSlotService;
+    private final ProductRequestEventService productRequestEventService;
 
     @Operation(
             summary = "채팅방 생성/조회",
@@ -255,18 +257,18 @@ public class ChatController {
                 return ResponseEntity.status(404).body(BaseResponse.error("해당 요청을 찾을 수 없습니다.", "404"));
             }
             
-            // 요청 승인 처리
-            productMapper.updateRequestApprovalStatus(requestId, "승인");
-            
-            // 현재 모집 인원 증가
-            productMapper.increaseCurrentParticipants(productId);
-            
-            // 모집 인원 충족 시 모집 마감 처리
-            productMapper.updateProductVisibility(productId);
+            // 요청 승인 + 참여 자리 예약 (모집 인원 충족 시 모집 마감)
+            ParticipantSlotService.Result result = participantSlotService.approve(productId, requestId);
+            if (result == ParticipantSlotService.Result.ALREADY_PROCESSED) {
+                return ResponseEntity.ok(BaseResponse.success("이미 처리된 요청입니다."));
+            }
+            if (result == ParticipantSlotService.Result.FULL) {
+                return ResponseEntity.status(400).body(BaseResponse.error("최대 참여 인원을 초과할 수 없습니다.", "400"));
+            }
 
             // 알림 추가
             String message = String.format("\"%s\" 상품에 대한 함께하기 요청이 승인되었습니다!", productId);
-            notificationService.sendNotification(requesterEmail, message, "CHAT_MESSAGE", chatroomId, productId);
+            productRequestEventService.enqueueNotification(requesterEmail, message, "CHAT_MESSAGE", chatroomId, productId);
             
             return ResponseEntity.ok(BaseResponse.success("요청이 승인되었습니다."));
         } catch (Exception e) {
@@ -285,6 +287,11 @@ public class ChatController {
                     description = "채팅방 ID 조회 성공",
                     content = @Content(schema = @Schema(implementation = BaseResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "채팅방 생성 중 (요청 직후, 잠시 후 다시 조회)",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "채팅방 ID 조회 실패 (채팅방이 없음 등)",
@@ -317,6 +324,17 @@ public class ChatController {
         try {
             // 상품 ID와 사용자 이메일로 채팅방 조회
             ChatRoom chatRoom = chatRoomMapper.findChatRoomByProductIdAndEmail(productId, email);
+
+            // 상품 요청 직후라 채팅방 생성 이벤트가 아직 처리되지 않은 경우 바로 처리 후 다시 조회
+            if (chatRoom == null) {
+                boolean pending = productRequestEventService.processPendingChatRoom(productId, email);
+                chatRoom = chatRoomMapper.findChatRoomByProductIdAndEmail(productId, email);
+
+                // 다른 곳에서 처리 중이면 기다리지 않고 처리 중으로 응답 (클라이언트가 다시 조회)
+                if (chatRoom == null && pending) {
+                    return ResponseEntity.status(202).body(BaseResponse.error("채팅방을 생성하고 있습니다. 잠시 후 다시 시도해주세요.", "202"));
+                }
+            }
             
             if (chatRoom == null) {
                 return ResponseEntity.status(404).body(BaseResponse.error("채팅방을 찾을 수 없습니다.", "404"));
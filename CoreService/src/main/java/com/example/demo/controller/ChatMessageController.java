@@ -76,7 +76,7 @@ public class ChatMessageController {
             );
 
             // UserMapper를 직접 사용하여 사용자 정보 조회
-            User sender = userMapper.findByEmail(senderEmail);
+            User sender = userMapper.findProfileByEmail(senderEmail);
             String senderNickname = sender != null ? sender.getNickname() : "알 수 없음";
 
             // 알림 메시지 구성
@@ -214,6 +214,58 @@ public class ChatMessageController {
         return ResponseEntity.ok(BaseResponse.success(response));
     }
     
+    @Operation(
+            summary = "채팅방 메시지 커서 조회 (이전 메시지 스크롤)",
+            description = "before 메시지 ID 이전의 메시지를 size개 조회합니다. before를 생략하면 가장 최근 메시지부터 조회합니다. " +
+                    "응답의 nextCursor를 다음 요청의 before로 사용합니다. 총 메시지 수는 includeTotalCount=true일 때만 포함됩니다. JWT 토큰이 필요합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "메시지 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "메시지 목록 조회 실패 (채팅방이 없음, 권한 없음 등)",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패 (유효하지 않은 토큰)",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    @GetMapping("/rooms/{chatroomId}/messages/cursor")
+    public ResponseEntity<BaseResponse<?>> getChatMessagesBefore(
+            @Parameter(description = "JWT 토큰 (Bearer {token} 형식)", required = true)
+            @RequestHeader("Authorization") String token,
+            @Parameter(description = "채팅방 ID", required = true, example = "1")
+            @PathVariable Integer chatroomId,
+            @Parameter(description = "이 메시지 ID 이전의 메시지를 조회 (선택사항)", example = "120")
+            @RequestParam(required = false) Integer before,
+            @Parameter(description = "조회할 메시지 수 (선택사항, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "총 메시지 수 포함 여부 (선택사항)", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeTotalCount) {
+        
+        String tokenWithoutBearer = tokenUtils.extractTokenWithoutBearer(token);
+        
+        if (!tokenUtils.isTokenValid(tokenWithoutBearer)) {
+            return ResponseEntity.status(401).body(BaseResponse.error("인증되지 않은 요청입니다.", "401"));
+        }
+        
+        String email = tokenUtils.getEmailFromToken(tokenWithoutBearer);
+        ChatMessagesResponse response = chatMessageService.getChatMessagesBefore(
+                chatroomId, email, before, size, includeTotalCount);
+        
+        if (!response.isSuccess()) {
+            return ResponseEntity.badRequest().body(BaseResponse.error(response.getMessage(), "400"));
+        }
+        
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+    
     @Operation(
             summary = "메시지 읽음 상태 업데이트",
             description = "채팅방의 모든 메시지를 읽음 상태로 표시합니다. JWT 토큰이 필요합니다."
@@ -5,6 +5,7 @@ import com.example.demo.dto.hobby.HobbyRequest;
 import com.example.demo.model.Category;
 import com.example.demo.model.Hobby;
 import com.example.demo.model.UserHobby;
+import com.example.demo.service.HobbyCatalog;
 import com.example.demo.service.HobbyService;
 import com.example.demo.util.TokenUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -189,4 +190,25 @@ public class HobbyController {
             return ResponseEntity.badRequest().body(BaseResponse.error(errorData, "400"));
         }
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "취미/카테고리 카탈로그 다시 읽기 (관리자)",
+            description = "취미/카테고리 데이터를 변경한 뒤 이 서버의 메모리 카탈로그를 즉시 갱신합니다. 다른 서버는 주기적 갱신으로 반영됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "카탈로그 갱신 성공",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    @PostMapping("/admin/catalog/reload")
+    public ResponseEntity<BaseResponse<Map<String, Object>>> reloadCatalog() {
+        HobbyCatalog catalog = hobbyService.reloadCatalog();
+
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("hobbyCount", catalog.getHobbies().size());
+        responseData.put("categoryCount", catalog.getCategories().size());
+        return ResponseEntity.ok(BaseResponse.success(responseData));
+    }
+}
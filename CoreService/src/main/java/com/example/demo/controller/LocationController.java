@@ -71,7 +71,7 @@ public class LocationController {
                 "/topic/location." + location.getChatroomId(),
                 location
             );
-            User sender = userMapper.findByEmail(senderEmail);
+            User sender = userMapper.findProfileByEmail(senderEmail);
             String sendNickname = sender.getNickname();
 
             // 알림 추가 (Redis를 통한 알림)
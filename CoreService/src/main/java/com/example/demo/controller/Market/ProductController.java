@@ -1,11 +1,15 @@
 package com.example.demo.controller.Market;
 
+import com.example.demo.dto.Market.ProductCardFeedResponse;
+import com.example.demo.dto.Market.ProductCardResponse;
+import com.example.demo.dto.Market.ProductFeedResponse;
 import com.example.demo.dto.Market.ProductRequest;
 import com.example.demo.dto.Market.ProductRequestDto;
 import com.example.demo.dto.Market.ProductResponse;
 import com.example.demo.dto.Market.NearbyProductRequest;
 
 import com.example.demo.model.Market.ProductImage;
+import com.example.demo.service.Market.ProductCardService;
 import com.example.demo.service.Market.ProductService;
 import com.example.demo.mapper.Market.ProductImageMapper;
 import com.example.demo.util.BaseResponse;
@@ -42,6 +46,7 @@ import org.slf4j.LoggerFactory;
 @Tag(name = "상품", description = "마켓플레이스 상품 관련 API (상품 등록, 조회, 수정, 삭제 등)")
 public class ProductController {
     private final ProductService productService;
+    private final ProductCardService productCardService;
     private final JwtTokenProvider jwtTokenProvider;
     private final ProductImageMapper productImageMapper;
     private static final Logger log = LoggerFactory.getLogger(ProductController.class);
@@ -125,7 +130,7 @@ public class ProductController {
         return productService.getApprovedRequests(productId);
     }
 
-    /** 정렬이 안된 모든 상품 조회 - 모집 중인 상품만 조회 **/
+    /** 정렬이 안된 모든 상품 조회 - 모집 중인 상품만 조회 (전체 목록을 한 번에 반환, 새 화면은 /feed 사용) **/
     @GetMapping("/all")
     public ResponseEntity<BaseResponse<List<ProductResponse>>> getAllProducts(
             @RequestHeader(value = "Authorization", required = false) String token) {  // 토큰 선택적 처리
@@ -134,6 +139,54 @@ public class ProductController {
         return productService.getAllProducts(email);
     }
 
+    @Operation(
+            summary = "상품 피드 조회 (커서 기반)",
+            description = "모집 중인 상품을 최신순(ID 역순)으로 페이지 단위 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. 로그인한 사용자는 본인이 등록한 마감 상품도 포함됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "상품 피드 조회 성공",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<BaseResponse<ProductFeedResponse>> getProductFeed(
+            @Parameter(description = "JWT 토큰 (Bearer {token} 형식, 선택사항)")
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @Parameter(description = "이 상품 ID 이전의 상품을 조회 (선택사항)", example = "120")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "조회할 상품 수 (선택사항, 최대 50)", example = "20")
+            @RequestParam(required = false) Integer size) {
+
+        String email = (token != null) ? jwtTokenProvider.getUsername(token) : null;
+        return ResponseEntity.ok(BaseResponse.success(productService.getProductFeed(email, cursor, size)));
+    }
+
+    @Operation(
+            summary = "상품 카드 피드 조회 (커서 기반)",
+            description = "/feed와 같은 상품을 목록용 카드(제목, 가격, 대표 이미지, 참여 인원, 등록자 닉네임/도파민)로 조회합니다. 설명, 이미지 목록, 위치 정보는 포함하지 않습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "상품 카드 피드 조회 성공",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    @GetMapping("/cards/feed")
+    public ResponseEntity<BaseResponse<ProductCardFeedResponse>> getProductCardFeed(
+            @Parameter(description = "JWT 토큰 (Bearer {token} 형식, 선택사항)")
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @Parameter(description = "이 상품 ID 이전의 상품을 조회 (선택사항)", example = "120")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "조회할 상품 수 (선택사항, 최대 50)", example = "20")
+            @RequestParam(required = false) Integer size) {
+
+        String email = (token != null) ? jwtTokenProvider.getUsername(token) : null;
+        return ResponseEntity.ok(BaseResponse.success(productCardService.getCardFeed(email, cursor, size)));
+    }
+
     /** 카테고리별 필터 + 가격순/최신순 정렬 - 모집 중인 상품만 조회 **/
     @PostMapping("/all/filter") // GET -> POST 변경 (JSON 데이터를 받기 위함)
     public ResponseEntity<BaseResponse<List<ProductResponse>>> getProducts(
@@ -216,6 +269,25 @@ public class ProductController {
         return productService.getMyRequestedSellProducts(email);  // 추가적인 감싸기 제거
     }
 
+    /** 특정 사용자가 등록한 상품 카드 조회 (/users와 같은 조건, 목록용 카드) **/
+    @PostMapping("/users/cards")
+    public ResponseEntity<BaseResponse<List<ProductCardResponse>>> getUserProductCards(
+            @RequestHeader("Authorization") String token,
+            @RequestBody Map<String, List<String>> requestBody) {
+
+        String email = jwtTokenProvider.getUsername(token);
+        return ResponseEntity.ok(BaseResponse.success(productCardService.getUserCards(email, requestBody.get("types"))));
+    }
+
+    /** 내가 요청한 상품 카드 조회 (/users/requests/buy와 같은 조건, 목록용 카드) **/
+    @GetMapping("/users/requests/cards")
+    public ResponseEntity<BaseResponse<List<ProductCardResponse>>> getRequestedProductCards(
+            @RequestHeader("Authorization") String token) {
+
+        String email = jwtTokenProvider.getUsername(token);
+        return ResponseEntity.ok(BaseResponse.success(productCardService.getRequestedCards(email)));
+    }
+
     /** 상품 이미지 직접 반환 (엔드포인트 제공) **/
     @GetMapping("/images/{imageId}")
     public ResponseEntity<Resource> getProductImage(@PathVariable Long imageId) throws IOException {
@@ -1,6 +1,7 @@
 package com.example.demo.controller.board;
 
 import com.example.demo.dto.board.CommentCreateRequest;
+import com.example.demo.dto.board.CommentFeedResponse;
 import com.example.demo.dto.board.CommentResponse;
 import com.example.demo.dto.board.CommentUpdateRequest;
 import com.example.demo.service.CommentService;
@@ -279,6 +280,56 @@ public class CommentController {
         }
     }
 
+    @Operation(
+            summary = "게시글의 댓글 목록 조회 (커서 기반)",
+            description = "게시글의 최상위 댓글을 최신순(ID 역순)으로 페이지 단위 조회하며, 각 댓글의 대댓글을 함께 반환합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. JWT 토큰이 필요합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "댓글 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "댓글 목록 조회 실패 (게시글이 없음 등)",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패 (유효하지 않은 토큰)",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    @GetMapping("/posts/{postId}/comments/feed")
+    public ResponseEntity<BaseResponse<?>> getCommentFeed(
+            @Parameter(description = "JWT 토큰 (Bearer {token} 형식)", required = true)
+            @RequestHeader("Authorization") String token,
+            @Parameter(description = "게시글 ID", required = true, example = "1")
+            @PathVariable Long postId,
+            @Parameter(description = "이 댓글 ID 이전의 최상위 댓글을 조회 (선택사항)", example = "120")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "조회할 최상위 댓글 수 (선택사항, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size) {
+        
+        String email = tokenUtils.getEmailFromAuthHeader(token);
+        
+        if (email == null) {
+            return ResponseEntity.status(401).body(BaseResponse.error("인증되지 않은 요청입니다.", "401"));
+        }
+        
+        try {
+            CommentFeedResponse response = commentService.getCommentFeed(email, postId, cursor, size);
+            return ResponseEntity.ok(BaseResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            log.warn("댓글 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(BaseResponse.error(e.getMessage(), "400"));
+        } catch (Exception e) {
+            log.error("댓글 목록 조회 중 오류: {}", e.getMessage());
+            return ResponseEntity.status(500).body(BaseResponse.error("서버 오류가 발생했습니다.", "500"));
+        }
+    }
+
     @Operation(
             summary = "대댓글 목록 조회",
             description = "댓글에 작성된 모든 대댓글 목록을 조회합니다. JWT 토큰이 필요합니다."
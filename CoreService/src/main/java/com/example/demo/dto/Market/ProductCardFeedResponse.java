@@ -0,0 +1,20 @@
+package com.example.demo.dto.Market;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCardFeedResponse {
+    private List<ProductCardResponse> cards;
+
+    // 커서 기반 조회용
+    private boolean hasMore;      // 다음 페이지 존재 여부
+    private Long nextCursor;      // 다음 요청의 cursor 값 (현재 페이지의 마지막 상품 ID)
+}
@@ -0,0 +1,37 @@
+package com.example.demo.dto.Market;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록용 카드 (목록 화면에 필요한 항목만 포함, 설명/이미지 목록/위치 정보 제외)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductCardResponse {
+    private Long id;
+    private String title;
+    private int price;
+    private String transactionType;
+    private String registrationType;
+    private int maxParticipants;
+    private int currentParticipants;
+    private boolean isVisible;
+    private LocalDateTime createdAt;
+
+    // 대표 이미지 (첫 번째 이미지)
+    private String thumbnailPath;
+
+    // 등록자 정보
+    private String nickname;
+    private int dopamine;
+
+    // 조회 시 대표 이미지 ID (thumbnailPath로 변환 후 캐시에는 저장하지 않음)
+    @JsonIgnore
+    private Long thumbnailImageId;
+}
@@ -0,0 +1,20 @@
+package com.example.demo.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentFeedResponse {
+    private List<CommentResponse> comments; // 최상위 댓글 목록 (대댓글은 replies에 포함)
+
+    // 커서 기반 조회용
+    private boolean hasMore;      // 다음 페이지 존재 여부
+    private Long nextCursor;      // 다음 요청의 cursor 값 (현재 페이지의 마지막 최상위 댓글 ID)
+}
@@ -29,4 +29,6 @@ public class PostResponse {
     private int commentCount;
     private List<String> imageUrls;
     private boolean isAuthor; // 현재 사용자가 작성자인지 여부
+    private String highlightedTitle; // 검색 결과: 검색어를 <em>으로 감싼 제목 (HTML 이스케이프됨)
+    private String contentSnippet; // 검색 결과: 검색어 주변 본문 발췌 (HTML 이스케이프됨)
 }
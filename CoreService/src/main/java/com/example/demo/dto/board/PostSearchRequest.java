@@ -17,7 +17,7 @@ public class PostSearchRequest {
     private String searchField;              // 검색 필드 (title, content, author)
     private LocalDateTime startDate;         // 검색 시작 날짜
     private LocalDateTime endDate;           // 검색 종료 날짜
-    private String sortBy;                   // 정렬 기준 (createdAt, viewCount, likeCount, commentCount)
+    private String sortBy;                   // 정렬 기준 (createdAt, viewCount, likeCount, commentCount, relevance)
     private String sortDirection;            // 정렬 방향 (ASC, DESC)
     private Integer page;                    // 페이지 번호 (0부터 시작)
     private Integer size;                    // 페이지 크기
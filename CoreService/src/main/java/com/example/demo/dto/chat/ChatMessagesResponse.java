@@ -19,4 +19,8 @@ public class ChatMessagesResponse {
     private Integer totalCount;
     private Integer totalPages;
     private Integer currentPage;
+    
+    // 커서 기반 조회용
+    private Boolean hasMore;          // 더 이전 메시지 존재 여부
+    private Integer nextCursor;       // 다음 요청의 before 값 (현재 페이지의 가장 오래된 메시지 ID)
 }
@@ -1,35 +1,81 @@
 package com.example.demo.listener;
 
-import com.example.demo.model.chat.ChatMessage;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class RedisMessageListener {
+public class RedisMessageListener implements MessageListener {
 
     private final ObjectMapper objectMapper;
     private final SimpMessagingTemplate messagingTemplate;
-    
+
     /**
      * Redis 채널에서 메시지를 수신하여 WebSocket으로 전달
+     * - 발행 측(ChatMessageService)에서 STOMP 전송 형식 그대로 인코딩한 JSON을 받아 재직렬화 없이 전달
+     * - 목적지 결정에 필요한 chatroomId만 스트리밍 파서로 추출
      */
-    public void onMessage(String message) {
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        byte[] body = message.getBody();
         try {
-            // 메시지 역직렬화
-            ChatMessage chatMessage = objectMapper.readValue(message, ChatMessage.class);
-            
+            Integer chatroomId = extractChatroomId(body);
+            if (chatroomId == null) {
+                log.warn("chatroomId가 없는 채팅 메시지 수신, 무시합니다.");
+                return;
+            }
+
             // 채팅방 ID를 통해 WebSocket 주제로 메시지 발행
-            String destination = "/topic/chat." + chatMessage.getChatroomId();
-            messagingTemplate.convertAndSend(destination, chatMessage);
-            
-            log.info("Redis -> WebSocket 메시지 발행 성공: {} -> {}", chatMessage.getSenderEmail(), destination);
+            String destination = "/topic/chat." + chatroomId;
+            forward(destination, body);
+
+            log.debug("Redis -> WebSocket 메시지 발행 성공: {}", destination);
         } catch (Exception e) {
             log.error("Redis 메시지 수신 처리 중 오류 발생: {}", e.getMessage());
         }
     }
+
+    /**
+     * 인코딩된 JSON 페이로드를 변환 없이 STOMP 목적지로 전달
+     */
+    private void forward(String destination, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
+
+    /**
+     * 최상위 chatroomId 필드만 읽고 나머지는 건너뜀 (객체 생성 없이 토큰 단위로 탐색)
+     */
+    private Integer extractChatroomId(byte[] json) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("chatroomId".equals(field)) {
+                    return value == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : null;
+                }
+                parser.skipChildren();
+            }
+        }
+        return null;
+    }
 }
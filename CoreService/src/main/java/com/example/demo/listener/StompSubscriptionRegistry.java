@@ -0,0 +1,230 @@
+package com.example.demo.listener;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드별 STOMP 구독 현황을 Redis에 등록하는 레지스트리 (websocket.broker.mode=routed 일 때만 동작)
+ * - 키: ws:subscribers:{destination}, 값: 해당 목적지 구독자가 있는 노드 ID 집합
+ * - 노드 내 구독 수가 0 → 1이 될 때 노드 ID 추가, 1 → 0이 될 때 제거
+ * - 채팅방(/topic/chat.{id})과 사용자 알림(/topic/user/{email}) 목적지만 관리
+ * - Redis 재시작 등으로 구독 정보가 유실되어도 복구되도록 주기적으로 이 노드의 목적지를 다시 등록
+ * - 노드 생존 키(ws:node:alive:{nodeId})를 주기적으로 갱신하고, 생존 키가 만료된 노드는 목적지에서 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompSubscriptionRegistry {
+
+    private static final String KEY_PREFIX = "ws:subscribers:";
+    private static final String NODE_ALIVE_PREFIX = "ws:node:alive:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 이 노드(서버 인스턴스)의 ID - 실행마다 새로 발급
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 목적지별 이 노드의 구독 수
+    private final Map<String, Integer> localSubscriptionCounts = new ConcurrentHashMap<>();
+
+    // 세션별 구독 ID -> 목적지 (UNSUBSCRIBE, DISCONNECT 시 목적지를 찾기 위함)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    @Value("${websocket.broker.mode:broadcast}")
+    private String brokerMode;
+
+    // 구독 정보 재등록 및 노드 생존 키 갱신 주기 (생존 키와 구독 정보는 이 주기의 3배 동안 유지)
+    @Value("${websocket.broker.registry-refresh-interval-ms:30000}")
+    private long refreshIntervalMs;
+
+    public boolean isEnabled() {
+        return "routed".equalsIgnoreCase(brokerMode);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 이 노드에 해당 목적지 구독자가 있는지 확인
+     */
+    public boolean hasLocalSubscribers(String destination) {
+        return localSubscriptionCounts.getOrDefault(destination, 0) > 0;
+    }
+
+    /**
+     * 해당 목적지 구독자를 가진 노드 ID 목록 조회
+     */
+    public Set<Object> findSubscribedNodes(String destination) {
+        return redisTemplate.opsForSet().members(KEY_PREFIX + destination);
+    }
+
+    /**
+     * 더 이상 응답하지 않는 노드를 목적지에서 제거
+     */
+    public void removeNode(String destination, String staleNodeId) {
+        redisTemplate.opsForSet().remove(KEY_PREFIX + destination, staleNodeId);
+        log.info("응답 없는 노드 구독 정보 제거: destination={}, nodeId={}", destination, staleNodeId);
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (accessor.getSessionId() == null || !isRoutedDestination(destination)) {
+            return;
+        }
+        sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), destination);
+        increase(destination);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        String destination = subscriptions.remove(accessor.getSubscriptionId());
+        if (destination != null) {
+            decrease(destination);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        // DISCONNECT 이벤트는 중복 발생할 수 있으므로 세션 정보를 먼저 제거
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrease);
+        }
+    }
+
+    /**
+     * 노드 생존 키 갱신 및 이 노드의 구독 목적지 재등록 (기본 30초 간격)
+     * - 생존 키가 없는 노드는 목적지에서 제거
+     */
+    @Scheduled(fixedDelayString = "${websocket.broker.registry-refresh-interval-ms:30000}")
+    public void refresh() {
+        if (!isEnabled()) {
+            return;
+        }
+        Duration ttl = Duration.ofMillis(refreshIntervalMs * 3);
+        try {
+            redisTemplate.opsForValue().set(NODE_ALIVE_PREFIX + nodeId, 1, ttl);
+            Map<String, Boolean> aliveNodes = new HashMap<>();
+            aliveNodes.put(nodeId, true);
+            for (String destination : localSubscriptionCounts.keySet()) {
+                String key = KEY_PREFIX + destination;
+                redisTemplate.opsForSet().add(key, nodeId);
+                redisTemplate.expire(key, ttl);
+                pruneStaleNodes(destination, aliveNodes);
+            }
+        } catch (Exception e) {
+            log.warn("노드 구독 정보 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void unregisterAll() {
+        if (!isEnabled()) {
+            return;
+        }
+        localSubscriptionCounts.keySet().forEach(destination -> {
+            try {
+                redisTemplate.opsForSet().remove(KEY_PREFIX + destination, nodeId);
+            } catch (Exception e) {
+                log.warn("노드 구독 정보 제거 실패: destination={}, error={}", destination, e.getMessage());
+            }
+        });
+        localSubscriptionCounts.clear();
+        try {
+            redisTemplate.delete(NODE_ALIVE_PREFIX + nodeId);
+        } catch (Exception e) {
+            log.warn("노드 생존 키 제거 실패: {}", e.getMessage());
+        }
+    }
+
+    private void pruneStaleNodes(String destination, Map<String, Boolean> aliveNodes) {
+        Set<Object> members = findSubscribedNodes(destination);
+        if (members == null) {
+            return;
+        }
+        for (Object member : members) {
+            String memberId = String.valueOf(member);
+            boolean alive = aliveNodes.computeIfAbsent(memberId,
+                    id -> Boolean.TRUE.equals(redisTemplate.hasKey(NODE_ALIVE_PREFIX + id)));
+            if (!alive) {
+                removeNode(destination, memberId);
+            }
+        }
+    }
+
+    // Redis 호출은 compute 밖에서 수행 (compute 중에는 같은 버킷의 다른 목적지 갱신이 대기함)
+    private void increase(String destination) {
+        Integer count = localSubscriptionCounts.merge(destination, 1, Integer::sum);
+        if (count == 1) {
+            register(destination);
+        }
+    }
+
+    private void decrease(String destination) {
+        Integer count = localSubscriptionCounts.computeIfPresent(destination, (key, current) ->
+                current <= 1 ? null : current - 1);
+        if (count == null) {
+            unregister(destination);
+        }
+    }
+
+    private void register(String destination) {
+        try {
+            redisTemplate.opsForSet().add(KEY_PREFIX + destination, nodeId);
+        } catch (Exception e) {
+            log.warn("노드 구독 정보 등록 실패, 다음 갱신 시 재등록: destination={}, error={}", destination, e.getMessage());
+        }
+    }
+
+    private void unregister(String destination) {
+        try {
+            redisTemplate.opsForSet().remove(KEY_PREFIX + destination, nodeId);
+            // 제거하는 사이 다시 구독된 경우 등록 상태로 되돌림
+            if (hasLocalSubscribers(destination)) {
+                register(destination);
+            }
+        } catch (Exception e) {
+            log.warn("노드 구독 정보 제거 실패: destination={}, error={}", destination, e.getMessage());
+        }
+    }
+
+    private boolean isRoutedDestination(String destination) {
+        return destination != null
+                && (destination.startsWith("/topic/chat.") || destination.startsWith("/topic/user/"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.mapper;
 
 import com.example.demo.model.chat.ChatMessage;
+import com.example.demo.model.chat.ChatRoom;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.springframework.stereotype.Repository;
@@ -14,6 +15,15 @@ public interface ChatMessageMapper {
     // 메시지 저장
     void saveChatMessage(ChatMessage message);
     
+    // 메시지 일괄 저장 (메시지 ID 지정, 지연 저장 모드)
+    int saveChatMessagesWithId(@Param("messages") List<ChatMessage> messages);
+    
+    // 저장된 메시지의 채팅방/발신자/전송 시간 조회 (메시지 ID 충돌 확인용)
+    List<ChatMessage> findStoredMessagesByIds(@Param("messageIds") List<Integer> messageIds);
+    
+    // 메시지 최대 ID 조회
+    Integer findMaxMessageId();
+    
     // 메시지 ID로 메시지 조회
     ChatMessage findMessageById(int messageId);
     
@@ -23,6 +33,12 @@ public interface ChatMessageMapper {
             @Param("offset") int offset, 
             @Param("limit") int limit);
     
+    // 채팅방 메시지 커서 조회 (beforeMessageId 이전 메시지를 최신순으로, null이면 가장 최근부터)
+    List<ChatMessage> findMessagesBeforeId(
+            @Param("chatroomId") Integer chatroomId, 
+            @Param("beforeMessageId") Integer beforeMessageId, 
+            @Param("limit") int limit);
+    
     // 채팅방 메시지 총 개수
     int countMessagesByChatRoomId(Integer chatroomId);
     
@@ -36,10 +52,30 @@ public interface ChatMessageMapper {
             @Param("chatroomId") Integer chatroomId, 
             @Param("receiverEmail") String receiverEmail);
 
+    /**
+     * 지연 저장된 메시지 읽음 상태 업데이트 (읽은 시점까지 발급된 메시지 ID 이하만)
+     * @param maxMessageId 읽은 시점의 마지막 발급 메시지 ID
+     * @return 업데이트된 메시지 수
+     */
+    int updateMessageReadStatusUpTo(
+            @Param("chatroomId") Integer chatroomId, 
+            @Param("receiverEmail") String receiverEmail, 
+            @Param("maxMessageId") long maxMessageId);
+
     /**
      * 읽지 않은 메시지 개수 조회
      */
     int countUnreadMessages(
             @Param("chatroomId") Integer chatroomId, 
             @Param("receiverEmail") String receiverEmail);
+
+    /**
+     * 여러 채팅방의 읽지 않은 메시지 개수 일괄 조회
+     * @param chatroomIds 채팅방 ID 목록
+     * @param receiverEmail 수신자 이메일
+     * @return chatroomId, unreadCount만 채워진 채팅방 목록 (읽지 않은 메시지가 없는 채팅방은 제외)
+     */
+    List<ChatRoom> countUnreadMessagesByChatRoomIds(
+            @Param("chatroomIds") List<Integer> chatroomIds, 
+            @Param("receiverEmail") String receiverEmail);
 }
@@ -2,6 +2,7 @@ package com.example.demo.mapper;
 
 import com.example.demo.model.Category;
 import com.example.demo.model.Hobby;
+import com.example.demo.model.HobbyCategoryLink;
 import com.example.demo.model.UserHobby;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -39,4 +40,7 @@ public interface HobbyMapper {
     
     // 카테고리 ID로 취미 목록 조회
     List<Hobby> getHobbiesByCategoryId(Long categoryId);
+
+    // 모든 취미와 소속 카테고리 ID 조회 (취미 카탈로그 적재용)
+    List<HobbyCategoryLink> getAllHobbyCategoryLinks();
 }
@@ -2,6 +2,7 @@ package com.example.demo.mapper.Market;
 
 import com.example.demo.model.Market.ProductImage;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,6 +13,12 @@ public interface ProductImageMapper {
     void insertProductImage(ProductImage productImage);
     List<ProductImage> findByProductId(Long productId);
 
+    // 여러 상품의 이미지 일괄 조회 (상품 ID, 이미지 ID 순)
+    List<ProductImage> findByProductIds(@Param("productIds") List<Long> productIds);
+
+    // 여러 상품의 대표 이미지(상품별 첫 번째 이미지) 일괄 조회
+    List<ProductImage> findThumbnailsByProductIds(@Param("productIds") List<Long> productIds);
+
     // 이미지 ID로 특정 이미지 조회하는 메서드 추가!
     ProductImage findById(Long imageId);
 }
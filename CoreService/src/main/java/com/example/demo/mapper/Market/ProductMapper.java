@@ -1,7 +1,9 @@
 package com.example.demo.mapper.Market;
 
+import com.example.demo.dto.Market.ProductCardResponse;
 import com.example.demo.dto.Market.ProductResponse;
 import com.example.demo.model.Market.Product;
+import com.example.demo.util.GeoUtils;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.springframework.stereotype.Repository;
@@ -20,6 +22,9 @@ public interface ProductMapper {
     // 상품 조회 (등록자는 마감된 상품도 조회가능)
     Product findById(@Param("id") Long id, @Param("email") String email);
 
+    // 채팅방 목록용 상품 일괄 조회 (id, title, email만 조회, findById와 동일한 조회 권한 적용)
+    List<Product> findByIdsForChatRooms(@Param("ids") List<Long> ids, @Param("email") String email);
+
     // 특정 카테고리 필터링 + 정렬 추가
     List<Product> findFilteredProducts(@Param("categoryId") Long categoryId, @Param("sort") String sort);
 
@@ -32,18 +37,27 @@ public interface ProductMapper {
     // 상품 요청 등록 (ProductRequests 테이블에 저장) - 요청자 이메일 추가
     void insertProductRequest(@Param("productId") Long productId, @Param("requesterEmail") String requesterEmail);
 
-    // 모집 인원 증가
-    void increaseCurrentParticipants(@Param("productId") Long productId);
+    // 참여 자리 예약 (남은 자리가 있을 때만 current_participants 1 증가, 반환: 0이면 정원 초과)
+    int reserveParticipantSlot(@Param("productId") Long productId);
+
+    // 승인 요청 수와 current_participants가 다른 상품 ID
+    List<Long> findParticipantCountMismatches();
 
-    // 모집 완료 시 상품 비활성화
-    void updateProductVisibility(@Param("productId") Long productId);
+    // 해당 상품 중 승인 요청 수와 다른 current_participants 보정 (반환: 보정된 행 수)
+    int reconcileParticipantCounts(@Param("productIds") List<Long> productIds);
 
-    // 모집 마감 체크
-    void updateProductStatusToComplete(Long productId);
+    // 모집 완료 시 상품 비활성화 (반환: 비활성화된 행 수)
+    int updateProductVisibility(@Param("productId") Long productId);
 
     // 상품 요청 승인 여부 업데이트
     void updateRequestApprovalStatus(@Param("requestId") Long requestId, @Param("approvalStatus") String approvalStatus);
 
+    // 해당 상품의 대기 중(미승인)인 요청만 승인 (반환: 0이면 이미 승인/거절되었거나 다른 상품의 요청)
+    int approvePendingRequest(@Param("productId") Long productId, @Param("requestId") Long requestId);
+
+    // 자리 예약에 실패한 승인 되돌리기
+    int revertRequestApproval(@Param("requestId") Long requestId);
+
     // 상품 상태를 인원 충족 시 자동으로 '완료'로 변경하는 메서드
     void updateRequestStatusToComplete(@Param("productId") Long productId);
 
@@ -71,10 +85,38 @@ public interface ProductMapper {
     // 전체 상품 조회
     List<Product> findAll(@Param("email") String email);
 
-    // 특정 반경 내(유동적 거리) 있는 상품 조회
+    // 상품 피드 페이지 조회 (cursor 상품 ID 이전 상품을 ID 역순으로 limit개, 이미지 제외)
+    List<Product> findFeedPage(@Param("email") String email,
+                               @Param("cursor") Long cursor,
+                               @Param("limit") int limit);
+
+    // 상품 카드 피드용 상품 ID 조회 (findFeedPage와 같은 조건, ID만 조회)
+    List<Long> findFeedIds(@Param("email") String email,
+                           @Param("cursor") Long cursor,
+                           @Param("limit") int limit);
+
+    // 특정 사용자가 등록한 상품 ID 조회 (findProductsByEmailAndType과 같은 조건/순서, ID만 조회)
+    List<Long> findProductIdsByEmailAndType(@Param("email") String email, @Param("types") List<String> types);
+
+    // 내가 요청한 상품 ID 조회 (요청 최신순, ID만 조회)
+    List<Long> findRequestedProductIds(@Param("email") String email);
+
+    // 상품 카드 일괄 조회 (목록 화면용 항목 + 등록자 닉네임/도파민 + 대표 이미지 ID)
+    List<ProductCardResponse> findCardsByIds(@Param("ids") List<Long> ids);
+
+    // 특정 반경 내(유동적 거리) 있는 상품 조회 (box: 반경을 감싸는 위도/경도 사각형, 인덱스 범위 조회용)
     List<ProductResponse> findNearbyProducts(@Param("latitude") double latitude,
                                              @Param("longitude") double longitude,
-                                             @Param("distance") double distance);
+                                             @Param("distance") double distance,
+                                             @Param("box") GeoUtils.BoundingBox box);
+
+    // 주변 상품 인덱스 적재용 모집 중인 대면 상품 좌표 조회 (id, latitude, longitude만 조회)
+    List<Product> findNearbyIndexEntries();
+
+    // 주변 상품 인덱스에서 찾은 상품 ID로 일괄 조회 (모집 중/대면 여부 재확인, 거리순)
+    List<ProductResponse> findNearbyProductsByIds(@Param("ids") List<Long> ids,
+                                                  @Param("latitude") double latitude,
+                                                  @Param("longitude") double longitude);
 
     // 특정 상품에 대한 사용자의 승인 상태 조회
     String findApprovalStatus(@Param("email") String email, @Param("productId") Long productId);
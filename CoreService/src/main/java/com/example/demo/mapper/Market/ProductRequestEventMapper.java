@@ -0,0 +1,52 @@
+package com.example.demo.mapper.Market;
+
+import com.example.demo.model.Market.ProductRequestEvent;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Mapper
+@Repository
+public interface ProductRequestEventMapper {
+
+    /**
+     * 이벤트 저장 (PENDING, 바로 처리 가능)
+     */
+    void insertEvent(ProductRequestEvent event);
+
+    /**
+     * 처리할 차례가 된 이벤트 조회 (PENDING 또는 점유가 만료된 PROCESSING)
+     */
+    List<ProductRequestEvent> findDueEvents(@Param("limit") int limit);
+
+    /**
+     * 특정 요청자의 처리 대기 중인 채팅방 생성 이벤트 조회
+     */
+    List<ProductRequestEvent> findPendingChatRoomEvents(@Param("productId") Long productId,
+                                                        @Param("userEmail") String userEmail);
+
+    /**
+     * 이벤트 점유 (반환: 0이면 다른 스레드/노드가 처리 중이거나 처리 완료)
+     */
+    int claimEvent(@Param("id") Long id, @Param("leaseSeconds") int leaseSeconds);
+
+    /**
+     * 처리 완료
+     */
+    int markDone(@Param("id") Long id);
+
+    /**
+     * 처리 실패 (최대 시도 횟수 미만이면 delaySeconds 후 재처리, 이상이면 FAILED)
+     */
+    int markFailed(@Param("id") Long id,
+                   @Param("lastError") String lastError,
+                   @Param("maxAttempts") int maxAttempts,
+                   @Param("delaySeconds") int delaySeconds);
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트 삭제
+     */
+    int deleteDoneEventsBefore(@Param("retentionDays") int retentionDays);
+}
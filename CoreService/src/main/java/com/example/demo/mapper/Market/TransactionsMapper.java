@@ -10,6 +10,8 @@ import java.util.List;
 @Mapper
 public interface TransactionsMapper {
     void insertTransaction(TransactionsRequest request);
+    // 모집 마감 시 거래가 없는 승인 참여자의 거래 일괄 생성 (반환: 생성된 거래 수)
+    int insertTransactionsForApprovedRequests(@Param("productId") Long productId, @Param("description") String description);
     TransactionsResponse findTransactionById(@Param("id") Long id);
     List<TransactionsResponse> findTransactionsByUser(@Param("email") String email);
     int getTransactionPrice(@Param("id") Long id);
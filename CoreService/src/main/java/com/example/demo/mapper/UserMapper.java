@@ -1,11 +1,16 @@
 package com.example.demo.mapper;
 
+import com.example.demo.config.RedisCacheConfig;
 import com.example.demo.model.User;
 import com.example.demo.model.UserAccountInfo;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Mapper
 @Repository
 public interface UserMapper {
@@ -16,9 +21,17 @@ public interface UserMapper {
     // 사용자 계정 정보 추가
     int insertUserAccountInfo(UserAccountInfo userAccountInfo);
 
-    // 이메일로 사용자 찾기
+    // 이메일로 사용자 찾기 (비밀번호 해시, 로그인 잠금 정보 포함 - 캐싱하지 않음)
     User findByEmail(String email);
 
+    // 이메일로 사용자 프로필 찾기 (닉네임 표시 등 조회 전용, 비밀번호/전화번호/로그인 잠금 정보 제외)
+    // 2단계 캐시, 프로필을 변경하는 메서드에서 삭제
+    @Cacheable(cacheNames = RedisCacheConfig.CACHE_USER_PROFILES, key = "#p0", unless = "#result == null")
+    User findProfileByEmail(String email);
+
+    // 여러 이메일로 사용자 일괄 조회
+    List<User> findByEmails(@Param("emails") List<String> emails);
+
     // 전화번호로 사용자 찾기
     User findByPhoneNumber(String phoneNumber);
 
@@ -38,21 +51,26 @@ public interface UserMapper {
     int updateUserPasswordHash(@Param("email") String email, @Param("newPasswordHash") String newPasswordHash);
 
     // 계정 상태 업데이트
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_USER_PROFILES, key = "#p0")
     int updateAccountStatus(@Param("email") String email, @Param("accountStatus") String accountStatus);
 
     // 사용자 프로필 업데이트
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_USER_PROFILES, key = "#p0.email")
     int updateUserProfile(User user);
 
     // 이메일 제외한 닉네임 중복 확인
     User findByNicknameExceptEmail(@Param("nickname") String nickname, @Param("email") String email);
 
     // 회원 탈퇴 (소프트 삭제) - 계정 상태 변경
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_USER_PROFILES, key = "#p0")
     int withdrawUser(@Param("email") String email, @Param("withdrawalDate") java.time.LocalDateTime withdrawalDate);
 
     // 계정 정보 테이블의 계정 상태 업데이트
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_USER_PROFILES, key = "#p0")
     int updateUserAccountInfoStatus(@Param("email") String email, @Param("accountStatus") String accountStatus);
 
     // 회원 탈퇴 시 사용자 정보 익명화
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_USER_PROFILES, key = "#p0")
     int anonymizeUserData(
             @Param("email") String email,
             @Param("nickname") String newNickname,
@@ -62,6 +80,7 @@ public interface UserMapper {
     );
 
     // 프로필 이미지 경로 업데이트
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_USER_PROFILES, key = "#p0")
     int updateProfileImagePath(@Param("email") String email, @Param("profileImagePath") String profileImagePath);
 
     /**
@@ -81,6 +100,18 @@ public interface UserMapper {
                                @Param("dopamineValue") int dopamineValue,
                                @Param("pointsValue") int pointsValue);
 
+    /**
+     * 사용자 활동 집계 반영 (합계 누적, 최근 도파민/포인트 교체)
+     */
+    int upsertActivitySummary(@Param("email") String email,
+                              @Param("dopamineValue") int dopamineValue,
+                              @Param("pointsValue") int pointsValue);
+
+    /**
+     * 활동 내역 전체로 사용자 활동 집계 재계산
+     */
+    int rebuildActivitySummaries();
+
     // 도파민 조회 (추가된 기능)
     // 기존 브랜치에서 빠져있던 도파민 조회 기능 유지
     // (이전 버전에서는 주석 처리되어 있었음)
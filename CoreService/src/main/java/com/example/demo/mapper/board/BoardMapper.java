@@ -1,8 +1,11 @@
 package com.example.demo.mapper.board;
 
+import com.example.demo.config.RedisCacheConfig;
 import com.example.demo.model.board.Board;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,7 +16,8 @@ public interface BoardMapper {
     // 게시판 생성
     void createBoard(Board board);
     
-    // ID로 게시판 조회
+    // ID로 게시판 조회 (2단계 캐시, 게시판 변경과 멤버 수 변경 시 삭제)
+    @Cacheable(cacheNames = RedisCacheConfig.CACHE_BOARDS, key = "#p0", unless = "#result == null")
     Board findBoardById(@Param("id") Long id);
     
     // 모든 게시판 조회
@@ -26,15 +30,19 @@ public interface BoardMapper {
     List<Board> findBoardsByMemberEmail(@Param("memberEmail") String memberEmail);
     
     // 게시판 정보 업데이트
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_BOARDS, key = "#p0.id")
     void updateBoard(Board board);
     
     // 게시판 상태 변경
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_BOARDS, key = "#p0")
     void updateBoardStatus(@Param("id") Long id, @Param("status") String status);
     
     // 게시판 이미지 업데이트
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_BOARDS, key = "#p0")
     void updateBoardImage(@Param("id") Long id, @Param("imagePath") String imagePath);
     
     // 게시판 삭제 (소프트 삭제)
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_BOARDS, key = "#p0")
     void deleteBoard(@Param("id") Long id);
     
     // 게시판 멤버 수 조회
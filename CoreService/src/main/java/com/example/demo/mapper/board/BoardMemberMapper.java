@@ -1,8 +1,10 @@
 package com.example.demo.mapper.board;
 
+import com.example.demo.config.RedisCacheConfig;
 import com.example.demo.model.board.BoardMember;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -43,7 +45,10 @@ public interface BoardMemberMapper {
     
     /**
      * 이메일과 게시판 ID로 게시판 멤버 조회
+     * - 게시글/댓글/반응 권한 확인용 2단계 캐시 (키: 게시판 ID:이메일, 멤버 초대/수락/거절/추방, 호스트 변경 시 삭제)
+     * - 멤버가 아닌 경우(null)는 캐싱하지 않음
      */
+    @Cacheable(cacheNames = RedisCacheConfig.CACHE_BOARD_MEMBERS, key = "#p1 + ':' + #p0", unless = "#result == null")
     BoardMember findBoardMemberByEmailAndBoardId(
             @Param("email") String email, 
             @Param("boardId") Long boardId);
@@ -4,6 +4,7 @@ import com.example.demo.model.board.Comment;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -14,14 +15,16 @@ public interface CommentMapper {
     // 댓글 수정
     void updateComment(Comment comment);
     
-    // 댓글 삭제 (소프트 삭제)
-    void deleteComment(@Param("id") Long id, @Param("email") String email);
+    // 댓글 삭제 (소프트 삭제, 이미 삭제된 댓글이면 0 반환)
+    int deleteComment(@Param("id") Long id, @Param("email") String email);
     
     // 댓글 ID로 조회
     Comment getCommentById(Long id);
     
-    // 게시글의 모든 댓글 조회 (계층 구조, 최상위 댓글만)
-    List<Comment> getCommentsByPostId(@Param("postId") Long postId);
+    // 게시글 댓글 트리 조회 (최상위 댓글과 대댓글을 한 번에, limit가 null이면 전체)
+    List<Comment> getCommentTreeByPostId(@Param("postId") Long postId,
+                                         @Param("cursor") Long cursor,
+                                         @Param("limit") Integer limit);
     
     // 게시글의 모든 댓글 수 조회
     int countCommentsByPostId(@Param("postId") Long postId);
@@ -32,11 +35,17 @@ public interface CommentMapper {
     // 특정 댓글의 대댓글 수 조회
     int countRepliesByParentId(@Param("parentId") Long parentId);
     
-    // 대댓글 수 업데이트
-    void updateReplyCount(@Param("id") Long id, @Param("count") int count);
+    // 대댓글 수 증감 (delta: +1/-1)
+    int adjustReplyCount(@Param("id") Long id, @Param("delta") int delta);
     
-    // 게시글의 댓글 수 업데이트
-    void updatePostCommentCount(@Param("postId") Long postId, @Param("count") int count);
+    // 게시글의 댓글 수 증감 (delta: +1/-1)
+    int adjustPostCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+    
+    // 게시글 댓글 수를 실제 댓글 수로 보정 (값이 다른 게시글만 갱신)
+    int reconcilePostCommentCounts(@Param("postIds") Collection<Long> postIds);
+    
+    // 게시글들의 댓글별 대댓글 수를 실제 대댓글 수로 보정 (값이 다른 댓글만 갱신)
+    int reconcileReplyCounts(@Param("postIds") Collection<Long> postIds);
     
     // 사용자가 작성한 댓글 조회
     List<Comment> getCommentsByAuthorEmail(@Param("email") String email);
@@ -7,6 +7,7 @@ import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface PostMapper {
@@ -28,6 +29,9 @@ public interface PostMapper {
     // 게시글 조회수 증가
     void increaseViewCount(@Param("id") Long id);
     
+    // 누적된 조회수 일괄 반영 (게시글 ID -> 증가분)
+    int addViewCounts(@Param("deltas") Map<Long, Long> deltas);
+    
     // 게시판 내 게시글 목록 조회
     List<Post> getPostsByBoardId(@Param("boardId") Long boardId);
     
@@ -40,16 +44,22 @@ public interface PostMapper {
     // 게시글의 이미지 목록 조회
     List<PostImage> getPostImagesByPostId(@Param("postId") Long postId);
     
+    // 여러 게시글의 이미지 목록 일괄 조회 (게시글 ID, 등록 순)
+    List<PostImage> getPostImagesByPostIds(@Param("postIds") List<Long> postIds);
+    
     // 게시글 이미지 삭제
     void deletePostImages(@Param("postId") Long postId);
     
-    // 게시글 검색
-    List<Post> searchPosts(@Param("boardId") Long boardId, @Param("keyword") String keyword);
+    // 게시글 검색 (fullTextQuery: 전문 검색 구문, null이면 LIKE 검색)
+    List<Post> searchPosts(@Param("boardId") Long boardId,
+                           @Param("keyword") String keyword,
+                           @Param("fullTextQuery") String fullTextQuery);
     
     // 고급 검색 및 필터링
     List<Post> findPostsWithFilters(
             @Param("boardId") Long boardId,
             @Param("keyword") String keyword,
+            @Param("fullTextQuery") String fullTextQuery,
             @Param("searchField") String searchField,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
@@ -62,6 +72,7 @@ public interface PostMapper {
     int countPostsWithFilters(
             @Param("boardId") Long boardId,
             @Param("keyword") String keyword,
+            @Param("fullTextQuery") String fullTextQuery,
             @Param("searchField") String searchField,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
@@ -0,0 +1,20 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 취미와 소속 카테고리 연결 (취미 카탈로그 적재용)
+ * - 카테고리가 없는 취미는 categoryId가 null
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HobbyCategoryLink {
+    private Long hobbyId;
+    private String hobbyName;
+    private Long categoryId;
+}
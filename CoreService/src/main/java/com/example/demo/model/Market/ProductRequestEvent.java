@@ -0,0 +1,30 @@
+package com.example.demo.model.Market;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 요청/승인 후속 작업 (ProductRequestEvents 아웃박스)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductRequestEvent {
+    public static final String TYPE_CHAT_ROOM = "CHAT_ROOM";        // 요청자 채팅방 생성
+    public static final String TYPE_NOTIFICATION = "NOTIFICATION";  // 알림 전송
+
+    private Long id;
+    private String eventType;
+    private Long productId;
+    private String userEmail;         // CHAT_ROOM: 요청자, NOTIFICATION: 수신자
+    private String message;
+    private String notificationType;
+    private Integer chatroomId;
+    private String status;            // PENDING, PROCESSING, DONE, FAILED
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+}
@@ -2,6 +2,7 @@ package com.example.demo.security.oauth2;
 
 import com.example.demo.mapper.UserMapper;
 import com.example.demo.model.User;
+import com.example.demo.service.UserActivityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
@@ -22,6 +23,7 @@ import java.time.LocalDateTime;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserMapper userMapper;
+    private final UserActivityService userActivityService;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest oAuth2UserRequest) throws OAuth2AuthenticationException {
@@ -88,7 +90,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         userMapper.insertUser(user);
         
         // 초기 도파민 수치와 활동 포인트 설정
-        userMapper.initializeUserActivity(user.getEmail(), 50, 0);
+        userActivityService.recordActivity(user.getEmail(), 50, 0);
         
         return user;
     }
@@ -32,6 +32,7 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtTokenBlacklistService jwtTokenBlacklistService;
     private final HobbyService hobbyService;  // 추가된 의존성
+    private final UserActivityService userActivityService;
 
     private static final int MAX_FAILED_ATTEMPTS = 5;
 
@@ -104,7 +105,7 @@ public class AuthService {
                     
                     // 취미가 해당 카테고리에 속하는지 검증
                     try {
-                        boolean isValid = hobbyService.getHobbyMapper().isHobbyInCategory(hobby.getHobbyId(), hobby.getCategoryId());
+                        boolean isValid = hobbyService.isHobbyInCategory(hobby.getHobbyId(), hobby.getCategoryId());
                         if (!isValid) {
                             return SignupResponse.builder()
                                     .success(false)
@@ -155,7 +156,7 @@ public class AuthService {
                 int initialDopamine = 50;
                 int initialPoints = 0;
                 try {
-                    userMapper.initializeUserActivity(request.getEmail(), initialDopamine, initialPoints);
+                    userActivityService.recordActivity(request.getEmail(), initialDopamine, initialPoints);
                 } catch (Exception e) {
                     log.warn("포인트/도파민 초기화 실패 (테이블이 없을 수 있음): {}", e.getMessage());
                     // 포인트/도파민 초기화 실패해도 회원가입은 성공으로 처리
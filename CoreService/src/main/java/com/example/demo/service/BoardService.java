@@ -1,5 +1,6 @@
 package com.example.demo.service;
 
+import com.example.demo.config.RedisCacheConfig;
 import com.example.demo.dto.board.*;
 import com.example.demo.mapper.UserMapper;
 import com.example.demo.mapper.board.BoardMapper;
@@ -10,6 +11,10 @@ import com.example.demo.model.board.BoardMember;
 import com.example.demo.util.TokenUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,6 +32,7 @@ public class BoardService {
     private final UserMapper userMapper;
     private final TokenUtils tokenUtils;
     private final FileStorageService fileStorageService;
+    private final CacheManager cacheManager;
 
     /**
      * 게시판 생성
@@ -183,6 +189,7 @@ public class BoardService {
      * 멤버 초대
      */
     @Transactional
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_BOARD_MEMBERS, key = "#boardId + ':' + #inviteEmail")
     public BoardResponse inviteMember(String hostEmail, Long boardId, String inviteEmail, String role) {
         // 초대할 이메일 유효성 검증
         log.info("inviteMember 메서드: boardId={}, hostEmail={}, inviteEmail={}, role={}", 
@@ -246,6 +253,10 @@ public class BoardService {
      * 초대 수락
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = RedisCacheConfig.CACHE_BOARDS, key = "#boardId"), // 활성 멤버 수 변경
+            @CacheEvict(cacheNames = RedisCacheConfig.CACHE_BOARD_MEMBERS, key = "#boardId + ':' + #userEmail")
+    })
     public BoardMember acceptInvitation(String userEmail, Long boardId) {
         BoardMember membership = boardMemberMapper.findMemberByBoardIdAndUserEmail(boardId, userEmail);
         if (membership == null) {
@@ -266,6 +277,7 @@ public class BoardService {
      * 초대 거절
      */
     @Transactional
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_BOARD_MEMBERS, key = "#boardId + ':' + #userEmail")
     public void rejectInvitation(String userEmail, Long boardId) {
         BoardMember membership = boardMemberMapper.findMemberByBoardIdAndUserEmail(boardId, userEmail);
         if (membership == null) {
@@ -284,6 +296,7 @@ public class BoardService {
      * 멤버 추방
      */
     @Transactional
+    @CacheEvict(cacheNames = RedisCacheConfig.CACHE_BOARDS, key = "#boardId") // 활성 멤버 수 변경
     public void kickMember(String hostEmail, Long boardId, Long memberId) {
         // 게시판 정보 조회
         Board board = boardMapper.findBoardById(boardId);
@@ -309,6 +322,9 @@ public class BoardService {
 
         // 멤버 추방 (상태를 BANNED로 변경)
         boardMemberMapper.updateMemberStatus(memberId, "BANNED");
+
+        // 추방 대상 이메일은 멤버 ID로 조회한 뒤에 알 수 있으므로 멤버십 캐시는 직접 삭제
+        evictMembership(boardId, member.getUserEmail());
     }
 
     /**
@@ -364,6 +380,10 @@ public class BoardService {
      * 게시판 호스트 변경
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = RedisCacheConfig.CACHE_BOARD_MEMBERS, key = "#boardId + ':' + #currentHostEmail"),
+            @CacheEvict(cacheNames = RedisCacheConfig.CACHE_BOARD_MEMBERS, key = "#boardId + ':' + #newHostEmail")
+    })
     public BoardResponse changeHost(String currentHostEmail, Long boardId, String newHostEmail) {
         // 게시판 정보 조회
         Board board = boardMapper.findBoardById(boardId);
@@ -454,4 +474,11 @@ public class BoardService {
                 .status(board.getStatus())
                 .build();
     }
+
+    private void evictMembership(Long boardId, String email) {
+        Cache cache = cacheManager.getCache(RedisCacheConfig.CACHE_BOARD_MEMBERS);
+        if (cache != null) {
+            cache.evict(boardId + ":" + email);
+        }
+    }
 }
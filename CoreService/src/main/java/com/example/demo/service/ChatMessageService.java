@@ -10,22 +10,31 @@ import com.example.demo.model.Market.Product;
 import com.example.demo.model.User;
 import com.example.demo.model.chat.ChatMessage;
 import com.example.demo.model.chat.ChatRoom;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -37,6 +46,10 @@ public class ChatMessageService {
     private final ProductMapper productMapper;
     private final UserMapper userMapper;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ChatUnreadCounterService unreadCounterService;
+    private final ChatMessageWriteBuffer writeBuffer;
+    private final ClusterMessageRouter messageRouter;
+    private final MappingJackson2MessageConverter messageConverter;
 
     // 📌 `@Qualifier`를 필드에 직접 적용하여 명확하게 지정
     private final @Qualifier("chatChannelTopic") ChannelTopic chatChannelTopic;
@@ -44,6 +57,9 @@ public class ChatMessageService {
     @Value("${chat.default.page-size:20}")
     private int defaultPageSize;
 
+    // 커서 조회 시 한 번에 조회할 수 있는 최대 메시지 수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     // 이미지 저장 경로 설정 - resources/static 하위 폴더로 변경
     private final String CHAT_IMAGE_DIR = System.getProperty("user.dir") + "/src/main/resources/static/chat-images";
 
@@ -84,46 +100,45 @@ public class ChatMessageService {
                 .isRead(false)
                 .build();
         
-        // 메시지 저장
-        chatMessageMapper.saveChatMessage(message);
-        
         // 채팅방 정보 업데이트 (마지막 메시지, 시간)
-        String lastMessage = "";
-        
-        // 메시지 타입에 따라 lastMessage 다르게 설정
-        switch (request.getMessageType()) {
-            case "TEXT":
-                lastMessage = request.getContent();
-                break;
-            case "IMAGE":
-                lastMessage = "이미지를 보냈습니다.";
-                break;
-            case "FILE":
-                lastMessage = "파일을 보냈습니다.";
-                break;
-            case "OFFER":
-                lastMessage = "제안을 보냈습니다.";
-                break;
-            default:
-                lastMessage = request.getContent();
-        }
+        String lastMessage = resolveLastMessage(request.getMessageType(), request.getContent());
         
-        // updateChatRoom 대신 updateChatRoomLastMessage 사용
-        chatRoomMapper.updateChatRoomLastMessage(
-                request.getChatroomId(),
-                lastMessage,
-                message.getSentAt()
-        );
-        
-        // 발신자 정보 추가 (for 실시간 메시지)
-        User sender = userMapper.findByEmail(senderEmail);
+        // 발신자 정보 추가 (for 실시간 메시지, 저장 대기 중인 메시지 조회)
+        User sender = userMapper.findProfileByEmail(senderEmail);
         if (sender != null) {
             message.setSenderName(sender.getNickname());
         }
         
+        if (writeBuffer.isEnabled()) {
+            // 지연 저장 모드: ID만 먼저 발급하고 DB 저장은 버퍼에서 일괄 처리
+            message.setMessageId(writeBuffer.nextMessageId());
+            if (!writeBuffer.enqueue(message, lastMessage)) {
+                writeBuffer.writeThrough(message, lastMessage);
+            }
+        } else {
+            // 메시지 저장
+            chatMessageMapper.saveChatMessage(message);
+            
+            // updateChatRoom 대신 updateChatRoomLastMessage 사용
+            chatRoomMapper.updateChatRoomLastMessage(
+                    request.getChatroomId(),
+                    lastMessage,
+                    message.getSentAt()
+            );
+        }
+        
+        // 수신자의 읽지 않은 메시지 카운터 증가
+        String receiverEmail = senderEmail.equals(sellerEmail) ? requestEmail : sellerEmail;
+        unreadCounterService.increment(receiverEmail, request.getChatroomId());
+        
         try {
-            // Redis를 통해 메시지 발행
-            redisTemplate.convertAndSend(chatChannelTopic.getTopic(), message);
+            if (messageRouter.isEnabled()) {
+                // 채팅방 구독자가 있는 노드에만 전달
+                messageRouter.send("/topic/chat." + message.getChatroomId(), message);
+            } else {
+                // Redis를 통해 메시지 발행
+                publishToChatChannel(message);
+            }
         } catch (Exception e) {
             log.error("Redis 메시지 발행 실패: {}", e.getMessage());
         }
@@ -131,37 +146,44 @@ public class ChatMessageService {
         return message;
     }
 
+    /**
+     * STOMP 전송 형식(JSON)으로 한 번만 인코딩하여 채팅 채널에 발행
+     * - 수신 노드의 RedisMessageListener는 재직렬화 없이 그대로 구독자에게 전달
+     */
+    private void publishToChatChannel(ChatMessage message) throws JsonProcessingException {
+        byte[] payload = messageConverter.getObjectMapper().writeValueAsBytes(message);
+        byte[] channel = chatChannelTopic.getTopic().getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, payload));
+    }
+
+    /**
+     * 메시지 타입에 따라 채팅방 목록에 표시할 마지막 메시지 결정
+     */
+    private String resolveLastMessage(String messageType, String content) {
+        switch (messageType) {
+            case "TEXT":
+                return content;
+            case "IMAGE":
+                return "이미지를 보냈습니다.";
+            case "FILE":
+                return "파일을 보냈습니다.";
+            case "OFFER":
+                return "제안을 보냈습니다.";
+            default:
+                return content;
+        }
+    }
+
     /**
      * 채팅방 메시지 목록 조회
      */
     public ChatMessagesResponse getChatMessages(Integer chatroomId, String userEmail, Integer page, Integer size) {
-        // 채팅방 존재 여부 확인
-        ChatRoom chatRoom = chatRoomMapper.findChatRoomById(chatroomId, userEmail);
-        if (chatRoom == null) {
-            return ChatMessagesResponse.builder()
-                    .success(false)
-                    .message("존재하지 않는 채팅방입니다.")
-                    .build();
-        }
-        
-        // 채팅방과 연결된 상품 정보 가져오기
-        Product product = productMapper.findById(chatRoom.getProductId(), userEmail);
-        if (product == null) {
+        // 채팅방 접근 권한 확인
+        String accessError = checkChatRoomAccess(chatroomId, userEmail);
+        if (accessError != null) {
             return ChatMessagesResponse.builder()
                     .success(false)
-                    .message("상품 정보를 찾을 수 없습니다.")
-                    .build();
-        }
-        
-        // 판매자 이메일 설정
-        String sellerEmail = product.getEmail();
-        String requestEmail = chatRoom.getRequestEmail();
-        
-        // 사용자가 해당 채팅방의 멤버인지 확인
-        if (!userEmail.equals(sellerEmail) && !userEmail.equals(requestEmail)) {
-            return ChatMessagesResponse.builder()
-                    .success(false)
-                    .message("해당 채팅방에 접근 권한이 없습니다.")
+                    .message(accessError)
                     .build();
         }
         
@@ -171,14 +193,24 @@ public class ChatMessageService {
         int offset = pageNum * pageSize;
         
         // 메시지 목록 조회
-        List<ChatMessage> messages = chatMessageMapper.findMessagesByChatRoomId(chatroomId, offset, pageSize);
+        List<ChatMessage> messages = new ArrayList<>(
+                chatMessageMapper.findMessagesByChatRoomId(chatroomId, offset, pageSize));
         
         // 총 메시지 수
         int totalCount = chatMessageMapper.countMessagesByChatRoomId(chatroomId);
+        
+        // 아직 저장되지 않은 메시지는 저장된 메시지 뒤에 이어서 표시
+        List<ChatMessage> buffered = excludeLoaded(writeBuffer.findBufferedMessages(chatroomId), messages);
+        int bufferedStart = Math.max(offset - totalCount, 0);
+        for (int i = bufferedStart; i < buffered.size() && messages.size() < pageSize; i++) {
+            messages.add(buffered.get(i));
+        }
+        totalCount += buffered.size();
         int totalPages = (totalCount + pageSize - 1) / pageSize;
         
         // 메시지 읽음 상태 업데이트
-        chatMessageMapper.updateMessageReadStatus(chatroomId, userEmail);
+        markRead(chatroomId, userEmail);
+        unreadCounterService.reset(userEmail, chatroomId);
         
         return ChatMessagesResponse.builder()
                 .success(true)
@@ -190,6 +222,118 @@ public class ChatMessageService {
                 .build();
     }
 
+    /**
+     * 채팅방 메시지 커서 조회 (이전 메시지 스크롤)
+     * - beforeMessageId 이전 메시지를 size개 조회 (없으면 가장 최근 메시지부터), OFFSET 없이 인덱스 범위 조회
+     * - 총 메시지 수는 includeTotalCount가 true일 때만 조회
+     */
+    public ChatMessagesResponse getChatMessagesBefore(Integer chatroomId, String userEmail,
+                                                      Integer beforeMessageId, Integer size,
+                                                      boolean includeTotalCount) {
+        // 채팅방 접근 권한 확인
+        String accessError = checkChatRoomAccess(chatroomId, userEmail);
+        if (accessError != null) {
+            return ChatMessagesResponse.builder()
+                    .success(false)
+                    .message(accessError)
+                    .build();
+        }
+        
+        int pageSize = (size != null && size > 0) ? Math.min(size, MAX_CURSOR_PAGE_SIZE) : defaultPageSize;
+        
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<ChatMessage> messages = new ArrayList<>(
+                chatMessageMapper.findMessagesBeforeId(chatroomId, beforeMessageId, pageSize + 1));
+        
+        // 아직 저장되지 않은 메시지를 포함해 최신순으로 다시 자름
+        List<ChatMessage> buffered = excludeLoaded(writeBuffer.findBufferedMessages(chatroomId), messages);
+        buffered.removeIf(message -> beforeMessageId != null && message.getMessageId() >= beforeMessageId);
+        if (!buffered.isEmpty()) {
+            messages.addAll(buffered);
+            messages.sort(Comparator.comparing(ChatMessage::getMessageId).reversed());
+            if (messages.size() > pageSize + 1) {
+                messages = new ArrayList<>(messages.subList(0, pageSize + 1));
+            }
+        }
+        boolean hasMore = messages.size() > pageSize;
+        if (hasMore) {
+            messages = new ArrayList<>(messages.subList(0, pageSize));
+        }
+        
+        // 화면 표시 순서(오래된 메시지 먼저)로 정렬
+        Collections.reverse(messages);
+        Integer nextCursor = messages.isEmpty() ? null : messages.get(0).getMessageId();
+        
+        Integer totalCount = includeTotalCount ? chatMessageMapper.countMessagesByChatRoomId(chatroomId) : null;
+        
+        // 최신 페이지를 조회할 때만 읽음 상태 업데이트
+        if (beforeMessageId == null) {
+            markRead(chatroomId, userEmail);
+            unreadCounterService.reset(userEmail, chatroomId);
+        }
+        
+        return ChatMessagesResponse.builder()
+                .success(true)
+                .message("메시지 목록 조회 성공")
+                .messages(messages)
+                .totalCount(totalCount)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 이미 조회한 메시지와 ID가 같은 저장 대기 메시지 제외 (저장 직후 정리 전인 메시지)
+     */
+    private List<ChatMessage> excludeLoaded(List<ChatMessage> buffered, List<ChatMessage> loaded) {
+        if (buffered.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<Integer> loadedIds = new HashSet<>();
+        for (ChatMessage message : loaded) {
+            loadedIds.add(message.getMessageId());
+        }
+        List<ChatMessage> result = new ArrayList<>();
+        for (ChatMessage message : buffered) {
+            if (!loadedIds.contains(message.getMessageId())) {
+                result.add(message);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 메시지 읽음 상태 업데이트 (아직 저장되지 않은 메시지는 저장 시 읽음으로 반영되도록 먼저 기록)
+     */
+    private void markRead(Integer chatroomId, String readerEmail) {
+        writeBuffer.recordRead(chatroomId, readerEmail);
+        chatMessageMapper.updateMessageReadStatus(chatroomId, readerEmail);
+    }
+
+    /**
+     * 채팅방 접근 권한 확인
+     * @return 접근 불가 사유 (접근 가능하면 null)
+     */
+    private String checkChatRoomAccess(Integer chatroomId, String userEmail) {
+        // 채팅방 존재 여부 확인
+        ChatRoom chatRoom = chatRoomMapper.findChatRoomById(chatroomId, userEmail);
+        if (chatRoom == null) {
+            return "존재하지 않는 채팅방입니다.";
+        }
+        
+        // 채팅방과 연결된 상품 정보 가져오기
+        Product product = productMapper.findById(chatRoom.getProductId(), userEmail);
+        if (product == null) {
+            return "상품 정보를 찾을 수 없습니다.";
+        }
+        
+        // 사용자가 해당 채팅방의 멤버인지 확인 (판매자 또는 구매자)
+        if (!userEmail.equals(product.getEmail()) && !userEmail.equals(chatRoom.getRequestEmail())) {
+            return "해당 채팅방에 접근 권한이 없습니다.";
+        }
+        return null;
+    }
+
     /**
      * 메시지 읽음 상태 업데이트
      */
@@ -215,7 +359,13 @@ public class ChatMessageService {
         }
         
         // 메시지 읽음 상태 업데이트
-        chatMessageMapper.updateMessageReadStatus(chatroomId, receiverEmail);
+        markRead(chatroomId, receiverEmail);
+        
+        // Redis 카운터 사용 시 초기화만 하고 COUNT 쿼리 생략
+        if (unreadCounterService.isEnabled()) {
+            unreadCounterService.reset(receiverEmail, chatroomId);
+            return true;
+        }
         
         // 업데이트 된 메시지가 있는지 확인
         int unreadCount = chatMessageMapper.countUnreadMessages(chatroomId, receiverEmail);
@@ -0,0 +1,620 @@
+package com.example.demo.service;
+
+import com.example.demo.mapper.ChatMessageMapper;
+import com.example.demo.mapper.ChatRoomMapper;
+import com.example.demo.model.chat.ChatMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 지연 저장(write-behind) 버퍼
+ * - 메시지 ID는 Redis 카운터로 즉시 발급하고, 메시지는 Redis Stream에 적재 후 바로 발행
+ * - 스케줄러가 Stream을 소비 그룹으로 읽어 다중 행 INSERT와 채팅방 마지막 메시지 갱신을 일괄 처리
+ * - DB 반영 후 ACK 하므로 서버가 중단되어도 Stream에 남은 메시지는 재처리됨 (이미 저장된 행은 그대로 둠)
+ * - 저장 후 같은 ID의 행이 다른 메시지이면(ID 충돌) 카운터를 DB 최대 ID로 올리고 새 ID로 다시 적재, 저장이 확인된 메시지만 ACK
+ * - 카운터가 DB 최대 ID 이하의 ID를 발급하면(Redis 키 유실 등) 카운터를 다시 맞춘 뒤 발급
+ * - 버퍼가 가득 차거나 Stream 적재에 실패하면 호출 측에서 동기 저장으로 대체
+ * - 아직 저장되지 않은 메시지는 채팅방별 Sorted Set(chat:messages:buffered:{채팅방 ID})에도 보관해 메시지 조회에 포함
+ * - 읽음 처리 시 마지막 발급 메시지 ID를 채팅방/사용자별로 기록(recordRead), 저장 시 그 이하 메시지는 읽음으로 저장
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMessageWriteBuffer {
+
+    private static final String STREAM_KEY = "chat:messages:write-behind";
+    private static final String MESSAGE_ID_KEY = "chat:messages:id";
+    private static final String CONSUMER_GROUP = "chat-message-writer";
+    private static final String FIELD_MESSAGE = "message";
+    private static final String FIELD_LAST_MESSAGE = "lastMessage";
+    private static final String BUFFERED_KEY_PREFIX = "chat:messages:buffered:";
+    private static final String READ_WATERMARK_KEY_PREFIX = "chat:messages:read-watermark:";
+    // 저장이 지연되거나 정리하지 못한 경우 남는 키 정리용
+    private static final Duration BUFFER_KEY_TTL = Duration.ofDays(1);
+
+    // 메시지 ID 카운터가 MySQL 최대 ID보다 작을 때만 올려서 맞춤
+    private static final DefaultRedisScript<Long> SEED_ID_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "local seed = tonumber(ARGV[1]) " +
+            "if current < seed then redis.call('SET', KEYS[1], seed) return seed end " +
+            "return current", Long.class);
+
+    // 읽은 시점의 마지막 발급 메시지 ID를 채팅방/사용자별로 기록 (기존 값보다 클 때만)
+    private static final DefaultRedisScript<Long> READ_WATERMARK_SCRIPT = new DefaultRedisScript<>(
+            "local id = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "local current = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') " +
+            "if id > current then redis.call('HSET', KEYS[2], ARGV[1], id) end " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "return id", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChatMessageMapper chatMessageMapper;
+    private final ChatRoomMapper chatRoomMapper;
+    private final ObjectMapper objectMapper;
+
+    // 이 노드가 적재했지만 아직 DB에 반영하지 않은 메시지 수 (버퍼 상한 판단용)
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    // 마지막으로 확인한 MySQL 최대 메시지 ID (이하의 ID는 발급하지 않음)
+    private final AtomicLong dbMaxMessageId = new AtomicLong();
+
+    // 저장 시 ID 충돌이 나면 새 ID로 다시 시도하는 횟수 (동기 저장)
+    private static final int MAX_ID_ATTEMPTS = 3;
+
+    private String consumerName;
+
+    @Value("${chat.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${chat.write-behind.max-pending:10000}")
+    private long maxPending;
+
+    @Value("${chat.write-behind.claim-idle-ms:60000}")
+    private long claimIdleMs;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        consumerName = resolveConsumerName();
+        try {
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+        } catch (Exception e) {
+            // 이미 소비 그룹이 존재하는 경우 (BUSYGROUP)
+            log.debug("채팅 메시지 소비 그룹 생성 생략: {}", e.getMessage());
+        }
+        long seeded = reseedMessageId();
+        log.info("채팅 메시지 지연 저장 활성화: consumer={}, 시작 메시지 ID={}", consumerName, seeded);
+    }
+
+    /**
+     * 지연 저장 모드 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 메시지가 Stream에 남아 있는지 여부 (모든 노드 기준)
+     * - 확인할 수 없으면 남아 있는 것으로 간주
+     */
+    public boolean hasBacklog() {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            Long size = redisTemplate.opsForStream().size(STREAM_KEY);
+            return size == null || size > 0;
+        } catch (Exception e) {
+            log.warn("채팅 메시지 버퍼 크기 조회 실패: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 메시지가 Stream에 남아 있는 채팅방 ID (모든 노드 기준)
+     * - Stream에는 반영 후 삭제되지 않은 메시지만 남으므로 전체를 batchSize씩 나누어 확인
+     * @return 채팅방 ID 목록 (확인할 수 없으면 null)
+     */
+    public Set<Integer> findPendingChatroomIds() {
+        if (!enabled) {
+            return Collections.emptySet();
+        }
+        Set<Integer> chatroomIds = new HashSet<>();
+        try {
+            Range<String> range = Range.unbounded();
+            List<MapRecord<String, Object, Object>> records;
+            do {
+                records = redisTemplate.opsForStream().range(STREAM_KEY, range, Limit.limit().count(batchSize));
+                if (records == null || records.isEmpty()) {
+                    break;
+                }
+                for (MapRecord<String, Object, Object> record : records) {
+                    JsonNode chatroomId = objectMapper.readTree(String.valueOf(record.getValue().get(FIELD_MESSAGE)))
+                            .get("chatroomId");
+                    if (chatroomId != null && chatroomId.canConvertToInt()) {
+                        chatroomIds.add(chatroomId.intValue());
+                    }
+                }
+                range = Range.rightUnbounded(Range.Bound.exclusive(records.get(records.size() - 1).getId().getValue()));
+            } while (records.size() >= batchSize);
+        } catch (Exception e) {
+            log.warn("저장 대기 채팅방 조회 실패: {}", e.getMessage());
+            return null;
+        }
+        return chatroomIds;
+    }
+
+    /**
+     * 새 메시지 ID 발급 (Redis 카운터)
+     * - 지연 저장 모드에서는 MySQL AUTO_INCREMENT와 충돌하지 않도록 항상 이 ID로 저장해야 함
+     */
+    public int nextMessageId() {
+        Long id = redisTemplate.opsForValue().increment(MESSAGE_ID_KEY);
+        if (id != null && id <= dbMaxMessageId.get()) {
+            log.error("메시지 ID 카운터가 DB 최대 ID 이하, 카운터 재설정: issued={}, dbMax={}", id, dbMaxMessageId.get());
+            reseedMessageId();
+            id = redisTemplate.opsForValue().increment(MESSAGE_ID_KEY);
+        }
+        if (id == null || id <= dbMaxMessageId.get()) {
+            throw new IllegalStateException("메시지 ID 발급에 실패했습니다.");
+        }
+        return id.intValue();
+    }
+
+    /**
+     * 메시지 ID 카운터 점검 (기본 10초 간격)
+     * - Redis 키가 유실되었거나 AUTO_INCREMENT로 저장하는 노드가 있어 카운터가 DB 최대 ID보다 작아진 경우 올려서 맞춤
+     */
+    @Scheduled(fixedDelayString = "${chat.write-behind.id-check-interval-ms:10000}")
+    public void checkMessageIdCounter() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reseedMessageId();
+        } catch (Exception e) {
+            log.warn("메시지 ID 카운터 점검 실패: {}", e.getMessage());
+        }
+    }
+
+    private long reseedMessageId() {
+        Integer maxMessageId = chatMessageMapper.findMaxMessageId();
+        long max = maxMessageId != null ? maxMessageId : 0;
+        dbMaxMessageId.accumulateAndGet(max, Math::max);
+        Long seeded = redisTemplate.execute(SEED_ID_SCRIPT, Collections.singletonList(MESSAGE_ID_KEY), max);
+        return seeded != null ? seeded : max;
+    }
+
+    /**
+     * 메시지를 Stream 버퍼에 적재
+     * @return 적재 성공 여부 (false면 호출 측에서 동기 저장 필요)
+     */
+    public boolean enqueue(ChatMessage message, String lastMessage) {
+        if (pendingCount.get() >= maxPending) {
+            log.warn("채팅 메시지 버퍼 상한 도달, 동기 저장으로 대체: pending={}", pendingCount.get());
+            return false;
+        }
+        try {
+            append(message, lastMessage);
+            return true;
+        } catch (Exception e) {
+            log.warn("채팅 메시지 버퍼 적재 실패, 동기 저장으로 대체: messageId={}, error={}",
+                    message.getMessageId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void append(ChatMessage message, String lastMessage) throws Exception {
+        String payload = objectMapper.writeValueAsString(message);
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(FIELD_MESSAGE, payload);
+        fields.put(FIELD_LAST_MESSAGE, lastMessage);
+        redisTemplate.opsForStream().add(MapRecord.create(STREAM_KEY, fields));
+        pendingCount.incrementAndGet();
+        addBuffered(message, payload);
+    }
+
+    private void addBuffered(ChatMessage message, String payload) {
+        String key = BUFFERED_KEY_PREFIX + message.getChatroomId();
+        try {
+            redisTemplate.opsForZSet().add(key, payload, message.getMessageId());
+            redisTemplate.expire(key, BUFFER_KEY_TTL);
+        } catch (Exception e) {
+            // 조회에만 빠지고 저장은 Stream 기준으로 진행
+            log.warn("저장 대기 메시지 보관 실패: messageId={}, error={}", message.getMessageId(), e.getMessage());
+        }
+    }
+
+    private void removeBuffered(Map<Integer, List<String>> payloadsByChatroom) {
+        payloadsByChatroom.forEach((chatroomId, payloads) -> {
+            try {
+                redisTemplate.opsForZSet().remove(BUFFERED_KEY_PREFIX + chatroomId, payloads.toArray());
+            } catch (Exception e) {
+                log.warn("저장 대기 메시지 정리 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 채팅방의 아직 DB에 저장되지 않은 메시지 (메시지 ID 오름차순, 조회할 수 없으면 빈 목록)
+     * - 저장 직후 정리 전이면 DB 조회 결과와 겹칠 수 있으므로 호출 측에서 메시지 ID로 중복 제거
+     */
+    public List<ChatMessage> findBufferedMessages(Integer chatroomId) {
+        if (!enabled) {
+            return Collections.emptyList();
+        }
+        List<ChatMessage> messages = new ArrayList<>();
+        try {
+            Set<Object> payloads = redisTemplate.opsForZSet().range(BUFFERED_KEY_PREFIX + chatroomId, 0, -1);
+            if (payloads != null) {
+                for (Object payload : payloads) {
+                    messages.add(objectMapper.readValue(String.valueOf(payload), ChatMessage.class));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("저장 대기 메시지 조회 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+        }
+        return messages;
+    }
+
+    /**
+     * 읽음 처리 기록 (DB 읽음 상태 업데이트 전에 호출)
+     * - 아직 Stream에 남아 있는 메시지는 UPDATE 대상이 아니므로, 저장 시 이 시점까지 발급된 ID 이하 메시지를 읽음으로 저장
+     */
+    public void recordRead(Integer chatroomId, String readerEmail) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(READ_WATERMARK_SCRIPT, RedisSerializer.string(), new GenericToStringSerializer<>(Long.class),
+                    Arrays.asList(MESSAGE_ID_KEY, READ_WATERMARK_KEY_PREFIX + chatroomId),
+                    readerEmail, String.valueOf(BUFFER_KEY_TTL.toMillis()));
+        } catch (Exception e) {
+            log.warn("읽음 처리 기록 실패: chatroomId={}, reader={}, error={}", chatroomId, readerEmail, e.getMessage());
+        }
+    }
+
+    // 채팅방별 사용자가 읽은 마지막 메시지 ID (조회 실패 시 빈 값)
+    private Map<Integer, Map<String, Long>> readWatermarks(Set<Integer> chatroomIds) {
+        Map<Integer, Map<String, Long>> watermarks = new HashMap<>();
+        for (Integer chatroomId : chatroomIds) {
+            try {
+                Map<String, Long> readers = new HashMap<>();
+                redisTemplate.opsForHash().entries(READ_WATERMARK_KEY_PREFIX + chatroomId).forEach((reader, id) -> {
+                    if (id instanceof Number) {
+                        readers.put(reader.toString(), ((Number) id).longValue());
+                    }
+                });
+                watermarks.put(chatroomId, readers);
+            } catch (Exception e) {
+                log.warn("읽음 처리 기록 조회 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+            }
+        }
+        return watermarks;
+    }
+
+    // 발신자가 아닌 사용자가 이 메시지 ID 이후에 읽음 처리했는지 여부
+    private boolean isReadBy(ChatMessage message, Map<String, Long> readers) {
+        if (readers == null) {
+            return false;
+        }
+        for (Map.Entry<String, Long> reader : readers.entrySet()) {
+            if (!reader.getKey().equals(message.getSenderEmail()) && reader.getValue() >= message.getMessageId()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 저장 전에 읽은 기록은 INSERT 값(isRead)에 반영됨
+     * - 저장 전 확인 이후 읽음 처리가 기록되었다면 그 UPDATE가 아직 저장되지 않은 행을 놓쳤을 수 있으므로 저장 후 다시 반영
+     */
+    private void applyLateReads(List<ChatMessage> stored, Map<Integer, Map<String, Long>> before) {
+        Set<Integer> chatroomIds = new LinkedHashSet<>();
+        for (ChatMessage message : stored) {
+            chatroomIds.add(message.getChatroomId());
+        }
+        readWatermarks(chatroomIds).forEach((chatroomId, readers) -> readers.forEach((reader, watermark) -> {
+            Long previous = before.getOrDefault(chatroomId, Collections.emptyMap()).get(reader);
+            if (previous != null && previous >= watermark) {
+                return;
+            }
+            boolean missed = stored.stream().anyMatch(message -> chatroomId.equals(message.getChatroomId())
+                    && !message.isRead()
+                    && !reader.equals(message.getSenderEmail())
+                    && message.getMessageId() <= watermark);
+            if (missed) {
+                chatMessageMapper.updateMessageReadStatusUpTo(chatroomId, reader, watermark);
+            }
+        }));
+    }
+
+    /**
+     * 메시지와 채팅방 마지막 메시지를 즉시 저장 (버퍼 적재 실패 시)
+     * - ID가 다른 메시지와 겹치면 새 ID를 발급받아 다시 저장
+     */
+    public void writeThrough(ChatMessage message, String lastMessage) {
+        for (int attempt = 1; ; attempt++) {
+            chatMessageMapper.saveChatMessagesWithId(Collections.singletonList(message));
+            if (findCollisions(Collections.singletonList(message)).isEmpty()) {
+                break;
+            }
+            log.error("채팅 메시지 ID 충돌, 새 ID로 다시 저장: messageId={}, attempt={}", message.getMessageId(), attempt);
+            if (attempt >= MAX_ID_ATTEMPTS) {
+                throw new IllegalStateException("메시지 ID 충돌로 저장에 실패했습니다.");
+            }
+            reseedMessageId();
+            message.setMessageId(nextMessageId());
+        }
+        chatRoomMapper.updateChatRoomLastMessage(message.getChatroomId(), lastMessage, message.getSentAt());
+    }
+
+    /**
+     * Stream에 쌓인 메시지를 일괄 저장 (기본 200ms 간격)
+     * - 이 노드의 미처리(PEL) 메시지 → 장시간 방치된 다른 노드의 메시지 → 새 메시지 순으로 처리
+     */
+    @Scheduled(fixedDelayString = "${chat.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Consumer consumer = Consumer.from(CONSUMER_GROUP, consumerName);
+            StreamReadOptions options = StreamReadOptions.empty().count(batchSize);
+
+            // 1. 이전에 읽었지만 ACK 하지 못한 메시지 재처리
+            flushRecords(redisTemplate.opsForStream().read(consumer, options,
+                    StreamOffset.create(STREAM_KEY, ReadOffset.from("0"))));
+
+            // 2. 중단된 노드가 남긴 메시지 가져오기
+            claimIdleRecords();
+
+            // 3. 새 메시지 처리 (배치 크기만큼 반복)
+            List<MapRecord<String, Object, Object>> records;
+            do {
+                records = redisTemplate.opsForStream().read(consumer, options,
+                        StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+                flushRecords(records);
+            } while (records != null && records.size() >= batchSize);
+        } catch (Exception e) {
+            log.error("채팅 메시지 일괄 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void flushRecords(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+        List<ChatMessage> messages = new ArrayList<>();
+        List<String> payloads = new ArrayList<>();
+        List<String> lastMessages = new ArrayList<>();
+        List<RecordId> recordIds = new ArrayList<>();
+
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                String payload = String.valueOf(record.getValue().get(FIELD_MESSAGE));
+                ChatMessage message = objectMapper.readValue(payload, ChatMessage.class);
+                messages.add(message);
+                payloads.add(payload);
+                lastMessages.add((String) record.getValue().get(FIELD_LAST_MESSAGE));
+                recordIds.add(record.getId());
+            } catch (Exception e) {
+                // 역직렬화할 수 없는 레코드는 재시도해도 실패하므로 ACK 처리
+                log.error("채팅 메시지 버퍼 레코드 파싱 실패, 폐기: id={}, error={}", record.getId(), e.getMessage());
+                acknowledge(Collections.singletonList(record.getId()));
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        // 이미 읽음 처리된 메시지는 읽음으로 저장
+        Set<Integer> chatroomIds = new LinkedHashSet<>();
+        for (ChatMessage message : messages) {
+            chatroomIds.add(message.getChatroomId());
+        }
+        Map<Integer, Map<String, Long>> watermarks = readWatermarks(chatroomIds);
+        for (ChatMessage message : messages) {
+            if (isReadBy(message, watermarks.get(message.getChatroomId()))) {
+                message.setRead(true);
+            }
+        }
+
+        // 저장에 실패한 행은 ACK 하지 않고 다음 주기에 재시도
+        boolean[] failed = new boolean[messages.size()];
+        try {
+            chatMessageMapper.saveChatMessagesWithId(messages);
+        } catch (Exception e) {
+            // 일부 행 때문에 배치 전체가 막히지 않도록 개별 저장
+            log.warn("채팅 메시지 일괄 저장 실패, 개별 저장으로 재시도: {}", e.getMessage());
+            for (int i = 0; i < messages.size(); i++) {
+                try {
+                    chatMessageMapper.saveChatMessagesWithId(Collections.singletonList(messages.get(i)));
+                } catch (Exception rowEx) {
+                    log.error("채팅 메시지 저장 실패: messageId={}, error={}",
+                            messages.get(i).getMessageId(), rowEx.getMessage());
+                    failed[i] = true;
+                }
+            }
+        }
+
+        List<ChatMessage> inserted = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            if (!failed[i]) {
+                inserted.add(messages.get(i));
+            }
+        }
+        Set<Integer> collisions = inserted.isEmpty() ? Collections.emptySet() : findCollisions(inserted);
+        if (!collisions.isEmpty()) {
+            log.error("채팅 메시지 ID 충돌, 카운터 재설정 후 새 ID로 다시 적재: messageIds={}", collisions);
+            reseedMessageId();
+        }
+
+        // 저장이 확인된 메시지만 ACK, 채팅방별 가장 마지막 메시지만 갱신
+        List<RecordId> storedIds = new ArrayList<>();
+        List<ChatMessage> stored = new ArrayList<>();
+        Map<Integer, List<String>> storedPayloads = new LinkedHashMap<>();
+        Map<Integer, Integer> latestIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            ChatMessage message = messages.get(i);
+            if (failed[i]) {
+                continue;
+            }
+            Integer chatroomId = message.getChatroomId();
+            if (collisions.contains(message.getMessageId())) {
+                if (reissue(message, lastMessages.get(i))) {
+                    storedIds.add(recordIds.get(i));
+                    storedPayloads.computeIfAbsent(chatroomId, key -> new ArrayList<>()).add(payloads.get(i));
+                }
+                continue;
+            }
+            storedIds.add(recordIds.get(i));
+            stored.add(message);
+            storedPayloads.computeIfAbsent(chatroomId, key -> new ArrayList<>()).add(payloads.get(i));
+            latestIndexes.put(chatroomId, i);
+        }
+        latestIndexes.forEach((chatroomId, i) -> chatRoomMapper.updateChatRoomLastMessage(
+                chatroomId, lastMessages.get(i), messages.get(i).getSentAt()));
+        if (!stored.isEmpty()) {
+            applyLateReads(stored, watermarks);
+        }
+
+        if (!storedIds.isEmpty()) {
+            acknowledge(storedIds);
+            removeBuffered(storedPayloads);
+        }
+        log.debug("채팅 메시지 {}건 일괄 저장 완료", storedIds.size());
+    }
+
+    /**
+     * 저장 후 같은 ID의 행이 다른 메시지인 메시지 ID (채팅방, 발신자, 내용, 메시지 타입, 전송 시간 비교)
+     * - 같은 사용자가 같은 초에 보낸 다른 메시지도 내용/타입으로 구분
+     * - 저장된 행이 없는 경우도 충돌로 간주
+     */
+    private Set<Integer> findCollisions(List<ChatMessage> messages) {
+        List<Integer> messageIds = new ArrayList<>();
+        for (ChatMessage message : messages) {
+            messageIds.add(message.getMessageId());
+        }
+        Map<Integer, ChatMessage> stored = new HashMap<>();
+        for (ChatMessage row : chatMessageMapper.findStoredMessagesByIds(messageIds)) {
+            stored.put(row.getMessageId(), row);
+        }
+        Set<Integer> collisions = new LinkedHashSet<>();
+        for (ChatMessage message : messages) {
+            if (!isSameMessage(message, stored.get(message.getMessageId()))) {
+                collisions.add(message.getMessageId());
+            }
+        }
+        return collisions;
+    }
+
+    private boolean isSameMessage(ChatMessage message, ChatMessage stored) {
+        if (stored == null) {
+            return false;
+        }
+        // DATETIME 컬럼은 소수점 이하 초를 반올림해 저장하므로 1초 이내면 같은 시간으로 봄
+        boolean sameTime = message.getSentAt() == null || stored.getSentAt() == null
+                ? message.getSentAt() == stored.getSentAt()
+                : Math.abs(Duration.between(message.getSentAt(), stored.getSentAt()).toMillis()) < 1000;
+        return Objects.equals(message.getChatroomId(), stored.getChatroomId())
+                && Objects.equals(message.getSenderEmail(), stored.getSenderEmail())
+                && Objects.equals(message.getContent(), stored.getContent())
+                && Objects.equals(message.getMessageType(), stored.getMessageType())
+                && sameTime;
+    }
+
+    /**
+     * ID가 충돌한 메시지에 새 ID를 발급해 Stream에 다시 적재
+     * @return 다시 적재했으면 true (원래 레코드 ACK 가능), 실패하면 원래 레코드를 남겨 다음 주기에 재시도
+     */
+    private boolean reissue(ChatMessage message, String lastMessage) {
+        Integer collidedId = message.getMessageId();
+        try {
+            message.setMessageId(nextMessageId());
+            append(message, lastMessage);
+            log.warn("채팅 메시지 새 ID로 다시 적재: {} -> {}", collidedId, message.getMessageId());
+            return true;
+        } catch (Exception e) {
+            log.error("채팅 메시지 다시 적재 실패: messageId={}, error={}", collidedId, e.getMessage());
+            return false;
+        }
+    }
+
+    private void claimIdleRecords() {
+        PendingMessages pending = redisTemplate.opsForStream()
+                .pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), batchSize);
+        List<RecordId> idleIds = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (!consumerName.equals(message.getConsumerName())
+                    && message.getElapsedTimeSinceLastDelivery().toMillis() >= claimIdleMs) {
+                idleIds.add(message.getId());
+            }
+        }
+        if (idleIds.isEmpty()) {
+            return;
+        }
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(
+                STREAM_KEY, CONSUMER_GROUP, consumerName, Duration.ofMillis(claimIdleMs),
+                idleIds.toArray(new RecordId[0]));
+        log.info("중단된 노드의 채팅 메시지 {}건 인계", claimed.size());
+        flushRecords(claimed);
+    }
+
+    private void acknowledge(List<RecordId> recordIds) {
+        RecordId[] ids = recordIds.toArray(new RecordId[0]);
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, ids);
+        redisTemplate.opsForStream().delete(STREAM_KEY, ids);
+        pendingCount.updateAndGet(count -> Math.max(count - ids.length, 0));
+    }
+
+    private String resolveConsumerName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "core-" + UUID.randomUUID();
+        }
+    }
+}
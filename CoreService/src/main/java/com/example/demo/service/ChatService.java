@@ -19,7 +19,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -32,6 +38,7 @@ public class ChatService {
     private final UserMapper userMapper;
     private final ProductImageMapper productImageMapper;
     private final ProductRequestMapper productRequestMapper;
+    private final ChatUnreadCounterService unreadCounterService;
 
     /**
      * 채팅방 생성 또는 조회
@@ -88,8 +95,8 @@ public class ChatService {
             chatRoom = existingChatRoom;
         }
         
-        User seller = userMapper.findByEmail(sellerEmail);
-        User buyer = userMapper.findByEmail(requestEmail);
+        User seller = userMapper.findProfileByEmail(sellerEmail);
+        User buyer = userMapper.findProfileByEmail(requestEmail);
         
         String thumbnailPath = getProductThumbnailImage(product.getId());
         
@@ -121,32 +128,7 @@ public class ChatService {
      */
     public ChatRoomResponse getChatRoomsByUser(String userEmail) {
         List<ChatRoom> chatRooms = chatRoomMapper.findChatRoomsByUser(userEmail);
-        List<ChatRoom> enhancedChatRooms = new ArrayList<>();
-        
-        for (ChatRoom room : chatRooms) {
-            Product product = productMapper.findById(room.getProductId(), userEmail);
-            if (product != null) {
-                room.setProductName(product.getTitle());
-                
-                // 대화 상대 정보 설정
-                String otherEmail = room.getSellerEmail().equals(userEmail) ? 
-                        room.getRequestEmail() : room.getSellerEmail();
-                User otherUser = userMapper.findByEmail(otherEmail);
-                if (otherUser != null) {
-                    room.setOtherUserName(otherUser.getNickname());
-                }
-                
-                // 상품 이미지 설정
-                String thumbnailPath = getProductThumbnailImage(room.getProductId());
-                room.setProductImageUrl(thumbnailPath);
-                
-                // 읽지 않은 메시지 수 설정
-                int unreadCount = chatMessageMapper.countUnreadMessages(room.getChatroomId(), userEmail);
-                room.setUnreadCount(unreadCount);
-                
-                enhancedChatRooms.add(room);
-            }
-        }
+        List<ChatRoom> enhancedChatRooms = enrichChatRooms(chatRooms, userEmail);
         
         return ChatRoomResponse.builder()
                 .success(true)
@@ -207,7 +189,7 @@ public class ChatService {
         String otherUserEmail = sellerEmail.equals(userEmail) ? 
                 requestEmail : sellerEmail;
         
-        User otherUser = userMapper.findByEmail(otherUserEmail);
+        User otherUser = userMapper.findProfileByEmail(otherUserEmail);
         if (otherUser == null) {
             return ChatRoomResponse.builder()
                     .success(false)
@@ -217,6 +199,7 @@ public class ChatService {
         
         // 메시지 읽음 상태 업데이트
         chatMessageMapper.updateMessageReadStatus(chatroomId, userEmail);
+        unreadCounterService.reset(userEmail, chatroomId);
         
         return ChatRoomResponse.builder()
                 .success(true)
@@ -248,6 +231,79 @@ public class ChatService {
         return null;
     }
     
+    /**
+     * 채팅방 목록에 상품명, 상품 이미지, 상대방 닉네임, 읽지 않은 메시지 수 설정
+     * - 채팅방 수와 관계없이 상품, 대표 이미지, 사용자를 각각 한 번의 쿼리로 일괄 조회
+     * - 읽지 않은 메시지 수는 ChatUnreadCounterService(Redis 카운터)에서 조회
+     * - 조회 권한이 없는 상품(findById 조건과 동일)의 채팅방은 목록에서 제외
+     */
+    private List<ChatRoom> enrichChatRooms(List<ChatRoom> chatRooms, String userEmail) {
+        if (chatRooms == null || chatRooms.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<Long> productIds = chatRooms.stream()
+                .map(ChatRoom::getProductId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Product> productMap = productMapper.findByIdsForChatRooms(productIds, userEmail).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity(), (a, b) -> a));
+        if (productMap.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Map<Long, String> thumbnailMap = productImageMapper.findThumbnailsByProductIds(
+                        new ArrayList<>(productMap.keySet())).stream()
+                .collect(Collectors.toMap(ProductImage::getProductId,
+                        image -> "/api/core/market/products/images/" + image.getId(), (a, b) -> a));
+        
+        List<ChatRoom> visibleRooms = new ArrayList<>();
+        Set<String> otherEmails = new HashSet<>();
+        for (ChatRoom room : chatRooms) {
+            Product product = productMap.get(room.getProductId());
+            if (product != null) {
+                visibleRooms.add(room);
+                otherEmails.add(getOtherUserEmail(room, product, userEmail));
+            }
+        }
+        
+        Map<String, String> nicknameMap = new HashMap<>();
+        for (User user : userMapper.findByEmails(new ArrayList<>(otherEmails))) {
+            nicknameMap.put(user.getEmail(), user.getNickname());
+        }
+        
+        List<Integer> chatroomIds = visibleRooms.stream()
+                .map(ChatRoom::getChatroomId)
+                .collect(Collectors.toList());
+        Map<Integer, Integer> unreadCountMap = unreadCounterService.getUnreadCounts(userEmail, chatroomIds);
+        
+        for (ChatRoom room : visibleRooms) {
+            Product product = productMap.get(room.getProductId());
+            room.setProductName(product.getTitle());
+            
+            // 대화 상대 정보 설정
+            String otherNickname = nicknameMap.get(getOtherUserEmail(room, product, userEmail));
+            if (otherNickname != null) {
+                room.setOtherUserName(otherNickname);
+            }
+            
+            // 상품 이미지 설정
+            room.setProductImageUrl(thumbnailMap.get(room.getProductId()));
+            
+            // 읽지 않은 메시지 수 설정
+            room.setUnreadCount(unreadCountMap.getOrDefault(room.getChatroomId(), 0));
+        }
+        
+        return visibleRooms;
+    }
+    
+    /**
+     * 채팅방 대화 상대 이메일 (상품 등록자인 경우 구매자, 구매자/요청자인 경우 판매자)
+     */
+    private String getOtherUserEmail(ChatRoom room, Product product, String userEmail) {
+        return product.getEmail().equals(userEmail) ? room.getRequestEmail() : product.getEmail();
+    }
+    
     /**
      * 채팅방 상태 업데이트
      */
@@ -275,40 +331,7 @@ public class ChatService {
      */
     public ChatRoomResponse getActiveChatRoomsByUser(String userEmail) {
         List<ChatRoom> chatRooms = chatRoomMapper.findActiveChatRoomsByUser(userEmail);
-        List<ChatRoom> enhancedChatRooms = new ArrayList<>();
-        
-        for (ChatRoom room : chatRooms) {
-            Product product = productMapper.findById(room.getProductId(), userEmail);
-            if (product != null) {
-                room.setProductName(product.getTitle());
-                
-                // 대화 상대 정보 설정
-                String otherEmail;
-                
-                if (product.getEmail().equals(userEmail)) {
-                    // 상품 등록자인 경우, 상대방은 구매자
-                    otherEmail = room.getRequestEmail();
-                } else {
-                    // 구매자/요청자인 경우, 상대방은 판매자
-                    otherEmail = product.getEmail();
-                }
-                
-                User otherUser = userMapper.findByEmail(otherEmail);
-                if (otherUser != null) {
-                    room.setOtherUserName(otherUser.getNickname());
-                }
-                
-                // 상품 이미지 설정
-                String thumbnailPath = getProductThumbnailImage(room.getProductId());
-                room.setProductImageUrl(thumbnailPath);
-                
-                // 읽지 않은 메시지 수 설정
-                int unreadCount = chatMessageMapper.countUnreadMessages(room.getChatroomId(), userEmail);
-                room.setUnreadCount(unreadCount);
-                
-                enhancedChatRooms.add(room);
-            }
-        }
+        List<ChatRoom> enhancedChatRooms = enrichChatRooms(chatRooms, userEmail);
         
         return ChatRoomResponse.builder()
                 .success(true)
@@ -0,0 +1,271 @@
+package com.example.demo.service;
+
+import com.example.demo.mapper.ChatMessageMapper;
+import com.example.demo.model.chat.ChatRoom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방별 읽지 않은 메시지 수를 Redis 해시로 관리하는 서비스
+ * - 키: chat:unread:{사용자 이메일}, 필드: 채팅방 ID, 값: 읽지 않은 메시지 수
+ * - 메시지 전송 시 수신자 카운터 증가(트랜잭션 안이면 커밋 후, 롤백되면 증가하지 않음), 읽음 처리 시 초기화
+ * - Redis에 값이 없거나 장애가 발생한 경우 MySQL에서 직접 집계
+ * - 주기적으로 MySQL 집계값과 비교하여 카운터 보정 (읽은 값이 그대로일 때만 교체하여 그 사이 증가분을 덮어쓰지 않음)
+ * - 지연 저장 버퍼에 아직 DB에 반영되지 않은 메시지가 있으면 MySQL 집계가 실제보다 작으므로 적재하지 않고,
+ *   보정은 대기 메시지가 있는 채팅방만 제외하고 진행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatUnreadCounterService {
+
+    private static final String KEY_PREFIX = "chat:unread:";
+    private static final Duration KEY_TTL = Duration.ofDays(7);
+
+    // 보정 시 한 번에 카운터를 읽는 사용자 수
+    private static final int RECONCILE_KEY_BATCH = 500;
+
+    // 카운터가 읽은 값(ARGV[2]) 그대로일 때만 보정값(ARGV[3])으로 교체
+    private static final DefaultRedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[3]) return 1 end " +
+            "return 0", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChatMessageMapper chatMessageMapper;
+    private final ChatMessageWriteBuffer writeBuffer;
+
+    @Value("${chat.unread-counter.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Redis 카운터 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 수신자의 채팅방 읽지 않은 메시지 수 1 증가 (트랜잭션 안이면 커밋 후 증가)
+     */
+    public void increment(String receiverEmail, Integer chatroomId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                String key = key(receiverEmail);
+                redisTemplate.opsForHash().increment(key, String.valueOf(chatroomId), 1);
+                redisTemplate.expire(key, KEY_TTL);
+            } catch (Exception e) {
+                log.warn("읽지 않은 메시지 카운터 증가 실패: email={}, chatroomId={}, error={}",
+                        receiverEmail, chatroomId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 수신자의 채팅방 읽지 않은 메시지 수 초기화 (읽음 처리 후 호출)
+     */
+    public void reset(String receiverEmail, Integer chatroomId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForHash().put(key(receiverEmail), String.valueOf(chatroomId), 0);
+        } catch (Exception e) {
+            log.warn("읽지 않은 메시지 카운터 초기화 실패: email={}, chatroomId={}, error={}",
+                    receiverEmail, chatroomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 채팅방의 읽지 않은 메시지 수 조회
+     * - Redis에 있는 값은 그대로 사용하고, 없는 채팅방만 MySQL에서 한 번에 집계 후 Redis에 적재
+     * @return 채팅방 ID -> 읽지 않은 메시지 수 (읽지 않은 메시지가 없는 채팅방은 0)
+     */
+    public Map<Integer, Integer> getUnreadCounts(String receiverEmail, List<Integer> chatroomIds) {
+        Map<Integer, Integer> unreadCounts = new HashMap<>();
+        if (chatroomIds == null || chatroomIds.isEmpty()) {
+            return unreadCounts;
+        }
+        if (!enabled) {
+            unreadCounts.putAll(countFromDatabase(receiverEmail, chatroomIds));
+            return unreadCounts;
+        }
+
+        List<Integer> missingIds = new ArrayList<>();
+        try {
+            List<Object> fields = chatroomIds.stream().map(String::valueOf).collect(Collectors.toList());
+            List<Object> values = redisTemplate.opsForHash().multiGet(key(receiverEmail), fields);
+            for (int i = 0; i < chatroomIds.size(); i++) {
+                Object value = values.get(i);
+                if (value instanceof Number) {
+                    unreadCounts.put(chatroomIds.get(i), Math.max(((Number) value).intValue(), 0));
+                } else {
+                    missingIds.add(chatroomIds.get(i));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("읽지 않은 메시지 카운터 조회 실패, DB 집계로 대체: email={}, error={}",
+                    receiverEmail, e.getMessage());
+            unreadCounts.putAll(countFromDatabase(receiverEmail, chatroomIds));
+            return unreadCounts;
+        }
+
+        if (!missingIds.isEmpty()) {
+            Map<Integer, Integer> counted = countFromDatabase(receiverEmail, missingIds);
+            unreadCounts.putAll(counted);
+            if (writeBuffer.hasBacklog()) {
+                // 버퍼의 메시지가 빠진 집계값이므로 응답에만 사용하고 적재하지 않음
+                return unreadCounts;
+            }
+            try {
+                String key = key(receiverEmail);
+                // 그 사이 증가된 카운터를 덮어쓰지 않도록 비어 있는 필드만 채움
+                counted.forEach((chatroomId, count) ->
+                        redisTemplate.opsForHash().putIfAbsent(key, String.valueOf(chatroomId), count));
+                redisTemplate.expire(key, KEY_TTL);
+            } catch (Exception e) {
+                log.warn("읽지 않은 메시지 카운터 적재 실패: email={}, error={}", receiverEmail, e.getMessage());
+            }
+        }
+        return unreadCounts;
+    }
+
+    /**
+     * Redis 카운터를 MySQL 집계값과 비교하여 보정 (기본 5분 간격)
+     * - Redis에 카운터가 존재하는 사용자만 대상으로 함
+     */
+    @Scheduled(fixedDelayString = "${chat.unread-counter.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        int corrected = 0;
+        try {
+            List<String> keys = scanKeys();
+            for (int from = 0; from < keys.size(); from += RECONCILE_KEY_BATCH) {
+                Map<String, Map<Object, Object>> counters = new LinkedHashMap<>();
+                for (String key : keys.subList(from, Math.min(from + RECONCILE_KEY_BATCH, keys.size()))) {
+                    counters.put(key, redisTemplate.opsForHash().entries(key));
+                }
+                // 카운터를 읽은 뒤에 확인해야 그 사이 Stream에서 빠진 메시지가 DB 집계에 포함됨
+                Set<Integer> pendingChatroomIds = writeBuffer.findPendingChatroomIds();
+                if (pendingChatroomIds == null) {
+                    log.debug("저장 대기 채팅방을 확인할 수 없어 읽지 않은 메시지 카운터 보정 생략");
+                    break;
+                }
+                for (Map.Entry<String, Map<Object, Object>> counter : counters.entrySet()) {
+                    corrected += reconcileKey(counter.getKey(), counter.getValue(), pendingChatroomIds);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("읽지 않은 메시지 카운터 보정 실패: {}", e.getMessage());
+            return;
+        }
+        if (corrected > 0) {
+            log.info("읽지 않은 메시지 카운터 보정 완료: {}건 수정", corrected);
+        }
+    }
+
+    private int reconcileKey(String key, Map<Object, Object> entries, Set<Integer> pendingChatroomIds) {
+        String receiverEmail = key.substring(KEY_PREFIX.length());
+        // DB에 아직 반영되지 않은 메시지가 있는 채팅방은 다음 주기에 보정
+        List<Integer> chatroomIds = entries.keySet().stream()
+                .map(field -> Integer.valueOf(field.toString()))
+                .filter(chatroomId -> !pendingChatroomIds.contains(chatroomId))
+                .collect(Collectors.toList());
+        if (chatroomIds.isEmpty()) {
+            return 0;
+        }
+        Map<Integer, Integer> actual = countFromDatabase(receiverEmail, chatroomIds);
+
+        int corrected = 0;
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            Integer chatroomId = Integer.valueOf(entry.getKey().toString());
+            if (!actual.containsKey(chatroomId)) {
+                continue;
+            }
+            int expected = actual.getOrDefault(chatroomId, 0);
+            Object cached = entry.getValue();
+            if (!(cached instanceof Number)) {
+                redisTemplate.opsForHash().put(key, entry.getKey(), expected);
+                corrected++;
+            } else if (((Number) cached).longValue() != expected) {
+                // 집계하는 사이 증가/초기화된 카운터는 다음 주기에 다시 비교
+                Long swapped = redisTemplate.execute(COMPARE_AND_SET_SCRIPT, Collections.singletonList(key),
+                        chatroomId, ((Number) cached).longValue(), expected);
+                if (swapped != null && swapped == 1L) {
+                    corrected++;
+                }
+            }
+        }
+        return corrected;
+    }
+
+    private List<String> scanKeys() {
+        return redisTemplate.execute((RedisCallback<List<String>>) connection -> collectKeys(connection));
+    }
+
+    private List<String> collectKeys(RedisConnection connection) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(500).build();
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+            }
+        }
+        return keys;
+    }
+
+    private Map<Integer, Integer> countFromDatabase(String receiverEmail, List<Integer> chatroomIds) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (Integer chatroomId : chatroomIds) {
+            counts.put(chatroomId, 0);
+        }
+        for (ChatRoom unread : chatMessageMapper.countUnreadMessagesByChatRoomIds(chatroomIds, receiverEmail)) {
+            counts.put(unread.getChatroomId(), unread.getUnreadCount());
+        }
+        return counts;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private String key(String email) {
+        return KEY_PREFIX + email;
+    }
+}
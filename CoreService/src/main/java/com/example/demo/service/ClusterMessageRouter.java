@@ -0,0 +1,153 @@
+package com.example.demo.service;
+
+import com.example.demo.listener.StompSubscriptionRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 구독자가 있는 노드에만 STOMP 메시지를 전달하는 라우터 (websocket.broker.mode=routed)
+ * - StompSubscriptionRegistry에서 목적지를 구독 중인 노드 목록을 조회
+ * - 이 노드는 SimpleBroker로 바로 전달, 다른 노드는 노드 전용 Redis 채널(ws:node:{nodeId})로 발행
+ * - 수신자가 없는 노드 채널(중단된 노드)은 구독 정보에서 제거
+ * - 노드 간 전달 형식: "{destination}\n{STOMP JSON 페이로드}" (페이로드는 한 번만 인코딩하고 수신 노드는 그대로 전달)
+ * - broadcast 모드(기본값)에서는 사용하지 않으며 기존 채팅/알림 Redis 채널로 전체 노드에 발행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterMessageRouter implements MessageListener {
+
+    private static final String NODE_CHANNEL_PREFIX = "ws:node:";
+
+    private final StompSubscriptionRegistry subscriptionRegistry;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MappingJackson2MessageConverter messageConverter;
+
+    @PostConstruct
+    public void init() {
+        if (!isEnabled()) {
+            return;
+        }
+        String channel = NODE_CHANNEL_PREFIX + subscriptionRegistry.getNodeId();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        log.info("STOMP 노드 라우팅 활성화: channel={}", channel);
+    }
+
+    public boolean isEnabled() {
+        return subscriptionRegistry.isEnabled();
+    }
+
+    /**
+     * 목적지를 구독 중인 노드에만 메시지 전달
+     */
+    public void send(String destination, Object payload) {
+        Set<Object> nodeIds = subscriptionRegistry.findSubscribedNodes(destination);
+        if (nodeIds == null || nodeIds.isEmpty()) {
+            log.debug("구독 중인 노드 없음: destination={}", destination);
+            return;
+        }
+
+        byte[] json;
+        try {
+            json = messageConverter.getObjectMapper().writeValueAsBytes(payload);
+        } catch (Exception e) {
+            log.error("노드 메시지 인코딩 실패: destination={}, error={}", destination, e.getMessage());
+            return;
+        }
+
+        byte[] envelope = null;
+        for (Object node : nodeIds) {
+            String nodeId = String.valueOf(node);
+            if (nodeId.equals(subscriptionRegistry.getNodeId())) {
+                forward(destination, json);
+                continue;
+            }
+            try {
+                if (envelope == null) {
+                    envelope = toEnvelope(destination, json);
+                }
+                Long receivers = publish(NODE_CHANNEL_PREFIX + nodeId, envelope);
+                if (receivers != null && receivers == 0) {
+                    subscriptionRegistry.removeNode(destination, nodeId);
+                }
+            } catch (Exception e) {
+                log.error("노드 메시지 전달 실패: destination={}, nodeId={}, error={}",
+                        destination, nodeId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 다른 노드에서 전달된 메시지를 이 노드의 구독자에게 전송
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            byte[] body = message.getBody();
+            int separator = indexOf(body, (byte) '\n');
+            if (separator < 0) {
+                log.warn("잘못된 노드 메시지 형식, 무시합니다.");
+                return;
+            }
+            String destination = new String(body, 0, separator, StandardCharsets.UTF_8);
+            if (subscriptionRegistry.hasLocalSubscribers(destination)) {
+                forward(destination, Arrays.copyOfRange(body, separator + 1, body.length));
+            }
+        } catch (Exception e) {
+            log.error("노드 메시지 처리 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 인코딩된 JSON 페이로드를 변환 없이 STOMP 목적지로 전달
+     */
+    private void forward(String destination, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
+
+    private byte[] toEnvelope(String destination, byte[] json) {
+        byte[] rawDestination = destination.getBytes(StandardCharsets.UTF_8);
+        byte[] envelope = new byte[rawDestination.length + 1 + json.length];
+        System.arraycopy(rawDestination, 0, envelope, 0, rawDestination.length);
+        envelope[rawDestination.length] = '\n';
+        System.arraycopy(json, 0, envelope, rawDestination.length + 1, json.length);
+        return envelope;
+    }
+
+    private static int indexOf(byte[] bytes, byte target) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Long publish(String channel, byte[] body) {
+        byte[] rawChannel = channel.getBytes(StandardCharsets.UTF_8);
+        return redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(rawChannel, body));
+    }
+}
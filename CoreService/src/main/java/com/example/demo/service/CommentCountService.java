@@ -0,0 +1,125 @@
+package com.example.demo.service;
+
+import com.example.demo.mapper.board.CommentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 댓글 수(comment_count) / 댓글 대댓글 수(reply_count) 관리
+ * - 댓글 작성/삭제 시 COUNT로 다시 세지 않고 +1/-1 원자적 UPDATE로 반영 (쓰기 비용이 댓글 수와 무관)
+ * - 댓글이 변경된 게시글 ID를 Redis SET(board:comment-counts:dirty)에 기록 (트랜잭션 안이면 커밋 후 기록, 커밋 전 값으로 보정하지 않도록)
+ * - 스케줄러가 변경된 게시글만 꺼내 실제 댓글 수로 보정 (실패하면 다시 기록해 다음 주기에 재시도)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CommentCountService {
+
+    private static final String DIRTY_POSTS_KEY = "board:comment-counts:dirty";
+
+    private final CommentMapper commentMapper;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 한 번의 보정 쿼리로 처리할 게시글 수
+    @Value("${board.comment-counts.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    /**
+     * 댓글 작성 반영 (호출 측 트랜잭션과 함께 커밋/롤백)
+     */
+    public void commentCreated(Long postId, Long parentId) {
+        if (parentId != null) {
+            commentMapper.adjustReplyCount(parentId, 1);
+        }
+        commentMapper.adjustPostCommentCount(postId, 1);
+        markChanged(postId);
+    }
+
+    /**
+     * 댓글 삭제 반영 (호출 측 트랜잭션과 함께 커밋/롤백)
+     */
+    public void commentDeleted(Long postId, Long parentId) {
+        if (parentId != null) {
+            commentMapper.adjustReplyCount(parentId, -1);
+        }
+        commentMapper.adjustPostCommentCount(postId, -1);
+        markChanged(postId);
+    }
+
+    private void markChanged(Long postId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.opsForSet().add(DIRTY_POSTS_KEY, String.valueOf(postId));
+            } catch (Exception e) {
+                log.warn("댓글 수 보정 대상 기록 실패: postId={}, error={}", postId, e.getMessage());
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 댓글이 변경된 게시글의 댓글 수 보정 (기본 5분 간격)
+     */
+    @Scheduled(fixedDelayString = "${board.comment-counts.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Set<Long> postIds;
+        while (!(postIds = takeChangedPosts()).isEmpty()) {
+            try {
+                int posts = commentMapper.reconcilePostCommentCounts(postIds);
+                int comments = commentMapper.reconcileReplyCounts(postIds);
+                if (posts > 0 || comments > 0) {
+                    log.warn("댓글 수 보정: 게시글 {}건, 댓글 {}건 (대상 게시글 {}건)", posts, comments, postIds.size());
+                }
+            } catch (Exception e) {
+                log.warn("댓글 수 보정 실패, 다음 주기에 재시도: 게시글 {}건, error={}", postIds.size(), e.getMessage());
+                restore(postIds);
+                return;
+            }
+        }
+    }
+
+    private Set<Long> takeChangedPosts() {
+        Set<Long> postIds = new LinkedHashSet<>();
+        try {
+            List<Object> popped = redisTemplate.opsForSet().pop(DIRTY_POSTS_KEY, reconcileBatchSize);
+            if (popped != null) {
+                for (Object value : popped) {
+                    postIds.add(Long.valueOf(value.toString()));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("댓글 수 보정 대상 조회 실패: {}", e.getMessage());
+        }
+        return postIds;
+    }
+
+    private void restore(Set<Long> postIds) {
+        try {
+            redisTemplate.opsForSet().add(DIRTY_POSTS_KEY, postIds.stream().map(String::valueOf).toArray());
+        } catch (Exception e) {
+            log.error("댓글 수 보정 대상 복구 실패: 게시글 {}건, error={}", postIds.size(), e.getMessage());
+        }
+    }
+}
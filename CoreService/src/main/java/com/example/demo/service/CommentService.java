@@ -1,6 +1,7 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.board.CommentCreateRequest;
+import com.example.demo.dto.board.CommentFeedResponse;
 import com.example.demo.dto.board.CommentResponse;
 import com.example.demo.dto.board.CommentUpdateRequest;
 import com.example.demo.mapper.board.BoardMapper;
@@ -13,11 +14,14 @@ import com.example.demo.model.board.Comment;
 import com.example.demo.model.board.Post;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,6 +33,13 @@ public class CommentService {
     private final PostMapper postMapper;
     private final BoardMapper boardMapper;
     private final BoardMemberMapper boardMemberMapper;
+    private final CommentCountService commentCountService;
+
+    // 댓글 목록 한 페이지 최대 최상위 댓글 수
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
+    @Value("${board.comments.page-size:20}")
+    private int defaultCommentPageSize;
 
     /**
      * 댓글 생성
@@ -90,15 +101,8 @@ public class CommentService {
         
         commentMapper.createComment(comment);
         
-        // 부모 댓글이 있는 경우 대댓글 수 업데이트
-        if (request.getParentId() != null) {
-            int replyCount = commentMapper.countRepliesByParentId(request.getParentId());
-            commentMapper.updateReplyCount(request.getParentId(), replyCount);
-        }
-        
-        // 게시글의 댓글 수 업데이트
-        int commentCount = commentMapper.countCommentsByPostId(request.getPostId());
-        commentMapper.updatePostCommentCount(request.getPostId(), commentCount);
+        // 게시글 댓글 수 및 부모 댓글의 대댓글 수 +1
+        commentCountService.commentCreated(request.getPostId(), request.getParentId());
         
         // 생성된 댓글 조회
         Comment createdComment = commentMapper.getCommentById(comment.getId());
@@ -175,24 +179,52 @@ public class CommentService {
             throw new IllegalArgumentException("댓글 작성자, 게시판 관리자, 게시글 작성자만 삭제할 수 있습니다.");
         }
         
-        // 댓글 삭제
-        commentMapper.deleteComment(commentId, email);
-        
-        // 부모 댓글이 있는 경우 대댓글 수 업데이트
-        if (comment.getParentId() != null) {
-            int replyCount = commentMapper.countRepliesByParentId(comment.getParentId());
-            commentMapper.updateReplyCount(comment.getParentId(), replyCount);
+        // 댓글 삭제 후 실제로 삭제된 경우에만 게시글 댓글 수 및 부모 댓글의 대댓글 수 -1
+        if (commentMapper.deleteComment(commentId, email) > 0) {
+            commentCountService.commentDeleted(comment.getPostId(), comment.getParentId());
         }
-        
-        // 게시글의 댓글 수 업데이트
-        int commentCount = commentMapper.countCommentsByPostId(comment.getPostId());
-        commentMapper.updatePostCommentCount(comment.getPostId(), commentCount);
     }
 
     /**
      * 게시글의 댓글 목록 조회
+     * - 최상위 댓글과 대댓글을 한 번에 조회한 뒤 트리로 구성 (댓글별 대댓글 조회 없음)
      */
     public List<CommentResponse> getCommentsByPostId(String email, Long postId) {
+        validateCommentReader(email, postId);
+        
+        // 댓글 전체 조회 후 트리 구성
+        return buildCommentTree(commentMapper.getCommentTreeByPostId(postId, null, null), email);
+    }
+
+    /**
+     * 게시글의 댓글 목록 커서 조회 (최상위 댓글 기준, 최신순)
+     * - cursor 최상위 댓글 ID 이전 최상위 댓글을 size개 조회 (없으면 가장 최근 댓글부터), 최대 MAX_COMMENT_PAGE_SIZE개
+     * - 각 최상위 댓글의 대댓글은 모두 replies에 포함
+     */
+    public CommentFeedResponse getCommentFeed(String email, Long postId, Long cursor, Integer size) {
+        validateCommentReader(email, postId);
+        
+        int pageSize = (size != null && size > 0) ? Math.min(size, MAX_COMMENT_PAGE_SIZE) : defaultCommentPageSize;
+        
+        // 다음 페이지 존재 여부 확인을 위해 최상위 댓글 1개 더 조회
+        List<CommentResponse> comments = buildCommentTree(
+                commentMapper.getCommentTreeByPostId(postId, cursor, pageSize + 1), email);
+        boolean hasMore = comments.size() > pageSize;
+        if (hasMore) {
+            comments = comments.subList(0, pageSize);
+        }
+        
+        return CommentFeedResponse.builder()
+                .comments(comments)
+                .hasMore(hasMore)
+                .nextCursor(comments.isEmpty() ? null : comments.get(comments.size() - 1).getId())
+                .build();
+    }
+
+    /**
+     * 댓글 조회 권한 확인 (게시판 호스트 또는 활성 멤버)
+     */
+    private void validateCommentReader(String email, Long postId) {
         // 게시글 존재 여부 확인
         Post post = postMapper.getPostById(postId);
         if (post == null) {
@@ -219,30 +251,32 @@ public class CommentService {
         if (!isHost && !isMember) {
             throw new IllegalArgumentException("게시판의 멤버만 댓글을 볼 수 있습니다.");
         }
-        
-        // 최상위 댓글 목록 조회
-        List<Comment> comments = commentMapper.getCommentsByPostId(postId);
-        
-        // 각 댓글의 대댓글 조회 및 응답 데이터 구성
-        List<CommentResponse> commentResponses = new ArrayList<>();
+    }
+
+    /**
+     * 정렬된 댓글 목록(최상위 댓글 다음에 그 대댓글)으로 트리 구성 (O(n))
+     * - 부모 댓글이 삭제되었거나 조회 범위 밖인 대댓글은 제외
+     * @return 최상위 댓글 목록 (조회 순서 유지)
+     */
+    private List<CommentResponse> buildCommentTree(List<Comment> comments, String email) {
+        List<CommentResponse> roots = new ArrayList<>();
+        Map<Long, CommentResponse> responsesById = new HashMap<>();
         for (Comment comment : comments) {
-            CommentResponse commentResponse = convertToCommentResponse(comment, email);
+            CommentResponse response = convertToCommentResponse(comment, email);
+            response.setReplies(new ArrayList<>());
+            responsesById.put(comment.getId(), response);
             
-            // 대댓글 조회
-            if (comment.getReplyCount() > 0) {
-                List<Comment> replies = commentMapper.getRepliesByParentId(comment.getId());
-                List<CommentResponse> replyResponses = replies.stream()
-                        .map(reply -> convertToCommentResponse(reply, email))
-                        .collect(Collectors.toList());
-                commentResponse.setReplies(replyResponses);
-            } else {
-                commentResponse.setReplies(new ArrayList<>());
+            if (comment.getParentId() == null) {
+                roots.add(response);
+                continue;
+            }
+            CommentResponse parent = responsesById.get(comment.getParentId());
+            if (parent != null) {
+                parent.getReplies().add(response);
+                parent.setReplyCount(parent.getReplies().size());
             }
-            
-            commentResponses.add(commentResponse);
         }
-        
-        return commentResponses;
+        return roots;
     }
 
     /**
@@ -0,0 +1,134 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Category;
+import com.example.demo.model.Hobby;
+import com.example.demo.model.HobbyCategoryLink;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 취미/카테고리 카탈로그 스냅샷 (생성 후 변경되지 않음)
+ * - 전체 카테고리 목록과 취미-카테고리 연결 목록 두 번의 조회로 생성
+ * - 취미 ID → 카테고리, 카테고리 ID → 취미, 취미 ID → 소속 카테고리 ID 집합 인덱스 제공
+ * - 반환하는 목록은 수정할 수 없으며, 목록 안의 Hobby/Category 객체도 여러 요청이 공유하므로 수정하지 않아야 함
+ */
+public final class HobbyCatalog {
+
+    private final List<Hobby> hobbies;
+    private final List<Hobby> hobbiesWithCategories;
+    private final List<Category> categories;
+    private final Map<Long, Hobby> hobbiesById;
+    private final Map<Long, List<Hobby>> hobbiesByCategoryId;
+    private final Map<Long, Set<Long>> categoryIdsByHobbyId;
+    private final Set<Long> categoryIds;
+
+    private HobbyCatalog(List<Hobby> hobbies, List<Hobby> hobbiesWithCategories, List<Category> categories,
+                         Map<Long, Hobby> hobbiesById, Map<Long, List<Hobby>> hobbiesByCategoryId,
+                         Map<Long, Set<Long>> categoryIdsByHobbyId, Set<Long> categoryIds) {
+        this.hobbies = hobbies;
+        this.hobbiesWithCategories = hobbiesWithCategories;
+        this.categories = categories;
+        this.hobbiesById = hobbiesById;
+        this.hobbiesByCategoryId = hobbiesByCategoryId;
+        this.categoryIdsByHobbyId = categoryIdsByHobbyId;
+        this.categoryIds = categoryIds;
+    }
+
+    /**
+     * 조회 결과로 카탈로그 생성
+     * @param categories 전체 카테고리 (카테고리 ID 순)
+     * @param links 취미-카테고리 연결 (취미 이름 순, 카테고리가 없는 취미는 categoryId가 null)
+     */
+    public static HobbyCatalog of(List<Category> categories, List<HobbyCategoryLink> links) {
+        Map<Long, Category> categoriesById = new HashMap<>();
+        for (Category category : categories) {
+            categoriesById.put(category.getCategoryId(), category);
+        }
+
+        // 취미 이름 순서 유지
+        Map<Long, Hobby> hobbiesById = new LinkedHashMap<>();
+        Map<Long, List<Category>> categoriesByHobbyId = new HashMap<>();
+        Map<Long, List<Hobby>> hobbiesByCategoryId = new HashMap<>();
+        Map<Long, Set<Long>> categoryIdsByHobbyId = new HashMap<>();
+
+        for (HobbyCategoryLink link : links) {
+            Hobby hobby = hobbiesById.computeIfAbsent(link.getHobbyId(),
+                    id -> Hobby.builder().hobbyId(id).hobbyName(link.getHobbyName()).build());
+            Category category = link.getCategoryId() != null ? categoriesById.get(link.getCategoryId()) : null;
+            if (category == null) {
+                continue;
+            }
+            categoriesByHobbyId.computeIfAbsent(hobby.getHobbyId(), id -> new ArrayList<>()).add(category);
+            hobbiesByCategoryId.computeIfAbsent(category.getCategoryId(), id -> new ArrayList<>()).add(hobby);
+            categoryIdsByHobbyId.computeIfAbsent(hobby.getHobbyId(), id -> new HashSet<>()).add(category.getCategoryId());
+        }
+
+        List<Hobby> hobbiesWithCategories = new ArrayList<>(hobbiesById.size());
+        for (Hobby hobby : hobbiesById.values()) {
+            List<Category> hobbyCategories = new ArrayList<>(
+                    categoriesByHobbyId.getOrDefault(hobby.getHobbyId(), Collections.emptyList()));
+            // 취미별 카테고리는 이름 순 (getCategoriesByHobbyId와 같은 순서)
+            hobbyCategories.sort(Comparator.comparing(Category::getCategoryName,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+            hobbiesWithCategories.add(Hobby.builder()
+                    .hobbyId(hobby.getHobbyId())
+                    .hobbyName(hobby.getHobbyName())
+                    .categories(Collections.unmodifiableList(hobbyCategories))
+                    .build());
+        }
+
+        Map<Long, List<Hobby>> unmodifiableHobbiesByCategoryId = new HashMap<>();
+        hobbiesByCategoryId.forEach((categoryId, categoryHobbies) ->
+                unmodifiableHobbiesByCategoryId.put(categoryId, Collections.unmodifiableList(categoryHobbies)));
+
+        return new HobbyCatalog(
+                Collections.unmodifiableList(new ArrayList<>(hobbiesById.values())),
+                Collections.unmodifiableList(hobbiesWithCategories),
+                Collections.unmodifiableList(new ArrayList<>(categories)),
+                Collections.unmodifiableMap(hobbiesById),
+                Collections.unmodifiableMap(unmodifiableHobbiesByCategoryId),
+                Collections.unmodifiableMap(categoryIdsByHobbyId),
+                Collections.unmodifiableSet(categoriesById.keySet()));
+    }
+
+    public List<Hobby> getHobbies() {
+        return hobbies;
+    }
+
+    public List<Hobby> getHobbiesWithCategories() {
+        return hobbiesWithCategories;
+    }
+
+    public List<Category> getCategories() {
+        return categories;
+    }
+
+    public Hobby findHobby(Long hobbyId) {
+        return hobbiesById.get(hobbyId);
+    }
+
+    public List<Hobby> getHobbiesByCategoryId(Long categoryId) {
+        return hobbiesByCategoryId.getOrDefault(categoryId, Collections.emptyList());
+    }
+
+    public boolean containsHobby(Long hobbyId) {
+        return hobbiesById.containsKey(hobbyId);
+    }
+
+    public boolean containsCategory(Long categoryId) {
+        return categoryIds.contains(categoryId);
+    }
+
+    public boolean isHobbyInCategory(Long hobbyId, Long categoryId) {
+        Set<Long> hobbyCategoryIds = categoryIdsByHobbyId.get(hobbyId);
+        return hobbyCategoryIds != null && hobbyCategoryIds.contains(categoryId);
+    }
+}
@@ -5,9 +5,9 @@ import com.example.demo.mapper.HobbyMapper;
 import com.example.demo.model.Category;
 import com.example.demo.model.Hobby;
 import com.example.demo.model.UserHobby;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,48 +18,87 @@ import java.util.List;
 @Slf4j
 public class HobbyService {
 
-    @Getter // AuthService에서 접근할 수 있도록 getter 추가
     private final HobbyMapper hobbyMapper;
 
+    // 취미/카테고리 카탈로그 스냅샷 (처음 사용할 때 적재, 주기적으로 또는 관리자 요청 시 통째로 교체)
+    private volatile HobbyCatalog catalog;
+
     /**
      * 모든 취미 목록을 조회합니다.
      */
     public List<Hobby> getAllHobbies() {
-        return hobbyMapper.getAllHobbies();
+        return getCatalog().getHobbies();
     }
     /**
      * 모든 취미와 그에 해당하는 카테고리 목록을 조회합니다.
      */
     public List<Hobby> getAllHobbiesWithCategories() {
-        List<Hobby> hobbies = hobbyMapper.getAllHobbies();
-        
-        // 각 취미에 해당하는 카테고리 목록을 설정
-        for (Hobby hobby : hobbies) {
-            List<Category> categories = hobbyMapper.getCategoriesByHobbyId(hobby.getHobbyId());
-            hobby.setCategories(categories);
-        }
-        
-        return hobbies;
+        return getCatalog().getHobbiesWithCategories();
     }
     /**
      * 취미 ID로 취미를 조회합니다.
      */
     public Hobby getHobbyById(Long hobbyId) {
-        return hobbyMapper.getHobbyById(hobbyId);
+        return getCatalog().findHobby(hobbyId);
     }
 
     /**
      * 카테고리 ID로 취미 목록을 조회합니다.
      */
     public List<Hobby> getHobbiesByCategoryId(Long categoryId) {
-        return hobbyMapper.getHobbiesByCategoryId(categoryId);
+        return getCatalog().getHobbiesByCategoryId(categoryId);
     }
 
     /**
      * 모든 카테고리 목록을 조회합니다.
      */
     public List<Category> getAllCategories() {
-        return hobbyMapper.getAllCategories();
+        return getCatalog().getCategories();
+    }
+
+    /**
+     * 취미가 해당 카테고리에 속하는지 확인합니다.
+     */
+    public boolean isHobbyInCategory(Long hobbyId, Long categoryId) {
+        return getCatalog().isHobbyInCategory(hobbyId, categoryId);
+    }
+
+    /**
+     * 취미/카테고리 카탈로그를 DB에서 다시 읽어 교체합니다. (조회 2회)
+     */
+    public HobbyCatalog reloadCatalog() {
+        HobbyCatalog loaded = HobbyCatalog.of(hobbyMapper.getAllCategories(), hobbyMapper.getAllHobbyCategoryLinks());
+        catalog = loaded;
+        log.info("취미 카탈로그 적재 완료: 취미 {}개, 카테고리 {}개",
+                loaded.getHobbies().size(), loaded.getCategories().size());
+        return loaded;
+    }
+
+    /**
+     * 취미/카테고리 카탈로그 주기적 갱신 (기본 10분)
+     * - 실패하면 기존 카탈로그를 계속 사용
+     */
+    @Scheduled(fixedDelayString = "${hobby.catalog.refresh-interval-ms:600000}",
+            initialDelayString = "${hobby.catalog.refresh-interval-ms:600000}")
+    public void refreshCatalog() {
+        try {
+            reloadCatalog();
+        } catch (Exception e) {
+            log.warn("취미 카탈로그 갱신 실패, 기존 카탈로그 유지: {}", e.getMessage());
+        }
+    }
+
+    private HobbyCatalog getCatalog() {
+        HobbyCatalog current = catalog;
+        if (current == null) {
+            synchronized (this) {
+                current = catalog;
+                if (current == null) {
+                    current = reloadCatalog();
+                }
+            }
+        }
+        return current;
     }
 
     /**
@@ -76,7 +115,7 @@ public class HobbyService {
     @Transactional
     public void registerUserHobby(String email, Long hobbyId, Long categoryId) {
         // 취미가 해당 카테고리에 속하는지 확인
-        boolean isValid = hobbyMapper.isHobbyInCategory(hobbyId, categoryId);
+        boolean isValid = isHobbyInCategory(hobbyId, categoryId);
         if (!isValid) {
             throw new IllegalArgumentException(
                 "선택한 취미(ID: " + hobbyId + ")가 해당 카테고리(ID: " + categoryId + ")에 속하지 않습니다."
@@ -129,14 +168,13 @@ public class HobbyService {
      * 취미 ID가 유효한지 확인합니다.
      */
     public boolean isValidHobby(Long hobbyId) {
-        return hobbyMapper.getHobbyById(hobbyId) != null;
+        return getCatalog().containsHobby(hobbyId);
     }
 
     /**
      * 카테고리 ID가 유효한지 확인합니다.
      */
     public boolean isValidCategory(Long categoryId) {
-        List<Category> categories = hobbyMapper.getAllCategories();
-        return categories.stream().anyMatch(c -> c.getCategoryId().equals(categoryId));
+        return getCatalog().containsCategory(categoryId);
     }
 }
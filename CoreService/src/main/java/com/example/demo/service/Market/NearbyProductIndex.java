@@ -0,0 +1,339 @@
+package com.example.demo.service.Market;
+
+import com.example.demo.mapper.Market.ProductMapper;
+import com.example.demo.model.Market.Product;
+import com.example.demo.util.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 주변 상품 검색용 노드 메모리 격자 인덱스 (모집 중인 대면 상품만)
+ * - 위도/경도를 cellSizeDeg 단위 격자로 나누고, 격자마다 상품 ID와 좌표를 배열로 보관 (변경 시 배열 복사 후 교체)
+ * - 전체 재적재 시에는 격자별로 모은 뒤 격자마다 배열을 한 번만 생성
+ * - 재적재 중에 반영된 추가/제거는 기록해 두었다가 새 인덱스로 교체하기 직전에 다시 반영 (적재 결과에 덮이지 않음)
+ * - 반경 조회: 반경을 감싸는 사각형에 걸친 격자만 확인 후 정확한 거리로 거름, 거리순 상품 ID 반환
+ * - 상품 등록/모집 마감 시 바로 반영 (트랜잭션 안이면 커밋 후 반영)
+ * - 다른 노드에서 등록/마감된 상품은 주기적 전체 재적재 때 반영, 재적재 전까지는 DB 조회로 대신함 (isReady)
+ * - 행 조회 시 DB에서 모집 중/대면 여부를 다시 확인하므로, 인덱스에 남은 마감 상품은 결과에 나오지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NearbyProductIndex {
+
+    private final ProductMapper productMapper;
+
+    @Value("${product.nearby-index.enabled:true}")
+    private boolean enabled;
+
+    // 격자 한 칸 크기 (도 단위, 0.05도 ≈ 위도 방향 5.5km)
+    @Value("${product.nearby-index.cell-size-deg:0.05}")
+    private double cellSizeDeg;
+
+    private volatile Grid grid;
+
+    // 추가/제거와 인덱스 교체를 직렬화 (조회는 잠금 없음)
+    private final Object mutationLock = new Object();
+
+    // 재적재 중에 반영된 추가/제거 (재적재 중이 아니면 null)
+    private List<Consumer<Grid>> mutationsDuringRebuild;
+
+    /**
+     * 인덱스를 사용할 수 있는지 여부 (비활성화되었거나 아직 적재 전이면 false)
+     */
+    public boolean isReady() {
+        return enabled && grid != null;
+    }
+
+    /**
+     * 중심 좌표에서 반경 distanceKm 안에 있는 상품 ID를 가까운 순서로 반환합니다.
+     */
+    public List<Long> findWithin(double latitude, double longitude, double distanceKm) {
+        Grid current = grid;
+        if (current == null) {
+            return Collections.emptyList();
+        }
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(latitude, longitude, distanceKm);
+        List<Hit> hits = new ArrayList<>();
+        for (Cell cell : current.cellsIn(box)) {
+            for (int i = 0; i < cell.ids.length; i++) {
+                if (!box.contains(cell.latitudes[i], cell.longitudes[i])) {
+                    continue;
+                }
+                double distance = GeoUtils.distanceKm(latitude, longitude, cell.latitudes[i], cell.longitudes[i]);
+                if (distance <= distanceKm) {
+                    hits.add(new Hit(cell.ids[i], distance));
+                }
+            }
+        }
+        hits.sort((a, b) -> a.distance != b.distance ? Double.compare(a.distance, b.distance) : Long.compare(a.id, b.id));
+
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            ids.add(hit.id);
+        }
+        return ids;
+    }
+
+    /**
+     * 모집 중인 대면 상품 추가 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void add(Product product) {
+        if (!enabled || !"대면".equals(product.getTransactionType())
+                || product.getLatitude() == null || product.getLongitude() == null) {
+            return;
+        }
+        Long id = product.getId();
+        double latitude = product.getLatitude();
+        double longitude = product.getLongitude();
+        afterCommit(() -> apply(current -> current.put(id, latitude, longitude)));
+    }
+
+    /**
+     * 모집 마감/숨김 처리된 상품 제거 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void remove(Long productId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> apply(current -> current.remove(productId)));
+    }
+
+    /**
+     * DB에서 모집 중인 대면 상품 좌표를 모두 읽어 인덱스를 새로 만든 뒤 교체합니다.
+     */
+    public synchronized void rebuild() {
+        synchronized (mutationLock) {
+            mutationsDuringRebuild = new ArrayList<>();
+        }
+        try {
+            List<Product> products = productMapper.findNearbyIndexEntries();
+            Grid loaded = Grid.load(cellSizeDeg, products);
+            int replayed;
+            synchronized (mutationLock) {
+                // 조회 이후(또는 조회 중) 커밋된 변경이 적재 결과에 빠져 있을 수 있으므로 다시 반영 (같은 변경을 두 번 반영해도 결과 동일)
+                replayed = mutationsDuringRebuild.size();
+                mutationsDuringRebuild.forEach(mutation -> mutation.accept(loaded));
+                grid = loaded;
+            }
+            log.info("주변 상품 인덱스 적재 완료: 상품 {}건, 격자 {}칸, 적재 중 변경 {}건",
+                    products.size(), loaded.cells.size(), replayed);
+        } finally {
+            synchronized (mutationLock) {
+                mutationsDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * 주기적 전체 재적재 (기본 1분, 다른 노드의 변경 반영)
+     * - 실패하면 기존 인덱스를 계속 사용
+     */
+    @Scheduled(fixedDelayString = "${product.nearby-index.refresh-interval-ms:60000}",
+            initialDelayString = "${product.nearby-index.initial-delay-ms:0}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("주변 상품 인덱스 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void apply(Consumer<Grid> mutation) {
+        synchronized (mutationLock) {
+            if (mutationsDuringRebuild != null) {
+                mutationsDuringRebuild.add(mutation);
+            }
+            Grid current = grid;
+            if (current != null) {
+                mutation.accept(current);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Hit(long id, double distance) {
+    }
+
+    /**
+     * 격자 한 칸 (변경하지 않고 새 배열로 교체)
+     */
+    private record Cell(long[] ids, double[] latitudes, double[] longitudes) {
+
+        private static final Cell EMPTY = new Cell(new long[0], new double[0], new double[0]);
+
+        Cell with(long id, double latitude, double longitude) {
+            Cell base = without(id);
+            int size = base.ids.length;
+            long[] newIds = Arrays.copyOf(base.ids, size + 1);
+            double[] newLatitudes = Arrays.copyOf(base.latitudes, size + 1);
+            double[] newLongitudes = Arrays.copyOf(base.longitudes, size + 1);
+            newIds[size] = id;
+            newLatitudes[size] = latitude;
+            newLongitudes[size] = longitude;
+            return new Cell(newIds, newLatitudes, newLongitudes);
+        }
+
+        Cell without(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] != id) {
+                    continue;
+                }
+                int size = ids.length - 1;
+                long[] newIds = new long[size];
+                double[] newLatitudes = new double[size];
+                double[] newLongitudes = new double[size];
+                System.arraycopy(ids, 0, newIds, 0, i);
+                System.arraycopy(ids, i + 1, newIds, i, size - i);
+                System.arraycopy(latitudes, 0, newLatitudes, 0, i);
+                System.arraycopy(latitudes, i + 1, newLatitudes, i, size - i);
+                System.arraycopy(longitudes, 0, newLongitudes, 0, i);
+                System.arraycopy(longitudes, i + 1, newLongitudes, i, size - i);
+                return new Cell(newIds, newLatitudes, newLongitudes);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * 전체 적재용 격자 배열 (크기가 모자라면 두 배로 늘림)
+     */
+    private static final class CellBuilder {
+
+        private long[] ids = new long[8];
+        private double[] latitudes = new double[8];
+        private double[] longitudes = new double[8];
+        private int size;
+
+        void add(long id, double latitude, double longitude) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                latitudes = Arrays.copyOf(latitudes, size * 2);
+                longitudes = Arrays.copyOf(longitudes, size * 2);
+            }
+            ids[size] = id;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            size++;
+        }
+
+        Cell build() {
+            return new Cell(Arrays.copyOf(ids, size), Arrays.copyOf(latitudes, size), Arrays.copyOf(longitudes, size));
+        }
+    }
+
+    /**
+     * 격자 키 → 격자, 상품 ID → 격자 키
+     */
+    private static final class Grid {
+
+        private final double cellSizeDeg;
+        private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+        private final Map<Long, Long> cellKeysByProductId = new ConcurrentHashMap<>();
+
+        private Grid(double cellSizeDeg) {
+            this.cellSizeDeg = cellSizeDeg;
+        }
+
+        /**
+         * 전체 적재 (상품마다 배열을 복사하지 않고 격자별로 모은 뒤 Cell을 한 번만 생성)
+         */
+        static Grid load(double cellSizeDeg, List<Product> products) {
+            Grid grid = new Grid(cellSizeDeg);
+            Map<Long, CellBuilder> builders = new HashMap<>();
+            for (Product product : products) {
+                long cellKey = cellKey(grid.cellIndex(product.getLatitude()), grid.cellIndex(product.getLongitude()));
+                if (grid.cellKeysByProductId.putIfAbsent(product.getId(), cellKey) != null) {
+                    continue;
+                }
+                builders.computeIfAbsent(cellKey, key -> new CellBuilder())
+                        .add(product.getId(), product.getLatitude(), product.getLongitude());
+            }
+            builders.forEach((cellKey, builder) -> grid.cells.put(cellKey, builder.build()));
+            return grid;
+        }
+
+        void put(long id, double latitude, double longitude) {
+            long cellKey = cellKey(cellIndex(latitude), cellIndex(longitude));
+            Long previousKey = cellKeysByProductId.put(id, cellKey);
+            if (previousKey != null && previousKey != cellKey) {
+                removeFromCell(previousKey, id);
+            }
+            cells.compute(cellKey, (key, cell) -> (cell == null ? Cell.EMPTY : cell).with(id, latitude, longitude));
+        }
+
+        void remove(long id) {
+            Long cellKey = cellKeysByProductId.remove(id);
+            if (cellKey != null) {
+                removeFromCell(cellKey, id);
+            }
+        }
+
+        List<Cell> cellsIn(GeoUtils.BoundingBox box) {
+            int minLat = cellIndex(box.getMinLatitude());
+            int maxLat = cellIndex(box.getMaxLatitude());
+            int minLng = cellIndex(box.getMinLongitude());
+            int maxLng = cellIndex(box.getMaxLongitude());
+
+            // 확인할 격자 수가 채워진 격자 수보다 많으면 (반경이 매우 큰 경우) 채워진 격자를 모두 확인
+            long cellCount = (long) (maxLat - minLat + 1) * (maxLng - minLng + 1);
+            if (cellCount > cells.size()) {
+                return new ArrayList<>(cells.values());
+            }
+            List<Cell> result = new ArrayList<>();
+            for (int lat = minLat; lat <= maxLat; lat++) {
+                for (int lng = minLng; lng <= maxLng; lng++) {
+                    Cell cell = cells.get(cellKey(lat, lng));
+                    if (cell != null) {
+                        result.add(cell);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private void removeFromCell(long cellKey, long id) {
+            cells.computeIfPresent(cellKey, (key, cell) -> {
+                Cell updated = cell.without(id);
+                return updated.ids.length == 0 ? null : updated;
+            });
+        }
+
+        private int cellIndex(double degree) {
+            return (int) Math.floor(degree / cellSizeDeg);
+        }
+
+        private static long cellKey(int latIndex, int lngIndex) {
+            return ((long) latIndex << 32) | (lngIndex & 0xffffffffL);
+        }
+    }
+}
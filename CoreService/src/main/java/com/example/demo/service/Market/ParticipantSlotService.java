@@ -0,0 +1,87 @@
+package com.example.demo.service.Market;
+
+import com.example.demo.mapper.Market.ProductMapper;
+import com.example.demo.mapper.Market.TransactionsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 상품 모집 인원(max_participants) 자리 예약
+ * - 요청 승인과 자리 예약을 조건부 UPDATE로 처리 (승인 요청 수를 세서 비교하는 조회 없음)
+ * - 자리 예약은 남은 자리가 있을 때만 current_participants를 1 증가, 반영된 행이 없으면 정원 초과
+ * - 참여 신청만으로는 상품 행을 갱신하지 않음 (신청이 몰려도 상품 행 잠금 대기 없음)
+ * - 마지막 자리가 예약되면 모집 마감 후 거래가 없는 승인 참여자의 거래를 INSERT ... SELECT 한 번으로 생성
+ * - 승인 요청 수와 current_participants가 달라진 경우 주기적으로 보정 (보정한 상품의 카드 캐시 삭제)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParticipantSlotService {
+
+    private final ProductMapper productMapper;
+    private final TransactionsMapper transactionsMapper;
+    private final NearbyProductIndex nearbyProductIndex;
+    private final ProductCardService productCardService;
+
+    // 요청 승인/모집 마감으로 생성된 거래 설명
+    public static final String TRANSACTION_DESCRIPTION = "상품 요청 승인으로 생성된 거래";
+
+    public enum Result {
+        APPROVED,           // 승인 완료
+        CLOSED,             // 승인 완료, 마지막 자리라 모집 마감 (승인 참여자 거래 생성 완료)
+        ALREADY_PROCESSED,  // 대기 중인 요청이 아님 (이미 승인/거절됨) 또는 해당 상품의 요청이 아님
+        FULL                // 남은 자리 없음
+    }
+
+    /**
+     * 요청 승인 + 자리 예약 (호출 측 트랜잭션이 있으면 함께 커밋/롤백)
+     */
+    @Transactional
+    public Result approve(Long productId, Long requestId) {
+        // 1. 대기 중(미승인)인 요청만 승인 (같은 요청을 중복 승인해도 자리는 한 번만 예약)
+        if (productMapper.approvePendingRequest(productId, requestId) == 0) {
+            return Result.ALREADY_PROCESSED;
+        }
+
+        // 2. 남은 자리가 있을 때만 예약, 없으면 승인 되돌림 (승인 전 상태는 항상 미승인/대기)
+        if (productMapper.reserveParticipantSlot(productId) == 0) {
+            productMapper.revertRequestApproval(requestId);
+            return Result.FULL;
+        }
+        productCardService.evict(productId);
+
+        // 3. 마지막 자리였으면 모집 마감 + 승인 참여자 거래 일괄 생성 (승인된 요청은 승인 시 이미 '완료' 상태)
+        if (productMapper.updateProductVisibility(productId) > 0) {
+            int created = transactionsMapper.insertTransactionsForApprovedRequests(productId, TRANSACTION_DESCRIPTION);
+            log.info("상품 모집 마감: productId={}, 생성된 거래 {}건", productId, created);
+            nearbyProductIndex.remove(productId);
+            return Result.CLOSED;
+        }
+        return Result.APPROVED;
+    }
+
+    /**
+     * 승인 요청 수로 참여 인원 보정 (기본 매일 04:40)
+     */
+    @Scheduled(cron = "${product.participants.reconcile-cron:0 40 4 * * *}")
+    public void reconcile() {
+        try {
+            List<Long> productIds = productMapper.findParticipantCountMismatches();
+            if (productIds.isEmpty()) {
+                return;
+            }
+            int updated = productMapper.reconcileParticipantCounts(productIds);
+            if (updated > 0) {
+                log.warn("상품 참여 인원 보정: {}건", updated);
+                productIds.forEach(productCardService::evict);
+            }
+        } catch (Exception e) {
+            log.warn("상품 참여 인원 보정 실패: {}", e.getMessage());
+        }
+    }
+}
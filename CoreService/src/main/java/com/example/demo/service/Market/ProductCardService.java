@@ -0,0 +1,126 @@
+package com.example.demo.service.Market;
+
+import com.example.demo.config.RedisCacheConfig;
+import com.example.demo.dto.Market.ProductCardFeedResponse;
+import com.example.demo.dto.Market.ProductCardResponse;
+import com.example.demo.mapper.Market.ProductMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 목록용 카드 조회
+ * - 목록 조회는 조건에 맞는 상품 ID만 DB에서 조회하고, 카드는 상품 ID별 캐시(productCards)에서 가져옴
+ * - 캐시에 없는 카드만 한 번에 조회 후 캐시에 저장
+ * - 상품 등록, 이미지 추가, 참여 인원 변경, 모집 마감 시 해당 상품 카드 삭제 (evict)
+ * - 등록자 닉네임/도파민 변경은 캐시 만료 시간 안에 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCardService {
+
+    private final ProductMapper productMapper;
+    private final CacheManager cacheManager;
+
+    // 상품 이미지 조회 엔드포인트
+    private static final String IMAGE_URL_PREFIX = "/api/core/market/products/images/";
+
+    // 카드 피드 한 페이지 최대 상품 수
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+
+    @Value("${market.feed.page-size:20}")
+    private int defaultFeedPageSize;
+
+    /** 상품 카드 피드 조회 (/feed와 같은 조건, 커서 기반) **/
+    public ProductCardFeedResponse getCardFeed(String email, Long cursor, Integer size) {
+        int pageSize = (size != null && size > 0) ? Math.min(size, MAX_FEED_PAGE_SIZE) : defaultFeedPageSize;
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Long> ids = productMapper.findFeedIds(email, cursor, pageSize + 1);
+        boolean hasMore = ids.size() > pageSize;
+        if (hasMore) {
+            ids = ids.subList(0, pageSize);
+        }
+
+        return ProductCardFeedResponse.builder()
+                .cards(getCards(ids))
+                .hasMore(hasMore)
+                .nextCursor(ids.isEmpty() ? null : ids.get(ids.size() - 1))
+                .build();
+    }
+
+    /** 특정 사용자가 등록한 상품 카드 조회 (구매, 판매, 구매 요청, 판매 요청) **/
+    public List<ProductCardResponse> getUserCards(String email, List<String> types) {
+        return getCards(productMapper.findProductIdsByEmailAndType(email, types));
+    }
+
+    /** 내가 요청한 상품 카드 조회 **/
+    public List<ProductCardResponse> getRequestedCards(String email) {
+        return getCards(productMapper.findRequestedProductIds(email));
+    }
+
+    /**
+     * 상품 ID 순서대로 카드 반환 (캐시에 없는 카드는 한 번에 조회 후 캐시에 저장, 삭제된 상품은 제외, 중복 ID는 처음 위치에 한 번만)
+     */
+    public List<ProductCardResponse> getCards(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Cache cache = cacheManager.getCache(RedisCacheConfig.CACHE_PRODUCT_CARDS);
+        Set<Long> distinctIds = new LinkedHashSet<>(productIds);
+        Map<Long, ProductCardResponse> cards = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long productId : distinctIds) {
+            ProductCardResponse card = cache != null ? cache.get(productId, ProductCardResponse.class) : null;
+            if (card != null) {
+                cards.put(productId, card);
+            } else {
+                missingIds.add(productId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            for (ProductCardResponse card : productMapper.findCardsByIds(missingIds)) {
+                if (card.getThumbnailImageId() != null) {
+                    card.setThumbnailPath(IMAGE_URL_PREFIX + card.getThumbnailImageId());
+                }
+                cards.put(card.getId(), card);
+                if (cache != null) {
+                    cache.put(card.getId(), card);
+                }
+            }
+            log.debug("상품 카드 조회: 요청 {}건, 캐시 미스 {}건", productIds.size(), missingIds.size());
+        }
+
+        List<ProductCardResponse> result = new ArrayList<>(distinctIds.size());
+        for (Long productId : distinctIds) {
+            ProductCardResponse card = cards.get(productId);
+            if (card != null) {
+                result.add(card);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 상품 카드 삭제 (상품/요청/이미지 변경 후 호출, 트랜잭션 안이면 커밋 후에도 삭제됨)
+     */
+    public void evict(Long productId) {
+        Cache cache = cacheManager.getCache(RedisCacheConfig.CACHE_PRODUCT_CARDS);
+        if (cache != null) {
+            cache.evict(productId);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.demo.service.Market;
+
+import com.example.demo.dto.chat.ChatRoomRequest;
+import com.example.demo.dto.chat.ChatRoomResponse;
+import com.example.demo.mapper.Market.ProductRequestEventMapper;
+import com.example.demo.model.Market.ProductRequestEvent;
+import com.example.demo.service.ChatService;
+import com.example.demo.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 요청/승인 후속 작업 (채팅방 생성, 알림 전송)
+ * - 요청 처리 트랜잭션 안에서 ProductRequestEvents에 이벤트를 저장하고, 커밋 후 실행기에서 비동기로 처리
+ * - 이벤트는 조건부 UPDATE로 점유한 스레드/노드만 처리 (점유 시간이 지나면 다른 곳에서 다시 처리 가능)
+ * - 실패한 이벤트는 시도 횟수에 비례한 간격으로 재처리, 최대 시도 횟수를 넘으면 FAILED
+ * - 요청 직후 채팅방을 조회하면 대기 중인 채팅방 생성 이벤트를 바로 처리 (다른 곳에서 처리 중이면 기다리지 않고 처리 중으로 응답)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductRequestEventService {
+
+    private final ProductRequestEventMapper productRequestEventMapper;
+    private final ChatService chatService;
+    private final NotificationService notificationService;
+    private final @Qualifier("productRequestEventExecutor") TaskExecutor productRequestEventExecutor;
+
+    @Value("${product.request-events.max-attempts:5}")
+    private int maxAttempts;
+
+    // 재처리 간격 (시도 횟수 x 이 값)
+    @Value("${product.request-events.retry-delay-seconds:10}")
+    private int retryDelaySeconds;
+
+    // 점유 후 이 시간 안에 끝나지 않으면 다른 곳에서 다시 처리
+    @Value("${product.request-events.lease-seconds:60}")
+    private int leaseSeconds;
+
+    @Value("${product.request-events.batch-size:100}")
+    private int batchSize;
+
+    @Value("${product.request-events.retention-days:7}")
+    private int retentionDays;
+
+    /**
+     * 요청자 채팅방 생성 등록 (트랜잭션 안이면 커밋 후 처리)
+     */
+    public void enqueueChatRoom(Long productId, String requesterEmail) {
+        enqueue(ProductRequestEvent.builder()
+                .eventType(ProductRequestEvent.TYPE_CHAT_ROOM)
+                .productId(productId)
+                .userEmail(requesterEmail)
+                .build());
+    }
+
+    /**
+     * 알림 전송 등록 (트랜잭션 안이면 커밋 후 처리)
+     */
+    public void enqueueNotification(String receiverEmail, String message, String type, Integer chatroomId, Long productId) {
+        enqueue(ProductRequestEvent.builder()
+                .eventType(ProductRequestEvent.TYPE_NOTIFICATION)
+                .productId(productId)
+                .userEmail(receiverEmail)
+                .message(message)
+                .notificationType(type)
+                .chatroomId(chatroomId)
+                .build());
+    }
+
+    /**
+     * 이벤트 처리 (점유에 실패하면 건너뜀)
+     * @return 이 호출에서 처리를 완료했으면 true (점유 실패, 처리 실패는 false)
+     */
+    public boolean process(ProductRequestEvent event) {
+        if (productRequestEventMapper.claimEvent(event.getId(), leaseSeconds) == 0) {
+            return false;
+        }
+        try {
+            handle(event);
+            productRequestEventMapper.markDone(event.getId());
+            return true;
+        } catch (Exception e) {
+            log.warn("상품 요청 후속 작업 실패: id={}, type={}, error={}", event.getId(), event.getEventType(), e.getMessage());
+            productRequestEventMapper.markFailed(event.getId(), String.valueOf(e.getMessage()),
+                    maxAttempts, retryDelaySeconds);
+            return false;
+        }
+    }
+
+    /**
+     * 처리 대기 중인 채팅방 생성 이벤트를 바로 처리 (요청 직후 채팅방을 조회하는 경우)
+     * - 다른 스레드/노드가 처리 중이거나 재처리 대기 중인 이벤트는 기다리지 않음
+     * @return 아직 끝나지 않은 채팅방 생성 이벤트가 남아 있으면 true (클라이언트가 잠시 후 다시 조회)
+     */
+    public boolean processPendingChatRoom(Long productId, String userEmail) {
+        boolean pending = false;
+        for (ProductRequestEvent event : productRequestEventMapper.findPendingChatRoomEvents(productId, userEmail)) {
+            if (!process(event)) {
+                pending = true;
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * 처리할 차례가 된 이벤트 재처리 (기본 10초, 실패/거절/서버 종료로 남은 이벤트)
+     */
+    @Scheduled(fixedDelayString = "${product.request-events.retry-interval-ms:10000}")
+    public void processDueEvents() {
+        try {
+            productRequestEventMapper.findDueEvents(batchSize).forEach(this::process);
+        } catch (Exception e) {
+            log.warn("상품 요청 후속 작업 재처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트 삭제 (기본 매일 04:50)
+     */
+    @Scheduled(cron = "${product.request-events.purge-cron:0 50 4 * * *}")
+    public void purgeDoneEvents() {
+        try {
+            int deleted = productRequestEventMapper.deleteDoneEventsBefore(retentionDays);
+            log.info("처리 완료된 상품 요청 후속 작업 삭제: {}건", deleted);
+        } catch (Exception e) {
+            log.warn("처리 완료된 상품 요청 후속 작업 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private void handle(ProductRequestEvent event) {
+        switch (event.getEventType()) {
+            case ProductRequestEvent.TYPE_CHAT_ROOM -> {
+                ChatRoomRequest request = new ChatRoomRequest();
+                request.setProductId(event.getProductId());
+                ChatRoomResponse response = chatService.createOrGetChatRoom(event.getUserEmail(), request);
+                if (!response.isSuccess()) {
+                    // 상품 삭제/모집 마감 등 다시 시도해도 결과가 같은 경우이므로 완료 처리
+                    log.warn("채팅방 생성 생략: productId={}, email={}, message={}",
+                            event.getProductId(), event.getUserEmail(), response.getMessage());
+                }
+            }
+            case ProductRequestEvent.TYPE_NOTIFICATION -> notificationService.sendNotification(
+                    event.getUserEmail(), event.getMessage(), event.getNotificationType(),
+                    event.getChatroomId(), event.getProductId());
+            default -> throw new IllegalStateException("알 수 없는 이벤트 타입: " + event.getEventType());
+        }
+    }
+
+    private void enqueue(ProductRequestEvent event) {
+        productRequestEventMapper.insertEvent(event);
+        afterCommit(() -> dispatch(event));
+    }
+
+    private void dispatch(ProductRequestEvent event) {
+        try {
+            productRequestEventExecutor.execute(() -> process(event));
+        } catch (TaskRejectedException e) {
+            log.warn("상품 요청 후속 작업 대기열 초과, 재처리 주기에 처리: id={}", event.getId());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,21 +1,22 @@
 package com.example.demo.service.Market;
 
+import com.example.demo.dto.Market.ProductFeedResponse;
 import com.example.demo.dto.Market.ProductRequest;
 import com.example.demo.dto.Market.ProductResponse;
 import com.example.demo.dto.Market.TransactionsRequest;
-import com.example.demo.dto.chat.ChatRoomRequest;
-import com.example.demo.dto.chat.ChatRoomResponse;
 import com.example.demo.mapper.Market.ProductMapper;
 import com.example.demo.mapper.Market.ProductImageMapper;
 import com.example.demo.mapper.Market.TransactionsMapper;
 import com.example.demo.model.Market.Product;
 import com.example.demo.model.Market.ProductImage;
-import com.example.demo.service.ChatService;
-import com.example.demo.service.NotificationService;
+import com.example.demo.model.Market.UserLocation;
 import com.example.demo.util.BaseResponse;
+import com.example.demo.util.GeoUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,18 +32,30 @@ import java.util.stream.Collectors;
 public class ProductService {
     private final ProductMapper productMapper;
     private final ProductImageMapper productImageMapper;
-    private final NotificationService notificationService;
     private final ImageUploadService imageUploadService;
-    private final ChatService chatService;
     private final TransactionsMapper transactionsMapper;
     private final UserLocationMapper userLocationMapper;
+    private final NearbyProductIndex nearbyProductIndex;
+    private final ProductCardService productCardService;
+    private final ParticipantSlotService participantSlotService;
+    private final ProductRequestEventService productRequestEventService;
+
+    // 상품 이미지 조회 엔드포인트
+    private static final String IMAGE_URL_PREFIX = "/api/core/market/products/images/";
+
+    // `days` JSON 변환기 (스레드 안전, 요청마다 ObjectMapper를 만들지 않음)
+    private static final ObjectReader DAYS_READER = new ObjectMapper().readerFor(new TypeReference<List<String>>() {});
+
+    // 상품 피드 한 페이지 최대 상품 수
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+
+    @Value("${market.feed.page-size:20}")
+    private int defaultFeedPageSize;
 
     /** 전체 상품 목록 조회 (등록자 상품 조회 항상가능, 비로그인자 모집 중인 상품 조회 가능) **/
     public ResponseEntity<BaseResponse<List<ProductResponse>>> getAllProducts(String email) {
         try {
-            List<ProductResponse> products = productMapper.findAll(email).stream()
-                    .map(this::convertToProductResponse)
-                    .collect(Collectors.toList());
+            List<ProductResponse> products = convertToProductResponses(productMapper.findAll(email));
 
             return ResponseEntity.ok(new BaseResponse<>(products));
         } catch (Exception ex) {
@@ -51,6 +64,48 @@ public class ProductService {
         }
     }
 
+    /**
+     * 상품 피드 커서 조회 (ID 역순)
+     * - cursor 상품 ID 이전 상품을 size개 조회 (없으면 가장 최근 상품부터), 최대 MAX_FEED_PAGE_SIZE개
+     * - 이미지는 페이지의 상품 ID로 한 번에 조회
+     */
+    public ProductFeedResponse getProductFeed(String email, Long cursor, Integer size) {
+        int pageSize = (size != null && size > 0) ? Math.min(size, MAX_FEED_PAGE_SIZE) : defaultFeedPageSize;
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Product> products = productMapper.findFeedPage(email, cursor, pageSize + 1);
+        boolean hasMore = products.size() > pageSize;
+        if (hasMore) {
+            products = products.subList(0, pageSize);
+        }
+
+        return ProductFeedResponse.builder()
+                .products(convertToProductResponses(products))
+                .hasMore(hasMore)
+                .nextCursor(products.isEmpty() ? null : products.get(products.size() - 1).getId())
+                .build();
+    }
+
+    /** 여러 상품의 이미지 URL 일괄 조회 (상품 ID → 이미지 URL 목록, 이미지 ID 순) **/
+    private Map<Long, List<String>> findImageUrls(List<Long> productIds) {
+        Map<Long, List<String>> imageUrlsByProductId = new HashMap<>();
+        findImages(productIds).forEach((productId, images) -> imageUrlsByProductId.put(productId,
+                images.stream().map(image -> IMAGE_URL_PREFIX + image.getId()).collect(Collectors.toList())));
+        return imageUrlsByProductId;
+    }
+
+    /** 여러 상품의 이미지 일괄 조회 (상품 ID → 이미지 목록, 이미지 ID 순, 조회 1회) **/
+    private Map<Long, List<ProductImage>> findImages(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, List<ProductImage>> imagesByProductId = new HashMap<>();
+        for (ProductImage image : productImageMapper.findByProductIds(productIds)) {
+            imagesByProductId.computeIfAbsent(image.getProductId(), id -> new ArrayList<>()).add(image);
+        }
+        return imagesByProductId;
+    }
+
     /** 상품 등록 (이미지도 함께 업로드) **/
     public ResponseEntity<BaseResponse<ProductResponse>> createProduct(String email, ProductRequest request, List<MultipartFile> images) {
         try {
@@ -88,6 +143,7 @@ public class ProductService {
 
             productMapper.insertProduct(product);
             Long productId = product.getId();
+            nearbyProductIndex.add(product);
 
             // 이미지 업로드 및 DB 저장 --? 삭제
             if (images != null && !images.isEmpty()) {
@@ -110,6 +166,9 @@ public class ProductService {
                 }
             }
 
+            // 이미지 저장 전에 적재된 카드가 있으면 삭제
+            productCardService.evict(productId);
+
             // 변환된 ProductResponse 생성
             ProductResponse productResponse = convertToProductResponse(product);
 
@@ -122,7 +181,7 @@ public class ProductService {
         }
     }
 
-  /**  상품 요청, 채팅방 생성, 알림 전송을 통합 처리하는 메소드 세 가지 작업을 하나의 트랜잭션으로 일관성 있게 처리 **/
+  /**  상품 요청 등록 - 채팅방 생성, 알림 전송은 요청과 같은 트랜잭션에 이벤트로 저장 후 커밋되면 비동기 처리 **/
   @Transactional
   public ResponseEntity<BaseResponse<Map<String, Object>>> createProductRequestWithChatAndNotification(
           String requesterEmail, Long productId) {
@@ -134,10 +193,8 @@ public class ProductService {
                       .body(new BaseResponse<>(null, "해당 상품을 찾을 수 없습니다."));
           }
 
-          // 2. 상품 요청 등록 (구매 요청/판매 요청) & 모집 인원 증가
+          // 2. 상품 요청 등록 (구매 요청/판매 요청) - 참여 인원은 승인 시 예약 (ParticipantSlotService)
           productMapper.insertProductRequest(productId, requesterEmail);
-          productMapper.increaseCurrentParticipants(productId);
-          productMapper.updateProductVisibility(productId); // 모집 마감 여부 확인
 
           // 3. 상품 정보 가져오기 (기존 코드 유지)
           Product product = productMapper.findById(productId, requesterEmail);
@@ -146,28 +203,18 @@ public class ProductService {
                       .body(new BaseResponse<>(null, "상품 요청은 저장되었지만, 상품 정보를 가져오는 데 실패했습니다."));
           }
 
-          // 4. 상품명 포함 알림 추가 (병합 전 코드 유지)
-          String productName = product.getTitle();
-          String message = String.format("\"%s\" 상품에 대한 새로운 신청이 도착했습니다!", productName);
-          notificationService.sendNotification(
-            productOwnerEmail, message, "PRODUCT_REQUEST", 0, productId);
-
-          // 5. 채팅방 생성 (기존과 동일)
-          ChatRoomRequest chatRoomRequest = new ChatRoomRequest();
-          chatRoomRequest.setProductId(productId);
-
-          ChatRoomResponse chatResponse = chatService.createOrGetChatRoom(requesterEmail, chatRoomRequest);
-
-          if (!chatResponse.isSuccess()) {
-              throw new RuntimeException("채팅방 생성 실패: " + chatResponse.getMessage());
-          }
+          // 4. 채팅방 생성, 등록자 알림 등록 (요청과 함께 커밋, 커밋 후 비동기 처리, 실패 시 재시도)
+          // 채팅방은 /api/core/chat/rooms/product/{productId} 조회 시 아직 없으면 바로 생성됨
+          productRequestEventService.enqueueChatRoom(productId, requesterEmail);
+          String message = String.format("\"%s\" 상품에 대한 새로운 신청이 도착했습니다!", product.getTitle());
+          productRequestEventService.enqueueNotification(productOwnerEmail, message, "PRODUCT_REQUEST", 0, productId);
 
-          // 6. 모집 인원 충족 시 상태 업데이트
+          // 5. 모집 인원 충족 시 상태 업데이트
           if (product.getCurrentParticipants() >= product.getMaxParticipants()) {
               productMapper.updateRequestStatusToComplete(productId);
           }
 
-          // 7. 응답 데이터 구성
+          // 6. 응답 데이터 구성
           Map<String, Object> responseData = new HashMap<>();
 
           // 요청 정보
@@ -178,12 +225,10 @@ public class ProductService {
           requestInfo.put("approvalStatus", "미승인");
           requestInfo.put("requestType", product.getRegistrationType().equals("판매") ? "구매 요청" : "판매 요청");
 
-          // 채팅방 정보 추가
           responseData.put("requestInfo", requestInfo);
-          responseData.put("chatInfo", chatResponse);
           responseData.put("productInfo", convertToProductResponse(product));
 
-          return ResponseEntity.ok(new BaseResponse<>(responseData, "상품 요청 및 채팅방 생성이 완료되었습니다."));
+          return ResponseEntity.ok(new BaseResponse<>(responseData, "상품 요청이 완료되었습니다."));
 
       } catch (Exception ex) {
           log.error("통합 처리 중 오류 발생: {}", ex.getMessage());
@@ -253,33 +298,26 @@ public class ProductService {
                 return ResponseEntity.status(403).body(new BaseResponse<>("해당 상품의 등록자만 요청을 승인할 수 있습니다."));
             }
 
-            // 현재 승인된 참여 인원 가져오기 (미승인 요청 제외)
-            int approvedParticipants = productMapper.getCurrentParticipants(productId);
-
-            // 최대 참여 인원을 초과할 수 없는지 확인
-            if (approvedParticipants >= product.getMaxParticipants()) {
+            // 요청 승인 + 참여 자리 예약 (남은 자리가 없으면 승인하지 않음, 마지막 자리면 모집 마감)
+            ParticipantSlotService.Result result = participantSlotService.approve(productId, requestId);
+            if (result == ParticipantSlotService.Result.ALREADY_PROCESSED) {
+                return ResponseEntity.status(400).body(new BaseResponse<>("승인 불가: 이미 처리된 요청입니다."));
+            }
+            if (result == ParticipantSlotService.Result.FULL) {
                 return ResponseEntity.status(400).body(new BaseResponse<>("승인 불가: 최대 참여 인원을 초과할 수 없습니다."));
             }
 
-            // 상품 요청 승인 처리 (`ProductRequests` 테이블 업데이트)
-            productMapper.updateRequestApprovalStatus(requestId, "승인");
-            approvedParticipants++;
-
-            // 승인된 요청이 남아있으므로 `currentParticipants` 증가 가능
-            productMapper.increaseCurrentParticipants(productId);
-
             // 상품명 가져오기
             String productName = product.getTitle();
             String message = String.format("\"%s\" 요청이 승인되었습니다!", productName);
 
-            // 실시간 알림 전송 (요청한 사용자에게)
-            notificationService.sendNotification(
-                requesterEmail, 
-                message, 
-                "PRODUCT_REQUEST",
-                0,
-                productId   
-            );
+            // 요청한 사용자에게 알림 (커밋 후 비동기 전송)
+            productRequestEventService.enqueueNotification(requesterEmail, message, "PRODUCT_REQUEST", 0, productId);
+
+            // 모집 마감된 경우 승인 참여자 거래는 마감 처리에서 한 번에 생성됨
+            if (result == ParticipantSlotService.Result.CLOSED) {
+                return ResponseEntity.ok(new BaseResponse<>("상품 요청이 승인되어 거래가 생성되었습니다."));
+            }
 
             // 거래 테이블 연동 (buyerEmail, sellerEmail 자동 설정)
             String buyerEmail;
@@ -298,17 +336,11 @@ public class ProductService {
                     .buyerEmail(buyerEmail)
                     .sellerEmail(sellerEmail)
                     .price(product.getPrice())
-                    .description("상품 요청 승인으로 생성된 거래")
+                    .description(ParticipantSlotService.TRANSACTION_DESCRIPTION)
                     .build();
 
             transactionsMapper.insertTransaction(transaction); // 거래 테이블에 저장
 
-            // 모집이 완료된 경우 자동으로 상태를 '완료'로 변경
-            if (approvedParticipants + 1 >= product.getMaxParticipants()) {
-                productMapper.updateRequestStatusToComplete(productId); // 승인된 요청들의 상태 변경
-                productMapper.updateProductStatusToComplete(productId); // 상품 모집 마감 처리
-            }
-
             return ResponseEntity.ok(new BaseResponse<>("상품 요청이 승인되어 거래가 생성되었습니다."));
 
         } catch (Exception ex) {
@@ -320,10 +352,10 @@ public class ProductService {
 
     /** 상품 목록 조회 (is_visible = TRUE인 상품만 조회) **/
     public List<ProductResponse> getProducts(Long categoryId, String sort) {
-        return productMapper.findFilteredProducts(categoryId, sort).stream()
-                .map(this::convertToProductResponse) // DTO 변환
-                .filter(ProductResponse::isVisible) // 모집 마감된 상품 제외
+        List<Product> products = productMapper.findFilteredProducts(categoryId, sort).stream()
+                .filter(Product::isVisible) // 모집 마감된 상품 제외
                 .collect(Collectors.toList());
+        return convertToProductResponses(products); // DTO 변환
     }
 
 
@@ -333,9 +365,7 @@ public class ProductService {
             List<Product> products = productMapper.findProductsByEmailAndType(email, types);
 
             // ProductResponse로 변환
-            List<ProductResponse> productResponses = products.stream()
-                    .map(this::convertToProductResponse)
-                    .collect(Collectors.toList());
+            List<ProductResponse> productResponses = convertToProductResponses(products);
 
             return ResponseEntity.ok(new BaseResponse<>(productResponses));
         } catch (Exception ex) {
@@ -349,9 +379,7 @@ public class ProductService {
         try {
             List<Product> products = productMapper.findMyRegisteredBuyProducts(email); // `ProductWithImagesMap` 사용
 
-            List<ProductResponse> productResponses = products.stream()
-                    .map(this::convertToProductResponse) // 변환 로직 추가
-                    .collect(Collectors.toList());
+            List<ProductResponse> productResponses = convertToProductResponses(products);
 
             return ResponseEntity.ok(new BaseResponse<>(productResponses));
         } catch (Exception ex) {
@@ -365,9 +393,7 @@ public class ProductService {
         try {
             List<Product> products = productMapper.findMyRegisteredSellProducts(email);  // Product 객체 반환
 
-            List<ProductResponse> productResponses = products.stream()
-                    .map(this::convertToProductResponse) // ProductResponse로 변환
-                    .collect(Collectors.toList());
+            List<ProductResponse> productResponses = convertToProductResponses(products);
 
             return ResponseEntity.ok(new BaseResponse<>(productResponses));
         } catch (Exception ex) {
@@ -381,9 +407,7 @@ public class ProductService {
         try {
             List<Product> products = productMapper.findMyRequestedBuyProducts(email);  // Product 객체 반환
 
-            List<ProductResponse> productResponses = products.stream()
-                    .map(this::convertToProductResponse) // ProductResponse로 변환
-                    .collect(Collectors.toList());
+            List<ProductResponse> productResponses = convertToProductResponses(products);
 
             return ResponseEntity.ok(new BaseResponse<>(productResponses));
         } catch (Exception ex) {
@@ -397,8 +421,9 @@ public class ProductService {
             int distance,
             String email) {
 
-        Double latitude = userLocationMapper.getUserLatestLocation(email).getLatitude();
-        Double longitude = userLocationMapper.getUserLatestLocation(email).getLongitude();
+        UserLocation location = userLocationMapper.getUserLatestLocation(email);
+        Double latitude = location != null ? location.getLatitude() : null;
+        Double longitude = location != null ? location.getLongitude() : null;
 
         // 디버그 확인
         log.debug("Received - latitude: {}, longitude: {}, distance: {}", latitude, longitude, distance);
@@ -415,20 +440,21 @@ public class ProductService {
         }
 
         // 모든 값이 정상적으로 들어왔을 때만 상품 검색 수행
-        List<ProductResponse> products = productMapper.findNearbyProducts(latitude, longitude, distance);
+        List<ProductResponse> products = findNearbyProductRows(latitude, longitude, distance);
 
         // 상품이 없을 때 200 OK + 메시지 반환
         if (products == null || products.isEmpty()) {
             return ResponseEntity.ok(BaseResponse.success(Collections.emptyList(), "주변에 검색된 상품이 없습니다. 거리 반경을 늘리거나, 등록 위치를 확인하세요."));
         }
 
-        // 중복 제거를 위한 Map 사용
-        Map<Long, ProductResponse> productMap = new HashMap<>();
+        // 중복 제거를 위한 Map 사용 (거리순 유지)
+        Map<Long, ProductResponse> productMap = new LinkedHashMap<>();
         products.forEach(product -> productMap.putIfAbsent(product.getId(), product));
 
-        // 이미지 리스트 및 썸네일 설정
+        // 이미지 리스트 및 썸네일 설정 (상품 ID로 한 번에 조회)
+        Map<Long, List<ProductImage>> imagesByProductId = findImages(new ArrayList<>(productMap.keySet()));
         productMap.values().forEach(product -> {
-            List<String> imagePaths = productImageMapper.findByProductId(product.getId())
+            List<String> imagePaths = imagesByProductId.getOrDefault(product.getId(), Collections.emptyList())
                     .stream()
                     .map(image -> image.getImagePath())
                     .collect(Collectors.toList());
@@ -443,14 +469,28 @@ public class ProductService {
         return ResponseEntity.ok(BaseResponse.success(List.copyOf(productMap.values()), "주변 상품 조회가 완료되었습니다."));
     }
 
+    /**
+     * 반경 내 상품 행 조회
+     * - 주변 상품 인덱스가 준비되어 있으면 인덱스에서 상품 ID를 찾아 ID 목록으로 한 번에 조회
+     * - 아니면 반경을 감싸는 사각형으로 후보를 DB 인덱스 범위 조회한 뒤, 정확한 거리로 다시 거름
+     */
+    private List<ProductResponse> findNearbyProductRows(double latitude, double longitude, int distance) {
+        if (nearbyProductIndex.isReady()) {
+            List<Long> ids = nearbyProductIndex.findWithin(latitude, longitude, distance);
+            return ids.isEmpty()
+                    ? Collections.emptyList()
+                    : productMapper.findNearbyProductsByIds(ids, latitude, longitude);
+        }
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(latitude, longitude, distance);
+        return productMapper.findNearbyProducts(latitude, longitude, distance, box);
+    }
+
     /** 내가 요청한 상품 목록 조회 (판매 요청만) **/
     public ResponseEntity<BaseResponse<List<ProductResponse>>> getMyRequestedSellProducts(String email) {
         try {
             List<Product> products = productMapper.findMyRequestedSellProducts(email);  // Product 객체 반환
 
-            List<ProductResponse> productResponses = products.stream()
-                    .map(this::convertToProductResponse) // ProductResponse로 변환
-                    .collect(Collectors.toList());
+            List<ProductResponse> productResponses = convertToProductResponses(products);
 
             return ResponseEntity.ok(new BaseResponse<>(productResponses));
         } catch (Exception ex) {
@@ -460,20 +500,33 @@ public class ProductService {
         }
     }
 
+    /** 상품 목록을 ProductResponse 목록으로 변환 (이미지는 상품 ID로 한 번에 조회) **/
+    private List<ProductResponse> convertToProductResponses(List<Product> products) {
+        Map<Long, List<String>> imageUrlsByProductId = findImageUrls(
+                products.stream().map(Product::getId).distinct().collect(Collectors.toList()));
+        return products.stream()
+                .map(product -> convertToProductResponse(product,
+                        imageUrlsByProductId.getOrDefault(product.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
     /** 상품 객체를 ProductResponse로 변환 **/
     private ProductResponse convertToProductResponse(Product product) {
         List<String> imageUrls = productImageMapper.findByProductId(product.getId()).stream()
-                .map(image -> "/api/core/market/products/images/" + image.getId()) // 이미지 엔드포인트 반환
+                .map(image -> IMAGE_URL_PREFIX + image.getId()) // 이미지 엔드포인트 반환
                 .collect(Collectors.toList());
+        return convertToProductResponse(product, imageUrls);
+    }
 
+    /** 이미지 URL을 미리 조회한 경우의 변환 (이미지 추가 조회 없음) **/
+    private ProductResponse convertToProductResponse(Product product, List<String> imageUrls) {
         // `days` JSON 문자열을 List<String>으로 변환
         List<String> daysList = null;
         if (product.getDays() != null) {
             try {
-                ObjectMapper objectMapper = new ObjectMapper();
-                daysList = objectMapper.readValue(product.getDays(), new TypeReference<List<String>>() {});
+                daysList = DAYS_READER.readValue(product.getDays());
             } catch (Exception e) {
-                e.printStackTrace();
+                log.warn("상품 요일 정보 변환 실패: productId={}, days={}", product.getId(), product.getDays());
             }
         }
         return ProductResponse.builder()
@@ -4,11 +4,15 @@ import com.example.demo.dto.Market.NotificationMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+
 @Service
 @RequiredArgsConstructor  // 자동으로 생성자 생성
 @Slf4j  // 로깅 추가
@@ -16,6 +20,8 @@ public class NotificationService {
     /** 상품 요청 발생 시 이메일 및 푸시 알림 전송 **/
     private final RedisTemplate<String, Object> redisTemplate;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterMessageRouter messageRouter;
+    private final RedisSerializer<NotificationMessage> notificationSerializer;
 
     // 알림용 Topic을 명확하게 지정
     private final @Qualifier("notificationChannelTopic") ChannelTopic notificationChannelTopic;
@@ -26,6 +32,13 @@ public class NotificationService {
             
             NotificationMessage notification = new NotificationMessage(receiverEmail, message, type, chatroomId, productId);
 
+            if (messageRouter.isEnabled()) {
+                // 수신자가 접속한 노드에만 전달
+                messageRouter.send("/topic/user/" + receiverEmail, notification);
+                log.info("구독 노드로 알림 전송 완료: receiver={}", receiverEmail);
+                return;
+            }
+
             // WebSocket을 통해 클라이언트에게 즉시 전송 (먼저 처리)
             String destination = "/topic/user/" + receiverEmail;
             messagingTemplate.convertAndSend(destination, notification);
@@ -36,7 +49,9 @@ public class NotificationService {
             
             try {
                 // Redis Pub/Sub으로 알림 전송 (옵션)
-                redisTemplate.convertAndSend(notificationChannelTopic.getTopic(), notification);
+                byte[] channel = notificationChannelTopic.getTopic().getBytes(StandardCharsets.UTF_8);
+                byte[] body = notificationSerializer.serialize(notification);
+                redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
                 log.info("Redis에 알림 발행 완료: topic={}", notificationChannelTopic.getTopic());
             } catch (Exception redisEx) {
                 // Redis 문제가 있더라도 WebSocket 전송은 계속 진행
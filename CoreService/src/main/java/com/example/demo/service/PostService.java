@@ -12,13 +12,18 @@ import com.example.demo.model.board.Board;
 import com.example.demo.model.board.BoardMember;
 import com.example.demo.model.board.Post;
 import com.example.demo.model.board.PostImage;
+import com.example.demo.util.SearchUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +35,15 @@ public class PostService {
     private final BoardMapper boardMapper;
     private final BoardMemberMapper boardMemberMapper;
     private final FileStorageService fileStorageService;
+    private final PostViewCountService postViewCountService;
+
+    // MySQL ngram_token_size (이보다 짧은 단어가 있는 검색어는 전문 검색 인덱스로 찾을 수 없어 LIKE 검색)
+    @Value("${board.search.ngram-token-size:2}")
+    private int ngramTokenSize;
+
+    // 검색 결과 본문 발췌 길이
+    @Value("${board.search.snippet-length:120}")
+    private int snippetLength;
 
     /**
      * 게시글 생성
@@ -201,8 +215,8 @@ public class PostService {
 
     /**
      * 게시글 상세 조회
+     * - 조회수는 PostViewCountService에 누적 후 주기적으로 반영 (게시글 행 UPDATE 없음)
      */
-    @Transactional
     public PostResponse getPostById(String email, Long postId) {
         // 게시글 조회
         Post post = postMapper.getPostById(postId);
@@ -236,8 +250,9 @@ public class PostService {
                 .map(PostImage::getImageUrl)
                 .collect(Collectors.toList());
         
-        // 조회수 증가
-        postMapper.increaseViewCount(postId);
+        // 조회수 증가 (같은 사용자의 반복 조회는 한 번만 집계)
+        postViewCountService.recordView(postId, email);
+        int pendingViews = postViewCountService.getPendingViews(postId);
         
         // 응답 데이터 생성
         return PostResponse.builder()
@@ -252,7 +267,7 @@ public class PostService {
                 .content(post.getContent())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
-                .viewCount(post.getViewCount() + 1) // 증가된 조회수 반영
+                .viewCount(post.getViewCount() + pendingViews) // 아직 반영되지 않은 조회수 포함
                 .likeCount(post.getLikeCount())
                 .commentCount(post.getCommentCount())
                 .imageUrls(imageUrls)
@@ -287,14 +302,15 @@ public class PostService {
         
         // 게시글 목록 조회
         List<Post> posts = postMapper.getPostsByBoardId(boardId);
+        Map<Long, Integer> pendingViews = postViewCountService.getPendingViews(
+                posts.stream().map(Post::getId).collect(Collectors.toList()));
         
         // 응답 데이터 생성
+        // 게시글 이미지 일괄 조회
+        Map<Long, List<String>> imageUrlsByPostId = findImageUrls(posts);
+        
         return posts.stream().map(post -> {
-            // 게시글 이미지 조회
-            List<PostImage> postImages = postMapper.getPostImagesByPostId(post.getId());
-            List<String> imageUrls = postImages.stream()
-                    .map(PostImage::getImageUrl)
-                    .collect(Collectors.toList());
+            List<String> imageUrls = imageUrlsByPostId.getOrDefault(post.getId(), Collections.emptyList());
             
             return PostResponse.builder()
                     .id(post.getId())
@@ -308,7 +324,7 @@ public class PostService {
                     .content(post.getContent())
                     .createdAt(post.getCreatedAt())
                     .updatedAt(post.getUpdatedAt())
-                    .viewCount(post.getViewCount())
+                    .viewCount(post.getViewCount() + pendingViews.getOrDefault(post.getId(), 0))
                     .likeCount(post.getLikeCount())
                     .commentCount(post.getCommentCount())
                     .imageUrls(imageUrls)
@@ -342,16 +358,18 @@ public class PostService {
             throw new IllegalArgumentException("게시판의 멤버만 게시글을 검색할 수 있습니다.");
         }
         
-        // 게시글 검색
-        List<Post> posts = postMapper.searchPosts(boardId, keyword);
+        // 게시글 검색 (전문 검색 인덱스, 관련도순)
+        String fullTextQuery = SearchUtils.toFullTextPhrase(keyword, ngramTokenSize);
+        List<Post> posts = postMapper.searchPosts(boardId, keyword, fullTextQuery);
+        Map<Long, Integer> pendingViews = postViewCountService.getPendingViews(
+                posts.stream().map(Post::getId).collect(Collectors.toList()));
         
         // 응답 데이터 생성
+        // 게시글 이미지 일괄 조회
+        Map<Long, List<String>> imageUrlsByPostId = findImageUrls(posts);
+        
         return posts.stream().map(post -> {
-            // 게시글 이미지 조회
-            List<PostImage> postImages = postMapper.getPostImagesByPostId(post.getId());
-            List<String> imageUrls = postImages.stream()
-                    .map(PostImage::getImageUrl)
-                    .collect(Collectors.toList());
+            List<String> imageUrls = imageUrlsByPostId.getOrDefault(post.getId(), Collections.emptyList());
             
             return PostResponse.builder()
                     .id(post.getId())
@@ -365,17 +383,20 @@ public class PostService {
                     .content(post.getContent())
                     .createdAt(post.getCreatedAt())
                     .updatedAt(post.getUpdatedAt())
-                    .viewCount(post.getViewCount())
+                    .viewCount(post.getViewCount() + pendingViews.getOrDefault(post.getId(), 0))
                     .likeCount(post.getLikeCount())
                     .commentCount(post.getCommentCount())
                     .imageUrls(imageUrls)
                     .isAuthor(post.getAuthorEmail().equals(email))
+                    .highlightedTitle(SearchUtils.highlight(post.getTitle(), keyword))
+                    .contentSnippet(SearchUtils.snippet(post.getContent(), keyword, snippetLength))
                     .build();
         }).collect(Collectors.toList());
     }
 
     /**
      * 검색 및 필터링 기능이 적용된 게시글 목록 조회
+     * - 제목/본문 검색어는 전문 검색 인덱스로 찾음 (sortBy=relevance면 관련도순)
      */
     public PagedPostResponse searchPostsWithFilters(String email, PostSearchRequest request) {
         // 게시판 존재 여부 확인
@@ -403,7 +424,14 @@ public class PostService {
         int page = request.getPage() != null ? request.getPage() : 0;
         int size = request.getSize() != null ? request.getSize() : 10;
         String sortBy = request.getSortBy() != null ? request.getSortBy() : "createdAt";
-        String sortDirection = request.getSortDirection() != null ? request.getSortDirection() : "DESC";
+        // 정렬 방향은 ORDER BY에 그대로 들어가므로 ASC/DESC만 허용
+        String sortDirection = "ASC".equalsIgnoreCase(request.getSortDirection()) ? "ASC" : "DESC";
+        String fullTextQuery = SearchUtils.toFullTextPhrase(request.getKeyword(), ngramTokenSize);
+        // 검색한 필드만 하이라이트 (title이면 제목, content면 본문, 지정하지 않으면 둘 다, 작성자 검색은 제외)
+        boolean hasKeyword = request.getKeyword() != null && !request.getKeyword().isBlank();
+        String searchField = request.getSearchField();
+        boolean highlightTitle = hasKeyword && !"author".equals(searchField) && !"content".equals(searchField);
+        boolean highlightContent = hasKeyword && !"author".equals(searchField) && !"title".equals(searchField);
         
         // 페이징 처리를 위한 offset 계산
         int offset = page * size;
@@ -412,6 +440,7 @@ public class PostService {
         List<Post> posts = postMapper.findPostsWithFilters(
                 request.getBoardId(),
                 request.getKeyword(),
+                fullTextQuery,
                 request.getSearchField(),
                 request.getStartDate(),
                 request.getEndDate(),
@@ -425,6 +454,7 @@ public class PostService {
         int totalCount = postMapper.countPostsWithFilters(
                 request.getBoardId(),
                 request.getKeyword(),
+                fullTextQuery,
                 request.getSearchField(),
                 request.getStartDate(),
                 request.getEndDate()
@@ -433,14 +463,15 @@ public class PostService {
         // 총 페이지 수 계산
         int totalPages = (totalCount + size - 1) / size;
         
+        // 게시글 이미지 일괄 조회
+        Map<Long, List<String>> imageUrlsByPostId = findImageUrls(posts);
+        Map<Long, Integer> pendingViews = postViewCountService.getPendingViews(
+                posts.stream().map(Post::getId).collect(Collectors.toList()));
+        
         // 응답 데이터 구성
         List<PostResponse> postResponses = posts.stream()
                 .map(post -> {
-                    // 게시글 이미지 조회
-                    List<PostImage> postImages = postMapper.getPostImagesByPostId(post.getId());
-                    List<String> imageUrls = postImages.stream()
-                            .map(PostImage::getImageUrl)
-                            .collect(Collectors.toList());
+                    List<String> imageUrls = imageUrlsByPostId.getOrDefault(post.getId(), Collections.emptyList());
                     
                     return PostResponse.builder()
                             .id(post.getId())
@@ -454,11 +485,15 @@ public class PostService {
                             .content(post.getContent())
                             .createdAt(post.getCreatedAt())
                             .updatedAt(post.getUpdatedAt())
-                            .viewCount(post.getViewCount())
+                            .viewCount(post.getViewCount() + pendingViews.getOrDefault(post.getId(), 0))
                             .likeCount(post.getLikeCount())
                             .commentCount(post.getCommentCount())
                             .imageUrls(imageUrls)
                             .isAuthor(post.getAuthorEmail().equals(email))
+                            .highlightedTitle(highlightTitle
+                                    ? SearchUtils.highlight(post.getTitle(), request.getKeyword()) : null)
+                            .contentSnippet(highlightContent
+                                    ? SearchUtils.snippet(post.getContent(), request.getKeyword(), snippetLength) : null)
                             .build();
                 })
                 .collect(Collectors.toList());
@@ -475,4 +510,19 @@ public class PostService {
                 .sortDirection(sortDirection)
                 .build();
     }
+
+    /**
+     * 여러 게시글의 이미지 URL 일괄 조회 (게시글 ID → 이미지 URL 목록, 조회 1회)
+     */
+    private Map<Long, List<String>> findImageUrls(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+        Map<Long, List<String>> imageUrlsByPostId = new HashMap<>();
+        for (PostImage image : postMapper.getPostImagesByPostIds(postIds)) {
+            imageUrlsByPostId.computeIfAbsent(image.getPostId(), id -> new ArrayList<>()).add(image.getImageUrl());
+        }
+        return imageUrlsByPostId;
+    }
 }
@@ -0,0 +1,257 @@
+package com.example.demo.service;
+
+import com.example.demo.mapper.board.PostMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 조회수 지연 반영 서비스
+ * - 조회 시 board_posts 행을 바로 UPDATE 하지 않고 Redis 해시(board:post-views:pending)에 게시글별 증가분을 누적
+ * - 같은 사용자가 dedup-window-seconds 안에 다시 조회하면 한 번만 집계
+ * - 스케줄러가 누적분을 통째로 가져와(RENAME) 한 번의 UPDATE로 반영, 실패하면 누적분을 되돌려 다음 주기에 재시도
+ * - 반영 도중 노드가 중단되어 남은 반영용 키(flushing:{생성 시각}:{UUID})는 orphan-age-ms가 지나면 누적분으로 되돌림
+ * - DB 반영 후 반영용 키 삭제에 실패하면 되돌리지 않고 다음 정리 주기에 다시 삭제 (이미 반영한 증가분을 두 번 더하지 않음)
+ * - 조회 응답에는 DB 조회수 + 아직 반영되지 않은 증가분을 더해서 보여줌
+ * - Redis 장애 시에는 기존처럼 DB에 바로 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewCountService {
+
+    private static final String PENDING_KEY = "board:post-views:pending";
+    private static final String FLUSHING_KEY_PREFIX = "board:post-views:flushing:";
+    private static final String VIEWED_KEY_PREFIX = "board:post-views:viewed:";
+    // 반영 도중 서버가 중단된 경우 남는 키 정리용 (그 전에 sweepOrphans가 누적분으로 되돌림)
+    private static final Duration FLUSHING_KEY_TTL = Duration.ofDays(1);
+
+    // 누적분이 있을 때만 반영용 키로 옮김 (여러 노드가 동시에 반영해도 같은 누적분을 두 번 가져가지 않음)
+    private static final DefaultRedisScript<Long> TAKE_PENDING_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) return 1 end " +
+            "return 0", Long.class);
+
+    // 남은 반영용 키의 증가분을 누적분에 더한 뒤 삭제 (여러 노드가 동시에 정리해도 한 번만 더해짐)
+    private static final DefaultRedisScript<Long> MERGE_ORPHAN_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #entries, 2 do " +
+            "redis.call('HINCRBY', KEYS[2], entries[i], entries[i + 1]) end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return #entries / 2", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final PostMapper postMapper;
+
+    // DB에 반영했지만 삭제하지 못한 반영용 키 (sweepOrphans가 누적분으로 되돌리지 않고 다시 삭제)
+    private final Set<String> appliedFlushingKeys = ConcurrentHashMap.newKeySet();
+
+    @Value("${board.view-count.buffer-enabled:true}")
+    private boolean enabled;
+
+    // 같은 사용자의 반복 조회를 한 번으로 집계하는 시간
+    @Value("${board.view-count.dedup-window-seconds:600}")
+    private long dedupWindowSeconds;
+
+    // 반영용 키가 이 시간보다 오래 남아 있으면 반영 도중 중단된 것으로 보고 누적분으로 되돌림 (반영 주기보다 충분히 길게)
+    @Value("${board.view-count.orphan-age-ms:300000}")
+    private long orphanAgeMs;
+
+    /**
+     * 게시글 조회 기록
+     * @return 조회수가 증가했으면 true (중복 조회면 false)
+     */
+    public boolean recordView(Long postId, String email) {
+        if (!enabled) {
+            postMapper.increaseViewCount(postId);
+            return true;
+        }
+        try {
+            if (email != null) {
+                Boolean firstView = redisTemplate.opsForValue().setIfAbsent(
+                        VIEWED_KEY_PREFIX + postId + ":" + email, 1, Duration.ofSeconds(dedupWindowSeconds));
+                if (!Boolean.TRUE.equals(firstView)) {
+                    return false;
+                }
+            }
+            redisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(postId), 1);
+            return true;
+        } catch (Exception e) {
+            log.warn("조회수 누적 실패, DB에 바로 반영: postId={}, error={}", postId, e.getMessage());
+            postMapper.increaseViewCount(postId);
+            return true;
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분
+     */
+    public int getPendingViews(Long postId) {
+        return getPendingViews(List.of(postId)).getOrDefault(postId, 0);
+    }
+
+    /**
+     * 여러 게시글의 아직 DB에 반영되지 않은 조회수 증가분 (증가분이 없는 게시글은 포함하지 않음)
+     */
+    public Map<Long, Integer> getPendingViews(Collection<Long> postIds) {
+        Map<Long, Integer> pending = new HashMap<>();
+        if (!enabled || postIds == null || postIds.isEmpty()) {
+            return pending;
+        }
+        List<Long> ids = new ArrayList<>(postIds);
+        try {
+            List<Object> fields = ids.stream().map(String::valueOf).collect(Collectors.toList());
+            List<Object> values = redisTemplate.opsForHash().multiGet(PENDING_KEY, fields);
+            for (int i = 0; i < ids.size(); i++) {
+                if (values.get(i) instanceof Number) {
+                    pending.put(ids.get(i), ((Number) values.get(i)).intValue());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("조회수 누적분 조회 실패: {}", e.getMessage());
+        }
+        return pending;
+    }
+
+    /**
+     * 누적된 조회수를 DB에 일괄 반영 (기본 10초 간격)
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:10000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        String flushingKey = FLUSHING_KEY_PREFIX + System.currentTimeMillis() + ":" + UUID.randomUUID();
+        Map<Long, Long> deltas;
+        try {
+            Long taken = redisTemplate.execute(TAKE_PENDING_SCRIPT, Arrays.asList(PENDING_KEY, flushingKey));
+            if (taken == null || taken == 0) {
+                return;
+            }
+            redisTemplate.expire(flushingKey, FLUSHING_KEY_TTL);
+            deltas = toDeltas(redisTemplate.opsForHash().entries(flushingKey));
+        } catch (Exception e) {
+            log.warn("조회수 누적분 가져오기 실패: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            if (!deltas.isEmpty()) {
+                postMapper.addViewCounts(deltas);
+            }
+        } catch (Exception e) {
+            log.warn("조회수 DB 반영 실패, 다음 주기에 재시도: 게시글 {}건, error={}", deltas.size(), e.getMessage());
+            restore(flushingKey, deltas);
+            return;
+        }
+
+        // 이미 DB에 반영했으므로 삭제에 실패해도 누적분으로 되돌리지 않음
+        deleteAppliedKey(flushingKey);
+        log.debug("조회수 반영 완료: 게시글 {}건", deltas.size());
+    }
+
+    /**
+     * 반영 도중 노드가 중단되어 남은 반영용 키를 누적분으로 되돌림 (기본 1분 간격)
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.orphan-sweep-interval-ms:60000}")
+    public void sweepOrphans() {
+        if (!enabled) {
+            return;
+        }
+        new ArrayList<>(appliedFlushingKeys).forEach(this::deleteAppliedKey);
+
+        long threshold = System.currentTimeMillis() - orphanAgeMs;
+        try {
+            for (String key : scanFlushingKeys()) {
+                Long createdAt = createdAt(key);
+                if (createdAt == null || createdAt > threshold || appliedFlushingKeys.contains(key)) {
+                    continue;
+                }
+                Long merged = redisTemplate.execute(MERGE_ORPHAN_SCRIPT, Arrays.asList(key, PENDING_KEY));
+                if (merged != null && merged > 0) {
+                    log.warn("반영되지 않은 조회수 누적분 복구: key={}, 게시글 {}건", key, merged);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("남은 조회수 반영용 키 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<String> scanFlushingKeys() {
+        return redisTemplate.execute((RedisCallback<List<String>>) connection -> collectFlushingKeys(connection));
+    }
+
+    private List<String> collectFlushingKeys(RedisConnection connection) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(FLUSHING_KEY_PREFIX + "*").count(500).build();
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+            }
+        }
+        return keys;
+    }
+
+    // 반영용 키 생성 시각 (형식이 다른 키는 null)
+    private Long createdAt(String flushingKey) {
+        String suffix = flushingKey.substring(FLUSHING_KEY_PREFIX.length());
+        int separator = suffix.indexOf(':');
+        try {
+            return separator > 0 ? Long.valueOf(suffix.substring(0, separator)) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void deleteAppliedKey(String flushingKey) {
+        try {
+            redisTemplate.delete(flushingKey);
+            appliedFlushingKeys.remove(flushingKey);
+        } catch (Exception e) {
+            appliedFlushingKeys.add(flushingKey);
+            log.warn("반영한 조회수 키 삭제 실패, 다음 정리 주기에 다시 삭제: key={}, error={}", flushingKey, e.getMessage());
+        }
+    }
+
+    private void restore(String flushingKey, Map<Long, Long> deltas) {
+        try {
+            deltas.forEach((postId, delta) ->
+                    redisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(postId), delta));
+            redisTemplate.delete(flushingKey);
+        } catch (Exception e) {
+            log.error("조회수 누적분 복구 실패: key={}, error={}", flushingKey, e.getMessage());
+        }
+    }
+
+    private Map<Long, Long> toDeltas(Map<Object, Object> entries) {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            if (entry.getValue() instanceof Number && ((Number) entry.getValue()).longValue() > 0) {
+                deltas.put(Long.valueOf(entry.getKey().toString()), ((Number) entry.getValue()).longValue());
+            }
+        }
+        return deltas;
+    }
+}
@@ -188,7 +188,7 @@ public class ProfileService {
 
                 // 취미가 해당 카테고리에 속하는지 검증
                 try {
-                    boolean isValid = hobbyService.getHobbyMapper().isHobbyInCategory(hobby.getHobbyId(),
+                    boolean isValid = hobbyService.isHobbyInCategory(hobby.getHobbyId(),
                             hobby.getCategoryId());
                     if (!isValid) {
                         return ProfileUpdateResponse.builder()
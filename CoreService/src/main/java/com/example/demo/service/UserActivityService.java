@@ -0,0 +1,42 @@
+package com.example.demo.service;
+
+import com.example.demo.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 활동(마일리지, 도파민) 기록
+ * - 활동 내역(PointsDopamineActivity)에 행을 추가하면서 사용자별 집계(UserActivitySummary)도 함께 갱신
+ * - 상품 목록 등은 활동 내역을 합산하지 않고 집계 테이블을 사용자당 한 행 조인
+ * - 활동 내역에 직접 추가된 행이나 집계 반영 실패는 주기적 재계산으로 보정
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserActivityService {
+
+    private final UserMapper userMapper;
+
+    /**
+     * 활동 기록 (호출 측 트랜잭션이 있으면 함께 커밋/롤백)
+     */
+    public void recordActivity(String email, int dopamine, int points) {
+        userMapper.initializeUserActivity(email, dopamine, points);
+        userMapper.upsertActivitySummary(email, dopamine, points);
+    }
+
+    /**
+     * 활동 내역 전체로 사용자 활동 집계 재계산 (기본 매일 04:30)
+     */
+    @Scheduled(cron = "${activity.summary.rebuild-cron:0 30 4 * * *}")
+    public void rebuildSummaries() {
+        try {
+            int updated = userMapper.rebuildActivitySummaries();
+            log.info("사용자 활동 집계 재계산 완료: {}행 반영", updated);
+        } catch (Exception e) {
+            log.warn("사용자 활동 집계 재계산 실패: {}", e.getMessage());
+        }
+    }
+}
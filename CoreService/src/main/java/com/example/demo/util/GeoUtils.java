@@ -0,0 +1,75 @@
+package com.example.demo.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위치 기반 검색을 위한 유틸리티 클래스 (거리 단위: km)
+ */
+public class GeoUtils {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private static final double MIN_LATITUDE = -90.0;
+    private static final double MAX_LATITUDE = 90.0;
+    private static final double MIN_LONGITUDE = -180.0;
+    private static final double MAX_LONGITUDE = 180.0;
+
+    /**
+     * 중심 좌표에서 반경 distanceKm 원을 감싸는 위도/경도 사각형을 계산합니다.
+     * 사각형 안의 후보만 인덱스 범위 조회로 가져온 뒤 정확한 거리로 다시 거르는 용도입니다.
+     * 극점이 포함되거나 날짜 변경선을 넘는 경우 경도 범위는 전체(-180 ~ 180)로 넓힙니다.
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param distanceKm 반경 (km)
+     * @return 반경 원을 포함하는 사각형
+     */
+    public static BoundingBox boundingBox(double latitude, double longitude, double distanceKm) {
+        double angularDistance = distanceKm / EARTH_RADIUS_KM;
+        double latDelta = Math.toDegrees(angularDistance);
+
+        double minLat = latitude - latDelta;
+        double maxLat = latitude + latDelta;
+        if (minLat <= MIN_LATITUDE || maxLat >= MAX_LATITUDE) {
+            return new BoundingBox(Math.max(minLat, MIN_LATITUDE), Math.min(maxLat, MAX_LATITUDE),
+                    MIN_LONGITUDE, MAX_LONGITUDE);
+        }
+
+        double lngDelta = Math.toDegrees(Math.asin(Math.sin(angularDistance) / Math.cos(Math.toRadians(latitude))));
+        double minLng = longitude - lngDelta;
+        double maxLng = longitude + lngDelta;
+        if (minLng < MIN_LONGITUDE || maxLng > MAX_LONGITUDE) {
+            return new BoundingBox(minLat, maxLat, MIN_LONGITUDE, MAX_LONGITUDE);
+        }
+        return new BoundingBox(minLat, maxLat, minLng, maxLng);
+    }
+
+    /**
+     * 두 좌표 사이의 대권 거리(km)를 계산합니다. (ProductMapper.xml의 거리 계산식과 같은 구면 코사인 법칙)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double cosine = Math.cos(phi1) * Math.cos(phi2) * Math.cos(Math.toRadians(lng2) - Math.toRadians(lng1))
+                + Math.sin(phi1) * Math.sin(phi2);
+        // 부동소수점 오차로 1을 살짝 넘으면 acos가 NaN이 되므로 보정
+        return EARTH_RADIUS_KM * Math.acos(Math.min(1.0, Math.max(-1.0, cosine)));
+    }
+
+    /**
+     * 위도/경도 사각형 범위
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class BoundingBox {
+        private final double minLatitude;
+        private final double maxLatitude;
+        private final double minLongitude;
+        private final double maxLongitude;
+
+        public boolean contains(double latitude, double longitude) {
+            return latitude >= minLatitude && latitude <= maxLatitude
+                    && longitude >= minLongitude && longitude <= maxLongitude;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 게시글 전문 검색(MySQL FULLTEXT ngram)용 검색어 변환 및 하이라이트 유틸리티 클래스
+ */
+public class SearchUtils {
+
+    public static final String HIGHLIGHT_OPEN = "<em>";
+    public static final String HIGHLIGHT_CLOSE = "</em>";
+
+    private static final String ELLIPSIS = "...";
+    // 특수문자(<, >, &, ", ')만 이스케이프하고 한글 등은 그대로 둠
+    private static final String ENCODING = "UTF-8";
+
+    /**
+     * 검색어를 BOOLEAN MODE 구문 검색어("검색어")로 변환합니다.
+     * ngram 인덱스는 minTokenSize보다 짧은 단어를 찾지 못하므로, 그런 단어가 있으면 null을 반환해 LIKE 검색으로 대신합니다.
+     * 구문 검색 안에서는 따옴표 외의 연산자(+, -, * 등)가 의미가 없으므로 따옴표만 제거합니다.
+     * @param keyword 사용자 검색어
+     * @param minTokenSize ngram_token_size
+     * @return 전문 검색 구문, 전문 검색을 쓸 수 없으면 null
+     */
+    public static String toFullTextPhrase(String keyword, int minTokenSize) {
+        if (keyword == null) {
+            return null;
+        }
+        String normalized = keyword.replace("\"", " ").trim().replaceAll("\\s+", " ");
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        for (String word : normalized.split(" ")) {
+            if (word.codePointCount(0, word.length()) < minTokenSize) {
+                return null;
+            }
+        }
+        return "\"" + normalized + "\"";
+    }
+
+    /**
+     * 텍스트를 HTML 이스케이프한 뒤 검색어와 일치하는 부분(대소문자 무시)을 &lt;em&gt;으로 감쌉니다.
+     * @param text 원문
+     * @param keyword 검색어 (비어 있으면 이스케이프만 수행)
+     * @return 하이라이트된 HTML, 원문이 null이면 null
+     */
+    public static String highlight(String text, String keyword) {
+        if (text == null) {
+            return null;
+        }
+        String term = keyword != null ? keyword.trim() : "";
+        if (term.isEmpty()) {
+            return HtmlUtils.htmlEscape(text, ENCODING);
+        }
+
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        int from = 0;
+        int index;
+        while ((index = indexOfIgnoreCase(text, term, from)) >= 0) {
+            result.append(HtmlUtils.htmlEscape(text.substring(from, index), ENCODING))
+                    .append(HIGHLIGHT_OPEN)
+                    .append(HtmlUtils.htmlEscape(text.substring(index, index + term.length()), ENCODING))
+                    .append(HIGHLIGHT_CLOSE);
+            from = index + term.length();
+        }
+        result.append(HtmlUtils.htmlEscape(text.substring(from), ENCODING));
+        return result.toString();
+    }
+
+    /**
+     * 본문에서 검색어가 처음 나오는 위치 주변 length자를 잘라 하이라이트합니다.
+     * 검색어가 없으면 본문 앞부분을 반환합니다.
+     * @param text 원문
+     * @param keyword 검색어
+     * @param length 잘라낼 길이
+     * @return 하이라이트된 HTML 발췌문, 원문이 null이면 null
+     */
+    public static String snippet(String text, String keyword, int length) {
+        if (text == null) {
+            return null;
+        }
+        if (text.length() <= length) {
+            return highlight(text, keyword);
+        }
+
+        String term = keyword != null ? keyword.trim() : "";
+        int index = term.isEmpty() ? -1 : indexOfIgnoreCase(text, term, 0);
+        // 검색어 앞쪽 문맥은 1/4 정도만 보여줌
+        int start = index < 0 ? 0 : Math.max(0, Math.min(index - length / 4, text.length() - length));
+        int end = Math.min(text.length(), start + length);
+
+        return (start > 0 ? ELLIPSIS : "")
+                + highlight(text.substring(start, end), keyword)
+                + (end < text.length() ? ELLIPSIS : "");
+    }
+
+    private static int indexOfIgnoreCase(String text, String term, int from) {
+        int last = text.length() - term.length();
+        for (int i = from; i <= last; i++) {
+            if (text.regionMatches(true, i, term, 0, term.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.config;
+
+import com.example.demo.model.board.Board;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache 테스트")
+class TwoLevelCacheTest {
+
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+
+    private ConcurrentMapCache remoteCache;
+    private Counter remoteHitCounter;
+    private Counter remoteMissCounter;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        remoteCache = new ConcurrentMapCache("boards");
+        remoteHitCounter = meterRegistry.counter("cache.gets", "result", "hit");
+        remoteMissCounter = meterRegistry.counter("cache.gets", "result", "miss");
+        cache = new TwoLevelCache("boards", Caffeine.newBuilder().maximumSize(100).build(),
+                CompactRedisSerializer.generic(CompactRedisSerializer.FORMAT_SMILE),
+                remoteCache, cacheManager, remoteHitCounter, remoteMissCounter);
+    }
+
+    @Test
+    @DisplayName("L2에서 찾은 값은 L1에 적재되어 다음 조회는 L2를 거치지 않음")
+    void get_RemoteHitPopulatesLocal() {
+        // given
+        remoteCache.put(1L, board(1L, "러닝 크루"));
+
+        // when
+        Cache.ValueWrapper first = cache.get(1L);
+        remoteCache.evict(1L);
+        Cache.ValueWrapper second = cache.get(1L);
+
+        // then
+        assertThat(((Board) first.get()).getName()).isEqualTo("러닝 크루");
+        assertThat(((Board) second.get()).getName()).isEqualTo("러닝 크루");
+        assertThat(remoteHitCounter.count()).isEqualTo(1.0);
+        assertThat(remoteMissCounter.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 결과를 수정해도 L1 캐시 값은 바뀌지 않음")
+    void get_ReturnsCopy() {
+        // given
+        cache.put(1L, board(1L, "러닝 크루"));
+
+        // when
+        Board cached = cache.get(1L, Board.class);
+        cached.setName("수정된 이름");
+
+        // then
+        assertThat(cache.get(1L, Board.class).getName()).isEqualTo("러닝 크루");
+        verify(cacheManager, times(1)).publishInvalidation("boards", "1");
+    }
+
+    @Test
+    @DisplayName("삭제 시 L1과 L2에서 모두 제거하고 무효화 메시지 발행")
+    void evict_RemovesBothTiers() {
+        // given
+        cache.put(1L, board(1L, "러닝 크루"));
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(remoteCache.get(1L)).isNull();
+        verify(cacheManager, times(2)).publishInvalidation("boards", "1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 L1만 제거")
+    void evictLocal_KeepsRemote() {
+        // given
+        cache.put(1L, board(1L, "러닝 크루"));
+
+        // when
+        cache.evictLocal("1");
+        Cache.ValueWrapper result = cache.get(1L);
+
+        // then
+        assertThat(((Board) result.get()).getName()).isEqualTo("러닝 크루");
+        assertThat(remoteHitCounter.count()).isEqualTo(1.0);
+    }
+
+    private Board board(Long id, String name) {
+        return Board.builder().id(id).name(name).hostEmail("host@example.com").status("ACTIVE").build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demo.config;
+
+import com.example.demo.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocketConfig 아웃바운드 실행기 테스트")
+class WebSocketConfigTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketConfig webSocketConfig;
+    private ThreadPoolTaskExecutor executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        webSocketConfig = new WebSocketConfig(jwtTokenProvider, new WebSocketOutboundMetrics(meterRegistry));
+        // 스레드 1개, 큐 1칸: 세 번째 메시지부터 거부 정책 적용
+        ReflectionTestUtils.setField(webSocketConfig, "outboundCorePoolSize", 1);
+        ReflectionTestUtils.setField(webSocketConfig, "outboundMaxPoolSize", 1);
+        ReflectionTestUtils.setField(webSocketConfig, "outboundQueueCapacity", 1);
+        ReflectionTestUtils.setField(webSocketConfig, "outboundRejectionPolicy", "caller-runs");
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("거부 정책 - 설정값에 맞는 정책, 알 수 없는 값은 caller-runs")
+    void rejectionPolicy() {
+        assertThat(WebSocketOutboundMetrics.rejectionPolicy("caller-runs"))
+                .isInstanceOf(ThreadPoolExecutor.CallerRunsPolicy.class);
+        assertThat(WebSocketOutboundMetrics.rejectionPolicy("discard"))
+                .isInstanceOf(ThreadPoolExecutor.DiscardPolicy.class);
+        assertThat(WebSocketOutboundMetrics.rejectionPolicy("discard-oldest"))
+                .isInstanceOf(ThreadPoolExecutor.DiscardOldestPolicy.class);
+        assertThat(WebSocketOutboundMetrics.rejectionPolicy("ABORT"))
+                .isInstanceOf(ThreadPoolExecutor.AbortPolicy.class);
+        assertThat(WebSocketOutboundMetrics.rejectionPolicy("unknown"))
+                .isInstanceOf(ThreadPoolExecutor.CallerRunsPolicy.class);
+    }
+
+    @Test
+    @DisplayName("아웃바운드 실행기 - 설정값 적용, 큐/스레드 Gauge와 전송 Timer 등록")
+    void clientOutboundExecutor_RegistersMeters() {
+        // when
+        executor = webSocketConfig.clientOutboundExecutor();
+
+        // then
+        assertThat(executor.getCorePoolSize()).isEqualTo(1);
+        assertThat(executor.getMaxPoolSize()).isEqualTo(1);
+        assertThat(executor.getQueueCapacity()).isEqualTo(1);
+        assertThat(meterRegistry.find("websocket.outbound.queue.size").gauge()).isNotNull();
+        assertThat(meterRegistry.find("websocket.outbound.active").gauge()).isNotNull();
+        assertThat(meterRegistry.find("websocket.outbound.pool.size").gauge()).isNotNull();
+        assertThat(meterRegistry.find("websocket.outbound.send").timer()).isNotNull();
+        assertThat(meterRegistry.find("websocket.outbound.rejected").counter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("아웃바운드 실행기 - 큐가 가득 차면 기본 정책(caller-runs)으로 발행 스레드에서 전송하고 거부 건수 집계")
+    void clientOutboundExecutor_CallerRunsWhenSaturated() throws InterruptedException {
+        // given
+        executor = webSocketConfig.clientOutboundExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        started.await();
+        executor.execute(this::awaitRelease);
+
+        // when
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        executor.execute(() -> runner.set(Thread.currentThread()));
+
+        // then
+        assertThat(runner.get()).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.get("websocket.outbound.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("websocket.outbound.queue.size").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("websocket.outbound.active").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("아웃바운드 실행기 - discard 정책이면 큐가 가득 찼을 때 새 메시지를 버리고 거부 건수 집계")
+    void clientOutboundExecutor_DiscardPolicy() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(webSocketConfig, "outboundRejectionPolicy", "discard");
+        executor = webSocketConfig.clientOutboundExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        started.await();
+        executor.execute(this::awaitRelease);
+
+        // when
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        executor.execute(() -> runner.set(Thread.currentThread()));
+
+        // then
+        assertThat(runner.get()).isNull();
+        assertThat(meterRegistry.get("websocket.outbound.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisMessageListener 테스트")
+class RedisMessageListenerTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private RedisMessageListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new RedisMessageListener(new ObjectMapper(), messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("chatroomId로 목적지를 정하고 페이로드는 변환 없이 전달")
+    void onMessage_ForwardsRawPayload() {
+        // given
+        String json = "{\"messageId\":1,\"chatroomId\":5,\"content\":\"안녕하세요\"}";
+
+        // when
+        listener.onMessage(message(json), null);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate, times(1)).send(eq("/topic/chat.5"), captor.capture());
+        assertThat((byte[]) captor.getValue().getPayload()).isEqualTo(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("chatroomId 앞의 이스케이프된 문자열과 중첩 객체/배열은 건너뜀")
+    void onMessage_SkipsEscapedStringsAndNestedValues() {
+        // given
+        String json = "{\"content\":\"\\\"chatroomId\\\":99 \\\\ \\u0041\","
+                + "\"sender\":{\"chatroomId\":98,\"profile\":{\"chatroomId\":97}},"
+                + "\"attachments\":[{\"chatroomId\":96},[1,2]],"
+                + "\"chatroomId\":7}";
+
+        // when
+        listener.onMessage(message(json), null);
+
+        // then
+        verify(messagingTemplate, times(1)).send(eq("/topic/chat.7"), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("chatroomId가 없으면 전달하지 않음")
+    void onMessage_MissingChatroomId() {
+        // when
+        listener.onMessage(message("{\"messageId\":1,\"content\":\"안녕하세요\"}"), null);
+
+        // then
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("chatroomId가 정수가 아니면 전달하지 않음")
+    void onMessage_NonNumericChatroomId() {
+        // when
+        listener.onMessage(message("{\"chatroomId\":\"abc\",\"content\":\"안녕하세요\"}"), null);
+        listener.onMessage(message("{\"chatroomId\":1.5}"), null);
+        listener.onMessage(message("{\"chatroomId\":null}"), null);
+
+        // then
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 페이로드는 예외 없이 로그만 남기고 버림")
+    void onMessage_MalformedPayload() {
+        // when & then
+        assertThatCode(() -> {
+            listener.onMessage(message("{\"content\":\"안녕하세요\" \"chatroomId\":1}"), null);
+            listener.onMessage(message("{\"content\":\"끝나지 않은 문자열"), null);
+            listener.onMessage(message("[1,2,3]"), null);
+            listener.onMessage(message(""), null);
+        }).doesNotThrowAnyException();
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    private DefaultMessage message(String json) {
+        return new DefaultMessage("chat".getBytes(StandardCharsets.UTF_8), json.getBytes(StandardCharsets.UTF_8));
+    }
+}
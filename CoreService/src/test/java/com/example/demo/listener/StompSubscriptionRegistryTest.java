@@ -0,0 +1,160 @@
+package com.example.demo.listener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompSubscriptionRegistry 테스트")
+class StompSubscriptionRegistryTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @InjectMocks
+    private StompSubscriptionRegistry subscriptionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(subscriptionRegistry, "brokerMode", "routed");
+    }
+
+    @Test
+    @DisplayName("같은 목적지를 여러 세션이 구독해도 노드는 한 번만 등록")
+    void subscribe_RegistersNodeOnce() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        // when
+        subscriptionRegistry.handleSubscribe(subscribeEvent("s1", "sub-0", "/topic/chat.1"));
+        subscriptionRegistry.handleSubscribe(subscribeEvent("s2", "sub-0", "/topic/chat.1"));
+
+        // then
+        assertThat(subscriptionRegistry.hasLocalSubscribers("/topic/chat.1")).isTrue();
+        verify(setOperations, times(1)).add("ws:subscribers:/topic/chat.1", subscriptionRegistry.getNodeId());
+    }
+
+    @Test
+    @DisplayName("마지막 구독이 해제되면 노드 등록 해제")
+    void unsubscribeAndDisconnect_UnregistersNode() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        subscriptionRegistry.handleSubscribe(subscribeEvent("s1", "sub-0", "/topic/chat.1"));
+        subscriptionRegistry.handleSubscribe(subscribeEvent("s2", "sub-0", "/topic/chat.1"));
+
+        // when
+        subscriptionRegistry.handleUnsubscribe(unsubscribeEvent("s1", "sub-0"));
+        assertThat(subscriptionRegistry.hasLocalSubscribers("/topic/chat.1")).isTrue();
+        subscriptionRegistry.handleDisconnect(disconnectEvent("s2"));
+        subscriptionRegistry.handleDisconnect(disconnectEvent("s2"));
+
+        // then
+        assertThat(subscriptionRegistry.hasLocalSubscribers("/topic/chat.1")).isFalse();
+        verify(setOperations, times(1)).remove("ws:subscribers:/topic/chat.1", subscriptionRegistry.getNodeId());
+    }
+
+    @Test
+    @DisplayName("라우팅 대상이 아닌 목적지와 broadcast 모드는 등록하지 않음")
+    void subscribe_IgnoredDestinations() {
+        // when
+        subscriptionRegistry.handleSubscribe(subscribeEvent("s1", "sub-0", "/topic/room.1"));
+        ReflectionTestUtils.setField(subscriptionRegistry, "brokerMode", "broadcast");
+        subscriptionRegistry.handleSubscribe(subscribeEvent("s1", "sub-1", "/topic/chat.1"));
+
+        // then
+        assertThat(subscriptionRegistry.hasLocalSubscribers("/topic/chat.1")).isFalse();
+        verify(setOperations, never()).add(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("주기적 갱신 - 생존 키 갱신, 구독 목적지 재등록, 생존 키가 없는 노드 제거")
+    void refresh_ReRegistersAndPrunesStaleNodes() {
+        // given
+        ReflectionTestUtils.setField(subscriptionRegistry, "refreshIntervalMs", 30000L);
+        String nodeId = subscriptionRegistry.getNodeId();
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        subscriptionRegistry.handleSubscribe(subscribeEvent("s1", "sub-0", "/topic/chat.1"));
+        when(setOperations.members("ws:subscribers:/topic/chat.1")).thenReturn(Set.<Object>of(nodeId, "dead-node"));
+        when(redisTemplate.hasKey("ws:node:alive:dead-node")).thenReturn(false);
+
+        // when
+        subscriptionRegistry.refresh();
+
+        // then
+        verify(valueOperations, times(1)).set("ws:node:alive:" + nodeId, 1, Duration.ofMillis(90000));
+        // 구독 시 1회 + 갱신 시 1회 (Redis에서 유실되었어도 복구)
+        verify(setOperations, times(2)).add("ws:subscribers:/topic/chat.1", nodeId);
+        verify(redisTemplate, times(1)).expire("ws:subscribers:/topic/chat.1", Duration.ofMillis(90000));
+        verify(setOperations, times(1)).remove("ws:subscribers:/topic/chat.1", "dead-node");
+        verify(redisTemplate, never()).hasKey("ws:node:alive:" + nodeId);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 로컬 구독 수는 유지")
+    void subscribe_RedisFailureKeepsLocalCount() {
+        // given
+        when(redisTemplate.opsForSet()).thenThrow(new RuntimeException("connection refused"));
+
+        // when
+        subscriptionRegistry.handleSubscribe(subscribeEvent("s1", "sub-0", "/topic/chat.1"));
+
+        // then
+        assertThat(subscriptionRegistry.hasLocalSubscribers("/topic/chat.1")).isTrue();
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, toMessage(accessor));
+    }
+
+    private SessionUnsubscribeEvent unsubscribeEvent(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(this, toMessage(accessor));
+    }
+
+    private SessionDisconnectEvent disconnectEvent(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return new SessionDisconnectEvent(this, toMessage(accessor), sessionId, CloseStatus.NORMAL);
+    }
+
+    private Message<byte[]> toMessage(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -5,7 +5,6 @@ import com.example.demo.dto.auth.LoginResponse;
 import com.example.demo.dto.auth.SignupRequest;
 import com.example.demo.dto.auth.SignupResponse;
 import com.example.demo.dto.hobby.HobbyRequest;
-import com.example.demo.mapper.HobbyMapper;
 import com.example.demo.mapper.UserMapper;
 import com.example.demo.model.User;
 import com.example.demo.model.UserAccountInfo;
@@ -51,7 +50,7 @@ class AuthServiceTest {
     private HobbyService hobbyService;
 
     @Mock
-    private HobbyMapper hobbyMapper;
+    private UserActivityService userActivityService;
 
     @InjectMocks
     private AuthService authService;
@@ -95,11 +94,9 @@ class AuthServiceTest {
         when(passwordUtils.hashPassword(anyString(), any())).thenReturn(hashResult);
         when(userMapper.insertUser(any(User.class))).thenReturn(1);
         when(userMapper.insertUserAccountInfo(any(UserAccountInfo.class))).thenReturn(1);
-        when(userMapper.initializeUserActivity(anyString(), anyInt(), anyInt())).thenReturn(1);
         when(hobbyService.isValidCategory(anyLong())).thenReturn(true);
         when(hobbyService.isValidHobby(anyLong())).thenReturn(true);
-        when(hobbyService.getHobbyMapper()).thenReturn(hobbyMapper);
-        when(hobbyMapper.isHobbyInCategory(anyLong(), anyLong())).thenReturn(true);
+        when(hobbyService.isHobbyInCategory(anyLong(), anyLong())).thenReturn(true);
 
         // when
         SignupResponse response = authService.registerUser(signupRequest);
@@ -109,6 +106,7 @@ class AuthServiceTest {
         assertThat(response.getEmail()).isEqualTo("test@example.com");
         verify(userMapper, times(1)).insertUser(any(User.class));
         verify(userMapper, times(1)).insertUserAccountInfo(any(UserAccountInfo.class));
+        verify(userActivityService, times(1)).recordActivity("test@example.com", 50, 0);
         verify(passwordUtils, times(1)).hashPassword(anyString(), any());
     }
 
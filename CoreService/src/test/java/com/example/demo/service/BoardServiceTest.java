@@ -1,5 +1,6 @@
 package com.example.demo.service;
 
+import com.example.demo.config.RedisCacheConfig;
 import com.example.demo.dto.board.BoardCreateRequest;
 import com.example.demo.mapper.UserMapper;
 import com.example.demo.mapper.board.BoardMapper;
@@ -14,6 +15,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -42,6 +45,12 @@ class BoardServiceTest {
     @Mock
     private FileStorageService fileStorageService;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
     @InjectMocks
     private BoardService boardService;
 
@@ -338,6 +347,29 @@ class BoardServiceTest {
         verify(boardMemberMapper, times(1)).deleteMember(1L);
     }
 
+    @Test
+    @DisplayName("멤버 추방 - 추방된 멤버의 멤버십 캐시 삭제")
+    void kickMember_EvictsMembership() {
+        // given
+        BoardMember member = BoardMember.builder()
+                .id(2L)
+                .boardId(1L)
+                .userEmail("member@example.com")
+                .role("MEMBER")
+                .status("ACTIVE")
+                .build();
+        when(boardMapper.findBoardById(1L)).thenReturn(board);
+        when(boardMemberMapper.findMemberById(2L)).thenReturn(member);
+        when(cacheManager.getCache(RedisCacheConfig.CACHE_BOARD_MEMBERS)).thenReturn(cache);
+
+        // when
+        boardService.kickMember("test@example.com", 1L, 2L);
+
+        // then
+        verify(boardMemberMapper, times(1)).updateMemberStatus(2L, "BANNED");
+        verify(cache, times(1)).evict("1:member@example.com");
+    }
+
     @Test
     @DisplayName("게시판 삭제 성공")
     void deleteBoard_Success() {
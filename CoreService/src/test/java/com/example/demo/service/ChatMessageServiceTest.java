@@ -0,0 +1,230 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.chat.ChatMessagesResponse;
+import com.example.demo.mapper.ChatMessageMapper;
+import com.example.demo.mapper.ChatRoomMapper;
+import com.example.demo.mapper.Market.ProductMapper;
+import com.example.demo.mapper.UserMapper;
+import com.example.demo.model.Market.Product;
+import com.example.demo.model.chat.ChatMessage;
+import com.example.demo.model.chat.ChatRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageService 테스트")
+class ChatMessageServiceTest {
+
+    private static final Integer CHATROOM_ID = 10;
+    private static final String SELLER = "seller@example.com";
+    private static final String BUYER = "buyer@example.com";
+
+    @Mock
+    private ChatMessageMapper chatMessageMapper;
+
+    @Mock
+    private ChatRoomMapper chatRoomMapper;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private ChatUnreadCounterService unreadCounterService;
+
+    @Mock
+    private ChatMessageWriteBuffer writeBuffer;
+
+    @InjectMocks
+    private ChatMessageService chatMessageService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chatMessageService, "defaultPageSize", 20);
+    }
+
+    @Test
+    @DisplayName("읽음 처리 - 저장 대기 메시지용 읽음 기록 후 DB 읽음 상태 업데이트")
+    void markMessagesAsRead_RecordsReadBeforeUpdate() {
+        // given
+        givenChatRoomMember(BUYER);
+        when(unreadCounterService.isEnabled()).thenReturn(true);
+
+        // when
+        boolean result = chatMessageService.markMessagesAsRead(CHATROOM_ID, BUYER);
+
+        // then
+        assertThat(result).isTrue();
+        InOrder inOrder = inOrder(writeBuffer, chatMessageMapper, unreadCounterService);
+        inOrder.verify(writeBuffer).recordRead(CHATROOM_ID, BUYER);
+        inOrder.verify(chatMessageMapper).updateMessageReadStatus(CHATROOM_ID, BUYER);
+        inOrder.verify(unreadCounterService).reset(BUYER, CHATROOM_ID);
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 아직 저장되지 않은 메시지도 최신순으로 포함")
+    void getChatMessagesBefore_IncludesBufferedMessages() {
+        // given
+        givenChatRoomMember(SELLER);
+        when(chatMessageMapper.findMessagesBeforeId(CHATROOM_ID, null, 4))
+                .thenReturn(messages(40, 39, 38, 37));
+        // 41번은 저장 직후 정리 전이라 DB 조회 결과와 겹침
+        when(writeBuffer.findBufferedMessages(CHATROOM_ID)).thenReturn(messages(40, 41, 42));
+
+        // when
+        ChatMessagesResponse response = chatMessageService.getChatMessagesBefore(CHATROOM_ID, SELLER, null, 3, false);
+
+        // then
+        assertThat(response.getMessages()).extracting(ChatMessage::getMessageId).containsExactly(40, 41, 42);
+        assertThat(response.getHasMore()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 페이지 크기는 최대 100개")
+    void getChatMessagesBefore_CapsPageSize() {
+        // given
+        givenChatRoomMember(SELLER);
+        when(chatMessageMapper.findMessagesBeforeId(CHATROOM_ID, 500, 101))
+                .thenReturn(descendingMessages(400, 101));
+
+        // when
+        ChatMessagesResponse response = chatMessageService.getChatMessagesBefore(CHATROOM_ID, SELLER, 500, 1000, false);
+
+        // then
+        assertThat(response.getMessages()).hasSize(100);
+        assertThat(response.getMessages().get(0).getMessageId()).isEqualTo(301);
+        assertThat(response.getHasMore()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(301);
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 페이지 크기만큼만 남아 있으면 마지막 페이지 (오래된 메시지 먼저)")
+    void getChatMessagesBefore_LastPageAtBoundary() {
+        // given
+        givenChatRoomMember(SELLER);
+        when(chatMessageMapper.findMessagesBeforeId(CHATROOM_ID, 31, 4)).thenReturn(messages(30, 29, 28));
+
+        // when
+        ChatMessagesResponse response = chatMessageService.getChatMessagesBefore(CHATROOM_ID, SELLER, 31, 3, false);
+
+        // then
+        assertThat(response.getMessages()).extracting(ChatMessage::getMessageId).containsExactly(28, 29, 30);
+        assertThat(response.getHasMore()).isFalse();
+        assertThat(response.getNextCursor()).isEqualTo(28);
+        assertThat(response.getTotalCount()).isNull();
+        verify(chatMessageMapper, never()).countMessagesByChatRoomId(anyInt());
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 커서가 없으면 최신 페이지를 기본 크기로 조회하고 읽음 처리")
+    void getChatMessagesBefore_NullCursorReadsLatestPage() {
+        // given
+        givenChatRoomMember(BUYER);
+        when(chatMessageMapper.findMessagesBeforeId(CHATROOM_ID, null, 21)).thenReturn(messages(3, 2, 1));
+        when(chatMessageMapper.countMessagesByChatRoomId(CHATROOM_ID)).thenReturn(3);
+
+        // when
+        ChatMessagesResponse response = chatMessageService.getChatMessagesBefore(CHATROOM_ID, BUYER, null, null, true);
+
+        // then
+        assertThat(response.getMessages()).extracting(ChatMessage::getMessageId).containsExactly(1, 2, 3);
+        assertThat(response.getHasMore()).isFalse();
+        assertThat(response.getNextCursor()).isEqualTo(1);
+        assertThat(response.getTotalCount()).isEqualTo(3);
+        verify(writeBuffer, times(1)).recordRead(CHATROOM_ID, BUYER);
+        verify(chatMessageMapper, times(1)).updateMessageReadStatus(CHATROOM_ID, BUYER);
+        verify(unreadCounterService, times(1)).reset(BUYER, CHATROOM_ID);
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 이전 메시지 페이지는 읽음 상태를 바꾸지 않음")
+    void getChatMessagesBefore_OlderPageDoesNotMarkRead() {
+        // given
+        givenChatRoomMember(BUYER);
+        when(chatMessageMapper.findMessagesBeforeId(CHATROOM_ID, 3, 21)).thenReturn(messages(2, 1));
+
+        // when
+        ChatMessagesResponse response = chatMessageService.getChatMessagesBefore(CHATROOM_ID, BUYER, 3, null, false);
+
+        // then
+        assertThat(response.getMessages()).extracting(ChatMessage::getMessageId).containsExactly(1, 2);
+        verify(writeBuffer, never()).recordRead(anyInt(), anyString());
+        verify(chatMessageMapper, never()).updateMessageReadStatus(anyInt(), anyString());
+        verify(unreadCounterService, never()).reset(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("페이지 조회 - 아직 저장되지 않은 메시지는 마지막 페이지에 이어서 표시")
+    void getChatMessages_AppendsBufferedMessagesToLastPage() {
+        // given
+        givenChatRoomMember(SELLER);
+        when(chatMessageMapper.findMessagesByChatRoomId(CHATROOM_ID, 0, 3)).thenReturn(messages(1, 2));
+        when(chatMessageMapper.countMessagesByChatRoomId(CHATROOM_ID)).thenReturn(2);
+        when(writeBuffer.findBufferedMessages(CHATROOM_ID)).thenReturn(messages(3, 4));
+
+        // when
+        ChatMessagesResponse response = chatMessageService.getChatMessages(CHATROOM_ID, SELLER, 0, 3);
+
+        // then
+        assertThat(response.getMessages()).extracting(ChatMessage::getMessageId).containsExactly(1, 2, 3);
+        assertThat(response.getTotalCount()).isEqualTo(4);
+        assertThat(response.getTotalPages()).isEqualTo(2);
+        verify(writeBuffer, times(1)).recordRead(CHATROOM_ID, SELLER);
+    }
+
+    private void givenChatRoomMember(String email) {
+        ChatRoom chatRoom = ChatRoom.builder()
+                .chatroomId(CHATROOM_ID)
+                .productId(1L)
+                .requestEmail(BUYER)
+                .build();
+        Product product = new Product();
+        product.setId(1L);
+        product.setEmail(SELLER);
+        when(chatRoomMapper.findChatRoomById(CHATROOM_ID, email)).thenReturn(chatRoom);
+        when(productMapper.findById(1L, email)).thenReturn(product);
+    }
+
+    // from부터 count개 ID 역순 메시지 (findMessagesBeforeId 조회 순서)
+    private List<ChatMessage> descendingMessages(int from, int count) {
+        int[] messageIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            messageIds[i] = from - i;
+        }
+        return messages(messageIds);
+    }
+
+    private List<ChatMessage> messages(int... messageIds) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int messageId : messageIds) {
+            messages.add(ChatMessage.builder()
+                    .messageId(messageId)
+                    .chatroomId(CHATROOM_ID)
+                    .senderEmail(BUYER)
+                    .content("메시지 " + messageId)
+                    .messageType("TEXT")
+                    .sentAt(LocalDateTime.of(2026, 1, 1, 12, 0, messageId % 60))
+                    .build());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,435 @@
+package com.example.demo.service;
+
+import com.example.demo.mapper.ChatMessageMapper;
+import com.example.demo.mapper.ChatRoomMapper;
+import com.example.demo.model.chat.ChatMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageWriteBuffer 테스트")
+class ChatMessageWriteBufferTest {
+
+    private static final String STREAM_KEY = "chat:messages:write-behind";
+    private static final String CONSUMER_GROUP = "chat-message-writer";
+    private static final StreamOffset<String> PENDING_OFFSET = StreamOffset.create(STREAM_KEY, ReadOffset.from("0"));
+    private static final StreamOffset<String> NEW_OFFSET = StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed());
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    private ChatMessageMapper chatMessageMapper;
+
+    @Mock
+    private ChatRoomMapper chatRoomMapper;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private ChatMessageWriteBuffer writeBuffer;
+
+    // 테스트에서 DB에 저장된 것으로 간주하는 메시지 (findStoredMessagesByIds 응답)
+    private final Map<Integer, ChatMessage> storedRows = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(writeBuffer, "enabled", true);
+        ReflectionTestUtils.setField(writeBuffer, "batchSize", 200);
+        ReflectionTestUtils.setField(writeBuffer, "maxPending", 10000L);
+        ReflectionTestUtils.setField(writeBuffer, "claimIdleMs", 60000L);
+        ReflectionTestUtils.setField(writeBuffer, "consumerName", "node-a");
+    }
+
+    @Test
+    @DisplayName("일괄 저장 - 미처리(PEL) → 중단된 노드에서 인계 → 새 메시지 순으로 처리")
+    @SuppressWarnings("unchecked")
+    void flush_ProcessesPendingThenClaimedThenNew() throws Exception {
+        // given
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), eq(PENDING_OFFSET)))
+                .thenReturn(List.of(record("1-0", message(1, 10))));
+        when(streamOperations.pending(eq(STREAM_KEY), eq(CONSUMER_GROUP), any(), eq(200L)))
+                .thenReturn(pending(pendingMessage("2-0", "node-b", 120000)));
+        when(streamOperations.claim(eq(STREAM_KEY), eq(CONSUMER_GROUP), eq("node-a"), any(Duration.class),
+                any(RecordId[].class)))
+                .thenReturn(List.of(record("2-0", message(2, 10))));
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), eq(NEW_OFFSET)))
+                .thenReturn(List.of(record("3-0", message(3, 10))));
+        storeAllInserts();
+
+        // when
+        writeBuffer.flush();
+
+        // then
+        InOrder inOrder = inOrder(chatMessageMapper);
+        inOrder.verify(chatMessageMapper).saveChatMessagesWithId(argThat(messages -> messages.get(0).getMessageId() == 1));
+        inOrder.verify(chatMessageMapper).saveChatMessagesWithId(argThat(messages -> messages.get(0).getMessageId() == 2));
+        inOrder.verify(chatMessageMapper).saveChatMessagesWithId(argThat(messages -> messages.get(0).getMessageId() == 3));
+        verify(streamOperations, times(1)).acknowledge(STREAM_KEY, CONSUMER_GROUP, RecordId.of("1-0"));
+        verify(streamOperations, times(1)).acknowledge(STREAM_KEY, CONSUMER_GROUP, RecordId.of("2-0"));
+        verify(streamOperations, times(1)).acknowledge(STREAM_KEY, CONSUMER_GROUP, RecordId.of("3-0"));
+    }
+
+    @Test
+    @DisplayName("일괄 저장 실패 시 개별 저장 - 저장된 행만 ACK, 채팅방 마지막 메시지도 저장된 행만 갱신")
+    @SuppressWarnings("unchecked")
+    void flush_RowFallbackAcknowledgesStoredRowsOnly() throws Exception {
+        // given
+        ChatMessage saved = message(1, 10);
+        ChatMessage broken = message(2, 20);
+        givenNewRecords(record("1-0", saved), record("2-0", broken));
+        when(chatMessageMapper.saveChatMessagesWithId(anyList())).thenAnswer(invocation -> {
+            List<ChatMessage> messages = invocation.getArgument(0);
+            if (messages.size() > 1 || messages.get(0).getMessageId() == 2) {
+                throw new RuntimeException("Data too long");
+            }
+            storedRows.put(1, messages.get(0));
+            return 1;
+        });
+        answerStoredRows();
+
+        // when
+        writeBuffer.flush();
+
+        // then
+        verify(streamOperations, times(1)).acknowledge(STREAM_KEY, CONSUMER_GROUP, RecordId.of("1-0"));
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), eq(RecordId.of("2-0")));
+        verify(chatRoomMapper, times(1)).updateChatRoomLastMessage(eq(10), anyString(), any());
+        verify(chatRoomMapper, never()).updateChatRoomLastMessage(eq(20), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("중단된 노드 메시지 인계 - 다른 노드가 claim-idle-ms 이상 처리하지 못한 메시지만 가져옴")
+    void flush_ClaimsIdleRecordsFromOtherConsumersOnly() {
+        // given
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(streamOperations.pending(eq(STREAM_KEY), eq(CONSUMER_GROUP), any(), eq(200L)))
+                .thenReturn(pending(
+                        pendingMessage("1-0", "node-a", 120000),   // 이 노드의 메시지
+                        pendingMessage("2-0", "node-b", 30000),    // 아직 처리 중일 수 있음
+                        pendingMessage("3-0", "node-b", 120000))); // 중단된 노드의 메시지
+        when(streamOperations.claim(eq(STREAM_KEY), eq(CONSUMER_GROUP), eq("node-a"), any(Duration.class),
+                any(RecordId[].class)))
+                .thenReturn(List.of());
+
+        // when
+        writeBuffer.flush();
+
+        // then
+        verify(streamOperations, times(1)).claim(STREAM_KEY, CONSUMER_GROUP, "node-a",
+                Duration.ofMillis(60000), RecordId.of("3-0"));
+    }
+
+    @Test
+    @DisplayName("ID 충돌 - ACK 하지 않고 카운터 재설정 후 새 ID로 다시 적재")
+    @SuppressWarnings("unchecked")
+    void flush_IdCollisionReissuesMessage() throws Exception {
+        // given
+        ChatMessage message = message(5, 10);
+        givenNewRecords(record("1-0", message));
+        // 같은 ID로 다른 채팅방의 메시지가 이미 저장되어 있음
+        storedRows.put(5, ChatMessage.builder().messageId(5).chatroomId(99)
+                .senderEmail("other@example.com").sentAt(message.getSentAt()).build());
+        answerStoredRows();
+        when(chatMessageMapper.findMaxMessageId()).thenReturn(40);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(40L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("chat:messages:id")).thenReturn(41L);
+
+        // when
+        writeBuffer.flush();
+
+        // then
+        verify(streamOperations, times(1)).add(any(MapRecord.class));
+        assertThat(message.getMessageId()).isEqualTo(41);
+        verify(chatRoomMapper, never()).updateChatRoomLastMessage(anyInt(), anyString(), any());
+        // 원래 레코드는 새 ID로 다시 적재된 뒤 ACK
+        verify(streamOperations, times(1)).acknowledge(STREAM_KEY, CONSUMER_GROUP, RecordId.of("1-0"));
+    }
+
+    @Test
+    @DisplayName("ID 충돌 - 같은 사용자가 같은 초에 보낸 다른 메시지는 저장된 것으로 보지 않음")
+    @SuppressWarnings("unchecked")
+    void flush_SameSecondDifferentContentIsCollision() throws Exception {
+        // given
+        ChatMessage message = message(5, 10);
+        givenNewRecords(record("1-0", message));
+        // 같은 ID로 같은 채팅방/발신자/시간의 다른 내용 메시지가 이미 저장되어 있음
+        ChatMessage earlier = message(5, 10);
+        earlier.setContent("먼저 보낸 메시지");
+        storedRows.put(5, earlier);
+        answerStoredRows();
+        when(chatMessageMapper.findMaxMessageId()).thenReturn(40);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(40L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("chat:messages:id")).thenReturn(41L);
+
+        // when
+        writeBuffer.flush();
+
+        // then
+        assertThat(message.getMessageId()).isEqualTo(41);
+        verify(streamOperations, times(1)).add(any(MapRecord.class));
+    }
+
+    @Test
+    @DisplayName("전송 → 읽음 처리 → 일괄 저장 - 읽음 처리 전에 보낸 메시지는 읽음으로 저장")
+    @SuppressWarnings("unchecked")
+    void flush_MessageReadBeforeFlushIsStoredAsRead() throws Exception {
+        // given
+        ChatMessage message = message(41, 10);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        writeBuffer.enqueue(message, "안녕하세요");
+        writeBuffer.recordRead(10, "buyer@example.com");
+        givenNewRecords(record("1-0", message));
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("chat:messages:read-watermark:10"))
+                .thenReturn(Map.<Object, Object>of("buyer@example.com", 41));
+        storeAllInserts();
+
+        // when
+        writeBuffer.flush();
+
+        // then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), any(), any(),
+                eq(List.of("chat:messages:id", "chat:messages:read-watermark:10")),
+                eq("buyer@example.com"), anyString());
+        assertThat(storedRows.get(41).isRead()).isTrue();
+        verify(chatMessageMapper, never()).updateMessageReadStatusUpTo(anyInt(), anyString(), anyLong());
+        verify(zSetOperations, times(1)).remove(eq("chat:messages:buffered:10"), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("일괄 저장 - 저장 전 확인 이후 읽음 처리되면 저장 후 읽음 상태 업데이트")
+    @SuppressWarnings("unchecked")
+    void flush_ReadDuringInsertIsAppliedAfterInsert() throws Exception {
+        // given
+        givenNewRecords(record("1-0", message(41, 10)));
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("chat:messages:read-watermark:10"))
+                .thenReturn(Map.of())
+                .thenReturn(Map.<Object, Object>of("buyer@example.com", 41, "seller@example.com", 50));
+        storeAllInserts();
+
+        // when
+        writeBuffer.flush();
+
+        // then
+        assertThat(storedRows.get(41).isRead()).isFalse();
+        verify(chatMessageMapper, times(1)).updateMessageReadStatusUpTo(10, "buyer@example.com", 41L);
+        // 발신자 본인의 읽음 기록은 반영하지 않음
+        verify(chatMessageMapper, never()).updateMessageReadStatusUpTo(10, "seller@example.com", 50L);
+    }
+
+    @Test
+    @DisplayName("저장 대기 메시지 조회 - 채팅방 Sorted Set의 메시지를 ID 순으로 반환")
+    void findBufferedMessages() throws Exception {
+        // given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.range("chat:messages:buffered:10", 0, -1)).thenReturn(new LinkedHashSet<>(List.<Object>of(
+                objectMapper.writeValueAsString(message(41, 10)),
+                objectMapper.writeValueAsString(message(42, 10)))));
+
+        // when
+        List<ChatMessage> messages = writeBuffer.findBufferedMessages(10);
+
+        // then
+        assertThat(messages).extracting(ChatMessage::getMessageId).containsExactly(41, 42);
+    }
+
+    @Test
+    @DisplayName("저장 대기 채팅방 조회 - Stream에 남은 메시지의 채팅방 ID")
+    @SuppressWarnings("unchecked")
+    void findPendingChatroomIds() throws Exception {
+        // given
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(streamOperations.range(eq(STREAM_KEY), any(Range.class), any(Limit.class)))
+                .thenReturn(List.of(record("1-0", message(1, 10)), record("2-0", message(2, 20)),
+                        record("3-0", message(3, 10))));
+
+        // when
+        Set<Integer> chatroomIds = writeBuffer.findPendingChatroomIds();
+
+        // then
+        assertThat(chatroomIds).containsExactlyInAnyOrder(10, 20);
+    }
+
+    @Test
+    @DisplayName("메시지 ID 발급 - DB 최대 ID 이하가 발급되면 카운터 재설정 후 다시 발급")
+    @SuppressWarnings("unchecked")
+    void nextMessageId_ReseedsWhenBelowDatabaseMax() {
+        // given
+        ReflectionTestUtils.setField(writeBuffer, "dbMaxMessageId", new AtomicLong(100));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("chat:messages:id")).thenReturn(1L).thenReturn(121L);
+        when(chatMessageMapper.findMaxMessageId()).thenReturn(120);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(120L);
+
+        // when
+        int messageId = writeBuffer.nextMessageId();
+
+        // then
+        assertThat(messageId).isEqualTo(121);
+    }
+
+    @Test
+    @DisplayName("메시지 ID 발급 - 재설정 후에도 DB 최대 ID 이하면 발급 거부")
+    @SuppressWarnings("unchecked")
+    void nextMessageId_RefusesWhenStillBelowDatabaseMax() {
+        // given
+        ReflectionTestUtils.setField(writeBuffer, "dbMaxMessageId", new AtomicLong(100));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("chat:messages:id")).thenReturn(1L);
+        when(chatMessageMapper.findMaxMessageId()).thenReturn(100);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(100L);
+
+        // when & then
+        assertThatThrownBy(() -> writeBuffer.nextMessageId())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("버퍼 상한 도달 시 적재하지 않고 동기 저장으로 대체")
+    void enqueue_MaxPendingFallsBack() {
+        // given
+        ReflectionTestUtils.setField(writeBuffer, "maxPending", 1L);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+
+        // when
+        boolean first = writeBuffer.enqueue(message(1, 10), "안녕하세요");
+        boolean second = writeBuffer.enqueue(message(2, 10), "안녕하세요");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        verify(streamOperations, times(1)).add(any(MapRecord.class));
+    }
+
+    @Test
+    @DisplayName("동기 저장 - 저장된 행이 같은 메시지면 채팅방 마지막 메시지 갱신")
+    void writeThrough_Success() {
+        // given
+        ChatMessage message = message(7, 10);
+        storeAllInserts();
+
+        // when
+        writeBuffer.writeThrough(message, "안녕하세요");
+
+        // then
+        verify(chatMessageMapper, times(1)).saveChatMessagesWithId(List.of(message));
+        verify(chatRoomMapper, times(1)).updateChatRoomLastMessage(10, "안녕하세요", message.getSentAt());
+    }
+
+    @SafeVarargs
+    private final void givenNewRecords(MapRecord<String, Object, Object>... records) {
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), eq(PENDING_OFFSET)))
+                .thenReturn(List.of());
+        when(streamOperations.pending(eq(STREAM_KEY), eq(CONSUMER_GROUP), any(), eq(200L)))
+                .thenReturn(pending());
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), eq(NEW_OFFSET)))
+                .thenReturn(List.of(records));
+    }
+
+    private void storeAllInserts() {
+        when(chatMessageMapper.saveChatMessagesWithId(anyList())).thenAnswer(invocation -> {
+            List<ChatMessage> messages = invocation.getArgument(0);
+            messages.forEach(message -> storedRows.put(message.getMessageId(), message));
+            return messages.size();
+        });
+        answerStoredRows();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void answerStoredRows() {
+        when(chatMessageMapper.findStoredMessagesByIds(anyList())).thenAnswer(invocation ->
+                ((List<Integer>) invocation.getArgument(0)).stream()
+                        .filter(storedRows::containsKey)
+                        .map(storedRows::get)
+                        .toList());
+    }
+
+    private ChatMessage message(int messageId, int chatroomId) {
+        return ChatMessage.builder()
+                .messageId(messageId)
+                .chatroomId(chatroomId)
+                .senderEmail("seller@example.com")
+                .content("안녕하세요")
+                .messageType("TEXT")
+                .sentAt(LocalDateTime.of(2026, 1, 1, 12, 0, 0))
+                .build();
+    }
+
+    private MapRecord<String, Object, Object> record(String id, ChatMessage message) throws Exception {
+        Map<Object, Object> fields = new HashMap<>();
+        fields.put("message", objectMapper.writeValueAsString(message));
+        fields.put("lastMessage", message.getContent());
+        return MapRecord.<String, Object, Object>create(STREAM_KEY, fields).withId(RecordId.of(id));
+    }
+
+    private PendingMessages pending(PendingMessage... messages) {
+        return new PendingMessages(CONSUMER_GROUP, List.of(messages));
+    }
+
+    private PendingMessage pendingMessage(String id, String consumer, long idleMs) {
+        return new PendingMessage(RecordId.of(id), Consumer.from(CONSUMER_GROUP, consumer),
+                Duration.ofMillis(idleMs), 1);
+    }
+}
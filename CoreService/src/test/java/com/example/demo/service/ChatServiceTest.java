@@ -8,6 +8,7 @@ import com.example.demo.mapper.Market.ProductRequestMapper;
 import com.example.demo.mapper.UserMapper;
 import com.example.demo.mapper.Market.ProductImageMapper;
 import com.example.demo.model.Market.Product;
+import com.example.demo.model.Market.ProductImage;
 import com.example.demo.model.Market.ProductRequest;
 import com.example.demo.model.User;
 import com.example.demo.model.chat.ChatRoom;
@@ -23,10 +24,12 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -53,6 +56,9 @@ class ChatServiceTest {
     @Mock
     private ProductRequestMapper productRequestMapper;
 
+    @Mock
+    private ChatUnreadCounterService unreadCounterService;
+
     @InjectMocks
     private ChatService chatService;
 
@@ -110,8 +116,8 @@ class ChatServiceTest {
         when(chatRoomMapper.findChatRoomByProductAndBuyer(1L, "buyer@example.com"))
                 .thenReturn(null);
         doNothing().when(chatRoomMapper).createChatRoom(any(ChatRoom.class));
-        when(userMapper.findByEmail("seller@example.com")).thenReturn(seller);
-        when(userMapper.findByEmail("buyer@example.com")).thenReturn(buyer);
+        when(userMapper.findProfileByEmail("seller@example.com")).thenReturn(seller);
+        when(userMapper.findProfileByEmail("buyer@example.com")).thenReturn(buyer);
         when(productImageMapper.findByProductId(1L)).thenReturn(Collections.emptyList());
 
         // when
@@ -131,8 +137,8 @@ class ChatServiceTest {
         when(productMapper.findById(1L, "buyer@example.com")).thenReturn(product);
         when(chatRoomMapper.findChatRoomByProductAndBuyer(1L, "buyer@example.com"))
                 .thenReturn(chatRoom);
-        when(userMapper.findByEmail("seller@example.com")).thenReturn(seller);
-        when(userMapper.findByEmail("buyer@example.com")).thenReturn(buyer);
+        when(userMapper.findProfileByEmail("seller@example.com")).thenReturn(seller);
+        when(userMapper.findProfileByEmail("buyer@example.com")).thenReturn(buyer);
         when(productImageMapper.findByProductId(1L)).thenReturn(Collections.emptyList());
 
         // when
@@ -187,10 +193,10 @@ class ChatServiceTest {
         // given
         List<ChatRoom> chatRooms = Arrays.asList(chatRoom);
         when(chatRoomMapper.findChatRoomsByUser("buyer@example.com")).thenReturn(chatRooms);
-        when(productMapper.findById(1L, "buyer@example.com")).thenReturn(product);
-        when(userMapper.findByEmail("seller@example.com")).thenReturn(seller);
-        when(productImageMapper.findByProductId(1L)).thenReturn(Collections.emptyList());
-        when(chatMessageMapper.countUnreadMessages(1, "buyer@example.com")).thenReturn(0);
+        when(productMapper.findByIdsForChatRooms(List.of(1L), "buyer@example.com")).thenReturn(List.of(product));
+        when(productImageMapper.findThumbnailsByProductIds(List.of(1L))).thenReturn(Collections.emptyList());
+        when(userMapper.findByEmails(List.of("seller@example.com"))).thenReturn(List.of(seller));
+        when(unreadCounterService.getUnreadCounts("buyer@example.com", List.of(1))).thenReturn(Map.of(1, 0));
 
         // when
         var result = chatService.getChatRoomsByUser("buyer@example.com");
@@ -200,6 +206,61 @@ class ChatServiceTest {
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getChatRooms()).isNotNull();
         verify(chatRoomMapper, times(1)).findChatRoomsByUser("buyer@example.com");
+        assertThat(result.getChatRooms().get(0).getOtherUserName()).isEqualTo("판매자");
+        assertThat(result.getChatRooms().get(0).getUnreadCount()).isZero();
+        verify(productMapper, never()).findById(anyLong(), anyString());
+        verify(chatMessageMapper, never()).countUnreadMessages(anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("사용자의 채팅방 목록 조회 - 채팅방 수와 관계없이 일괄 조회")
+    void getChatRoomsByUser_BatchEnrichment() {
+        // given
+        ChatRoom secondRoom = ChatRoom.builder()
+                .chatroomId(2)
+                .productId(2L)
+                .sellerEmail("buyer@example.com")
+                .requestEmail("other@example.com")
+                .build();
+        ChatRoom hiddenRoom = ChatRoom.builder()
+                .chatroomId(3)
+                .productId(3L)
+                .sellerEmail("seller@example.com")
+                .requestEmail("buyer@example.com")
+                .build();
+        Product myProduct = new Product();
+        myProduct.setId(2L);
+        myProduct.setTitle("내 상품");
+        myProduct.setEmail("buyer@example.com");
+        ProductImage thumbnail = ProductImage.builder().id(10L).productId(1L).build();
+        User other = User.builder().email("other@example.com").nickname("다른사용자").build();
+
+        when(chatRoomMapper.findChatRoomsByUser("buyer@example.com"))
+                .thenReturn(Arrays.asList(chatRoom, secondRoom, hiddenRoom));
+        when(productMapper.findByIdsForChatRooms(List.of(1L, 2L, 3L), "buyer@example.com"))
+                .thenReturn(List.of(product, myProduct));
+        when(productImageMapper.findThumbnailsByProductIds(anyList())).thenReturn(List.of(thumbnail));
+        when(userMapper.findByEmails(anyList())).thenReturn(List.of(seller, other));
+        when(unreadCounterService.getUnreadCounts("buyer@example.com", List.of(1, 2)))
+                .thenReturn(Map.of(1, 0, 2, 3));
+
+        // when
+        var result = chatService.getChatRoomsByUser("buyer@example.com");
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getChatRooms()).extracting(ChatRoom::getChatroomId).containsExactly(1, 2);
+        assertThat(result.getChatRooms().get(0).getProductImageUrl())
+                .isEqualTo("/api/core/market/products/images/10");
+        assertThat(result.getChatRooms().get(0).getOtherUserName()).isEqualTo("판매자");
+        assertThat(result.getChatRooms().get(0).getUnreadCount()).isZero();
+        assertThat(result.getChatRooms().get(1).getProductName()).isEqualTo("내 상품");
+        assertThat(result.getChatRooms().get(1).getProductImageUrl()).isNull();
+        assertThat(result.getChatRooms().get(1).getOtherUserName()).isEqualTo("다른사용자");
+        assertThat(result.getChatRooms().get(1).getUnreadCount()).isEqualTo(3);
+        verify(productMapper, times(1)).findByIdsForChatRooms(anyList(), anyString());
+        verify(userMapper, times(1)).findByEmails(anyList());
+        verify(userMapper, never()).findProfileByEmail(anyString());
     }
 
     @Test
@@ -208,7 +269,7 @@ class ChatServiceTest {
         // given
         when(chatRoomMapper.findChatRoomById(1, "buyer@example.com")).thenReturn(chatRoom);
         when(productMapper.findById(1L, "buyer@example.com")).thenReturn(product);
-        when(userMapper.findByEmail("seller@example.com")).thenReturn(seller);
+        when(userMapper.findProfileByEmail("seller@example.com")).thenReturn(seller);
         when(productImageMapper.findByProductId(1L)).thenReturn(Collections.emptyList());
         doNothing().when(chatMessageMapper).updateMessageReadStatus(1, "buyer@example.com");
 
@@ -220,6 +281,7 @@ class ChatServiceTest {
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getChatroomId()).isEqualTo(1);
         verify(chatMessageMapper, times(1)).updateMessageReadStatus(1, "buyer@example.com");
+        verify(unreadCounterService, times(1)).reset("buyer@example.com", 1);
     }
 
     @Test
@@ -265,10 +327,10 @@ class ChatServiceTest {
         // given
         List<ChatRoom> chatRooms = Arrays.asList(chatRoom);
         when(chatRoomMapper.findActiveChatRoomsByUser("buyer@example.com")).thenReturn(chatRooms);
-        when(productMapper.findById(1L, "buyer@example.com")).thenReturn(product);
-        when(userMapper.findByEmail("seller@example.com")).thenReturn(seller);
-        when(productImageMapper.findByProductId(1L)).thenReturn(Collections.emptyList());
-        when(chatMessageMapper.countUnreadMessages(1, "buyer@example.com")).thenReturn(0);
+        when(productMapper.findByIdsForChatRooms(List.of(1L), "buyer@example.com")).thenReturn(List.of(product));
+        when(productImageMapper.findThumbnailsByProductIds(List.of(1L))).thenReturn(Collections.emptyList());
+        when(userMapper.findByEmails(List.of("seller@example.com"))).thenReturn(List.of(seller));
+        when(unreadCounterService.getUnreadCounts("buyer@example.com", List.of(1))).thenReturn(Map.of(1, 0));
 
         // when
         var result = chatService.getActiveChatRoomsByUser("buyer@example.com");
@@ -278,5 +340,9 @@ class ChatServiceTest {
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getChatRooms()).isNotNull();
         verify(chatRoomMapper, times(1)).findActiveChatRoomsByUser("buyer@example.com");
+        assertThat(result.getChatRooms().get(0).getOtherUserName()).isEqualTo("판매자");
+        assertThat(result.getChatRooms().get(0).getUnreadCount()).isZero();
+        verify(productMapper, never()).findById(anyLong(), anyString());
+        verify(chatMessageMapper, never()).countUnreadMessages(anyInt(), anyString());
     }
 }
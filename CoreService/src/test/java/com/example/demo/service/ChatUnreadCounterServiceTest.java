@@ -0,0 +1,246 @@
+package com.example.demo.service;
+
+import com.example.demo.mapper.ChatMessageMapper;
+import com.example.demo.model.chat.ChatRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatUnreadCounterService 테스트")
+class ChatUnreadCounterServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ChatMessageMapper chatMessageMapper;
+
+    @Mock
+    private ChatMessageWriteBuffer writeBuffer;
+
+    @InjectMocks
+    private ChatUnreadCounterService unreadCounterService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(unreadCounterService, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("메시지 전송 시 수신자 카운터 증가")
+    void increment_Success() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // when
+        unreadCounterService.increment("buyer@example.com", 1);
+
+        // then
+        verify(hashOperations, times(1)).increment("chat:unread:buyer@example.com", "1", 1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에 카운터 증가 (롤백되면 증가하지 않음)")
+    void increment_AfterCommitOnly() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            unreadCounterService.increment("buyer@example.com", 1);
+
+            // then
+            verifyNoInteractions(redisTemplate);
+
+            // 커밋
+            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(hashOperations, times(1)).increment("chat:unread:buyer@example.com", "1", 1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("읽음 처리 시 카운터 초기화")
+    void reset_Success() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // when
+        unreadCounterService.reset("buyer@example.com", 1);
+
+        // then
+        verify(hashOperations, times(1)).put("chat:unread:buyer@example.com", "1", 0);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 메시지 수 조회 - Redis에 모두 있으면 DB 조회 없음")
+    void getUnreadCounts_AllCached() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(eq("chat:unread:buyer@example.com"), anyList()))
+                .thenReturn(Arrays.asList(2, 0));
+
+        // when
+        Map<Integer, Integer> result = unreadCounterService.getUnreadCounts("buyer@example.com", List.of(1, 2));
+
+        // then
+        assertThat(result).containsEntry(1, 2).containsEntry(2, 0);
+        verify(chatMessageMapper, never()).countUnreadMessagesByChatRoomIds(anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 메시지 수 조회 - Redis에 없는 채팅방만 DB에서 집계")
+    void getUnreadCounts_MissingFallsBackToDatabase() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(eq("chat:unread:buyer@example.com"), anyList()))
+                .thenReturn(Arrays.asList(2, null));
+        when(chatMessageMapper.countUnreadMessagesByChatRoomIds(List.of(2), "buyer@example.com"))
+                .thenReturn(List.of(ChatRoom.builder().chatroomId(2).unreadCount(5).build()));
+
+        // when
+        Map<Integer, Integer> result = unreadCounterService.getUnreadCounts("buyer@example.com", List.of(1, 2));
+
+        // then
+        assertThat(result).containsEntry(1, 2).containsEntry(2, 5);
+        verify(hashOperations, times(1)).putIfAbsent("chat:unread:buyer@example.com", "2", 5);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 메시지 수 조회 - Redis 장애 시 DB 집계로 대체")
+    void getUnreadCounts_RedisFailure() {
+        // given
+        when(redisTemplate.opsForHash()).thenThrow(new RuntimeException("connection refused"));
+        when(chatMessageMapper.countUnreadMessagesByChatRoomIds(List.of(1), "buyer@example.com"))
+                .thenReturn(List.of());
+
+        // when
+        Map<Integer, Integer> result = unreadCounterService.getUnreadCounts("buyer@example.com", List.of(1));
+
+        // then
+        assertThat(result).containsEntry(1, 0);
+    }
+
+    @Test
+    @DisplayName("카운터 비활성화 시 Redis를 사용하지 않음")
+    void disabled_UsesDatabaseOnly() {
+        // given
+        ReflectionTestUtils.setField(unreadCounterService, "enabled", false);
+        when(chatMessageMapper.countUnreadMessagesByChatRoomIds(List.of(1), "buyer@example.com"))
+                .thenReturn(List.of(ChatRoom.builder().chatroomId(1).unreadCount(4).build()));
+
+        // when
+        unreadCounterService.increment("buyer@example.com", 1);
+        Map<Integer, Integer> result = unreadCounterService.getUnreadCounts("buyer@example.com", List.of(1));
+
+        // then
+        assertThat(result).containsEntry(1, 4);
+        verify(redisTemplate, never()).opsForHash();
+        verify(hashOperations, never()).increment(anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 메시지 수 조회 - 지연 저장 대기 메시지가 있으면 DB 집계값을 적재하지 않음")
+    void getUnreadCounts_WriteBehindBacklog() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(eq("chat:unread:buyer@example.com"), anyList()))
+                .thenReturn(Arrays.asList((Object) null));
+        when(chatMessageMapper.countUnreadMessagesByChatRoomIds(List.of(1), "buyer@example.com"))
+                .thenReturn(List.of(ChatRoom.builder().chatroomId(1).unreadCount(3).build()));
+        when(writeBuffer.hasBacklog()).thenReturn(true);
+
+        // when
+        Map<Integer, Integer> result = unreadCounterService.getUnreadCounts("buyer@example.com", List.of(1));
+
+        // then
+        assertThat(result).containsEntry(1, 3);
+        verify(hashOperations, never()).putIfAbsent(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("카운터 보정 - 읽은 값 그대로일 때만 교체 (그 사이 증가분을 덮어쓰지 않음)")
+    @SuppressWarnings("unchecked")
+    void reconcile_CompareAndSet() {
+        // given
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of("chat:unread:buyer@example.com"));
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("chat:unread:buyer@example.com")).thenReturn(Map.of("1", 7));
+        when(chatMessageMapper.countUnreadMessagesByChatRoomIds(List.of(1), "buyer@example.com"))
+                .thenReturn(List.of(ChatRoom.builder().chatroomId(1).unreadCount(4).build()));
+
+        // when
+        unreadCounterService.reconcile();
+
+        // then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+                eq(List.of("chat:unread:buyer@example.com")), eq(1), eq(7L), eq(4));
+        verify(hashOperations, never()).put(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("카운터 보정 - 지연 저장 대기 메시지가 있는 채팅방만 제외하고 보정")
+    @SuppressWarnings("unchecked")
+    void reconcile_SkipsChatroomsWithPendingMessages() {
+        // given
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of("chat:unread:buyer@example.com"));
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("chat:unread:buyer@example.com")).thenReturn(Map.of("1", 7, "2", 5));
+        when(writeBuffer.findPendingChatroomIds()).thenReturn(Set.of(2));
+        when(chatMessageMapper.countUnreadMessagesByChatRoomIds(List.of(1), "buyer@example.com"))
+                .thenReturn(List.of(ChatRoom.builder().chatroomId(1).unreadCount(4).build()));
+
+        // when
+        unreadCounterService.reconcile();
+
+        // then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+                eq(List.of("chat:unread:buyer@example.com")), eq(1), eq(7L), eq(4));
+        verify(redisTemplate, never()).execute(any(RedisScript.class),
+                eq(List.of("chat:unread:buyer@example.com")), eq(2), any(), any());
+    }
+
+    @Test
+    @DisplayName("카운터 보정 - 저장 대기 채팅방을 확인할 수 없으면 생략")
+    @SuppressWarnings("unchecked")
+    void reconcile_SkippedWhenPendingChatroomsUnknown() {
+        // given
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of("chat:unread:buyer@example.com"));
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("chat:unread:buyer@example.com")).thenReturn(Map.of("1", 7));
+        when(writeBuffer.findPendingChatroomIds()).thenReturn(null);
+
+        // when
+        unreadCounterService.reconcile();
+
+        // then
+        verifyNoInteractions(chatMessageMapper);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.demo.service;
+
+import com.example.demo.listener.StompSubscriptionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClusterMessageRouter 테스트")
+class ClusterMessageRouterTest {
+
+    private static final String DESTINATION = "/topic/chat.1";
+
+    @Mock
+    private StompSubscriptionRegistry subscriptionRegistry;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Spy
+    private MappingJackson2MessageConverter messageConverter = new MappingJackson2MessageConverter();
+
+    @InjectMocks
+    private ClusterMessageRouter messageRouter;
+
+    private final Map<String, String> payload = Map.of("content", "안녕하세요");
+
+    private byte[] json;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        json = messageConverter.getObjectMapper().writeValueAsBytes(payload);
+    }
+
+    @Test
+    @DisplayName("이 노드만 구독 중이면 Redis 발행 없이 바로 전달")
+    void send_LocalOnly() {
+        // given
+        when(subscriptionRegistry.getNodeId()).thenReturn("node-a");
+        when(subscriptionRegistry.findSubscribedNodes(DESTINATION)).thenReturn(Set.<Object>of("node-a"));
+
+        // when
+        messageRouter.send(DESTINATION, payload);
+
+        // then
+        verify(messagingTemplate, times(1)).send(eq(DESTINATION), argThat(message -> hasPayload(message, json)));
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드로 전달한 메시지를 수신 노드가 그대로 구독자에게 전달 (형식 왕복)")
+    void send_RemoteEnvelopeRoundTrip() {
+        // given
+        when(subscriptionRegistry.getNodeId()).thenReturn("node-a");
+        when(subscriptionRegistry.findSubscribedNodes(DESTINATION)).thenReturn(Set.<Object>of("node-b"));
+        givenPublishReceivers(1L);
+
+        // when
+        messageRouter.send(DESTINATION, payload);
+
+        // then
+        ArgumentCaptor<byte[]> channel = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> envelope = ArgumentCaptor.forClass(byte[].class);
+        verify(connection, times(1)).publish(channel.capture(), envelope.capture());
+        assertThat(new String(channel.getValue(), StandardCharsets.UTF_8)).isEqualTo("ws:node:node-b");
+        verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+        verify(subscriptionRegistry, never()).removeNode(anyString(), anyString());
+
+        // 수신 노드 처리
+        when(subscriptionRegistry.hasLocalSubscribers(DESTINATION)).thenReturn(true);
+        messageRouter.onMessage(new DefaultMessage(channel.getValue(), envelope.getValue()), null);
+        verify(messagingTemplate, times(1)).send(eq(DESTINATION), argThat(message -> hasPayload(message, json)));
+    }
+
+    @Test
+    @DisplayName("수신자가 없는 노드 채널(중단된 노드)은 구독 정보에서 제거")
+    void send_PrunesStaleNode() {
+        // given
+        when(subscriptionRegistry.getNodeId()).thenReturn("node-a");
+        when(subscriptionRegistry.findSubscribedNodes(DESTINATION)).thenReturn(Set.<Object>of("node-a", "node-b"));
+        givenPublishReceivers(0L);
+
+        // when
+        messageRouter.send(DESTINATION, payload);
+
+        // then
+        verify(messagingTemplate, times(1)).send(eq(DESTINATION), any(Message.class));
+        verify(subscriptionRegistry, times(1)).removeNode(DESTINATION, "node-b");
+    }
+
+    @Test
+    @DisplayName("이 노드에 구독자가 없거나 형식이 잘못된 메시지는 전달하지 않음")
+    void onMessage_IgnoresUnsubscribedAndMalformed() {
+        // given
+        byte[] channel = "ws:node:node-a".getBytes(StandardCharsets.UTF_8);
+        byte[] envelope = (DESTINATION + "\n{}").getBytes(StandardCharsets.UTF_8);
+        when(subscriptionRegistry.hasLocalSubscribers(DESTINATION)).thenReturn(false);
+
+        // when
+        messageRouter.onMessage(new DefaultMessage(channel, envelope), null);
+        messageRouter.onMessage(new DefaultMessage(channel, "no-separator".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPublishReceivers(long receivers) {
+        when(connection.publish(any(byte[].class), any(byte[].class))).thenReturn(receivers);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation ->
+                ((RedisCallback<Long>) invocation.getArgument(0)).doInRedis(connection));
+    }
+
+    private boolean hasPayload(Message<?> message, byte[] expected) {
+        return message.getPayload() instanceof byte[] && Arrays.equals((byte[]) message.getPayload(), expected);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.demo.service;
+
+import com.example.demo.mapper.board.CommentMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentCountService 테스트")
+class CommentCountServiceTest {
+
+    @Mock
+    private CommentMapper commentMapper;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    @InjectMocks
+    private CommentCountService commentCountService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentCountService, "reconcileBatchSize", 500);
+    }
+
+    @Test
+    @DisplayName("대댓글 작성 - COUNT 없이 대댓글 수와 게시글 댓글 수 +1, 보정 대상 기록")
+    void commentCreated_Reply() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        // when
+        commentCountService.commentCreated(1L, 2L);
+
+        // then
+        verify(commentMapper, times(1)).adjustReplyCount(2L, 1);
+        verify(commentMapper, times(1)).adjustPostCommentCount(1L, 1);
+        verify(commentMapper, never()).countCommentsByPostId(anyLong());
+        verify(setOperations, times(1)).add("board:comment-counts:dirty", "1");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에 보정 대상 기록")
+    void commentCreated_MarksAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            commentCountService.commentCreated(1L, null);
+
+            // then
+            verify(commentMapper, times(1)).adjustPostCommentCount(1L, 1);
+            verifyNoInteractions(redisTemplate);
+
+            // 커밋
+            when(redisTemplate.opsForSet()).thenReturn(setOperations);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(setOperations, times(1)).add("board:comment-counts:dirty", "1");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("최상위 댓글 삭제 - 게시글 댓글 수만 -1")
+    void commentDeleted_TopLevel() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        // when
+        commentCountService.commentDeleted(1L, null);
+
+        // then
+        verify(commentMapper, never()).adjustReplyCount(anyLong(), anyInt());
+        verify(commentMapper, times(1)).adjustPostCommentCount(1L, -1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 댓글 수는 반영")
+    void commentCreated_RedisFailure() {
+        // given
+        when(redisTemplate.opsForSet()).thenThrow(new RuntimeException("Redis 연결 실패"));
+
+        // when
+        commentCountService.commentCreated(1L, null);
+
+        // then
+        verify(commentMapper, times(1)).adjustPostCommentCount(1L, 1);
+    }
+
+    @Test
+    @DisplayName("보정 - 변경된 게시글만 보정")
+    void reconcile_ChangedPostsOnly() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.pop("board:comment-counts:dirty", 500L))
+                .thenReturn(List.of("1", "2"))
+                .thenReturn(List.of());
+
+        // when
+        commentCountService.reconcile();
+
+        // then
+        verify(commentMapper, times(1)).reconcilePostCommentCounts(Set.of(1L, 2L));
+        verify(commentMapper, times(1)).reconcileReplyCounts(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("보정 - 변경된 게시글이 없으면 DB 조회 없음")
+    void reconcile_Empty() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.pop("board:comment-counts:dirty", 500L)).thenReturn(List.of());
+
+        // when
+        commentCountService.reconcile();
+
+        // then
+        verifyNoInteractions(commentMapper);
+    }
+
+    @Test
+    @DisplayName("보정 - 실패하면 보정 대상을 되돌림")
+    void reconcile_RestoresOnFailure() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.pop("board:comment-counts:dirty", 500L)).thenReturn(List.of("1"));
+        when(commentMapper.reconcilePostCommentCounts(anyCollection())).thenThrow(new RuntimeException("DB 오류"));
+
+        // when
+        commentCountService.reconcile();
+
+        // then
+        verify(setOperations, times(1)).add(anyString(), eq("1"));
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.board.CommentCreateRequest;
+import com.example.demo.dto.board.CommentFeedResponse;
+import com.example.demo.dto.board.CommentResponse;
 import com.example.demo.dto.board.CommentUpdateRequest;
 import com.example.demo.mapper.board.BoardMapper;
 import com.example.demo.mapper.board.BoardMemberMapper;
@@ -44,6 +46,9 @@ class CommentServiceTest {
     @Mock
     private BoardMemberMapper boardMemberMapper;
 
+    @Mock
+    private CommentCountService commentCountService;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -117,8 +122,6 @@ class CommentServiceTest {
         when(boardMemberMapper.findBoardMemberByEmailAndBoardId("test@example.com", 1L))
                 .thenReturn(boardMember);
         doNothing().when(commentMapper).createComment(any(Comment.class));
-        when(commentMapper.countCommentsByPostId(1L)).thenReturn(1);
-        doNothing().when(commentMapper).updatePostCommentCount(1L, 1);
         when(commentMapper.getCommentById(anyLong())).thenReturn(comment);
 
         // when
@@ -126,6 +129,8 @@ class CommentServiceTest {
 
         // then
         assertThat(result).isNotNull();
+        verify(commentCountService, times(1)).commentCreated(1L, null);
+        verify(commentMapper, never()).countCommentsByPostId(anyLong());
         assertThat(result.getContent()).isEqualTo("테스트 댓글");
         assertThat(result.getAuthorEmail()).isEqualTo("test@example.com");
         verify(commentMapper, times(1)).createComment(any(Comment.class));
@@ -180,10 +185,6 @@ class CommentServiceTest {
                 .thenReturn(boardMember);
         when(commentMapper.getCommentById(2L)).thenReturn(parentComment);
         doNothing().when(commentMapper).createComment(any(Comment.class));
-        when(commentMapper.countRepliesByParentId(2L)).thenReturn(1);
-        doNothing().when(commentMapper).updateReplyCount(2L, 1);
-        when(commentMapper.countCommentsByPostId(1L)).thenReturn(2);
-        doNothing().when(commentMapper).updatePostCommentCount(1L, 2);
         when(commentMapper.getCommentById(anyLong())).thenReturn(reply);
 
         // when
@@ -192,7 +193,7 @@ class CommentServiceTest {
         // then
         assertThat(result).isNotNull();
         verify(commentMapper, times(1)).createComment(any(Comment.class));
-        verify(commentMapper, times(1)).updateReplyCount(2L, 1);
+        verify(commentCountService, times(1)).commentCreated(1L, 2L);
     }
 
     @Test
@@ -257,15 +258,30 @@ class CommentServiceTest {
         when(commentMapper.getCommentById(1L)).thenReturn(comment);
         when(postMapper.getPostById(1L)).thenReturn(post);
         when(boardMapper.findBoardById(1L)).thenReturn(board);
-        doNothing().when(commentMapper).deleteComment(1L, "test@example.com");
-        when(commentMapper.countCommentsByPostId(1L)).thenReturn(0);
-        doNothing().when(commentMapper).updatePostCommentCount(1L, 0);
+        when(commentMapper.deleteComment(1L, "test@example.com")).thenReturn(1);
 
         // when
         commentService.deleteComment("test@example.com", 1L);
 
         // then
         verify(commentMapper, times(1)).deleteComment(1L, "test@example.com");
+        verify(commentCountService, times(1)).commentDeleted(1L, null);
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 - 이미 삭제된 댓글이면 댓글 수를 줄이지 않음")
+    void deleteComment_AlreadyDeleted() {
+        // given
+        when(commentMapper.getCommentById(1L)).thenReturn(comment);
+        when(postMapper.getPostById(1L)).thenReturn(post);
+        when(boardMapper.findBoardById(1L)).thenReturn(board);
+        when(commentMapper.deleteComment(1L, "test@example.com")).thenReturn(0);
+
+        // when
+        commentService.deleteComment("test@example.com", 1L);
+
+        // then
+        verifyNoInteractions(commentCountService);
     }
 
     @Test
@@ -303,8 +319,7 @@ class CommentServiceTest {
         when(boardMapper.findBoardById(1L)).thenReturn(board);
         when(boardMemberMapper.findBoardMemberByEmailAndBoardId("test@example.com", 1L))
                 .thenReturn(boardMember);
-        when(commentMapper.getCommentsByPostId(1L)).thenReturn(comments);
-        when(commentMapper.getRepliesByParentId(1L)).thenReturn(Collections.emptyList());
+        when(commentMapper.getCommentTreeByPostId(1L, null, null)).thenReturn(comments);
 
         // when
         var result = commentService.getCommentsByPostId("test@example.com", 1L);
@@ -313,7 +328,63 @@ class CommentServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getContent()).isEqualTo("테스트 댓글");
-        verify(commentMapper, times(1)).getCommentsByPostId(1L);
+        verify(commentMapper, times(1)).getCommentTreeByPostId(1L, null, null);
+    }
+
+    @Test
+    @DisplayName("게시글의 댓글 목록 조회 - 한 번의 조회로 대댓글 트리 구성 (댓글별 대댓글 조회 없음)")
+    void getCommentsByPostId_BuildsTreeInOneQuery() {
+        // given
+        when(postMapper.getPostById(1L)).thenReturn(post);
+        when(boardMapper.findBoardById(1L)).thenReturn(board);
+        when(commentMapper.getCommentTreeByPostId(1L, null, null)).thenReturn(Arrays.asList(
+                parentComment,
+                reply(3L, 2L),
+                reply(4L, 2L),
+                comment,
+                reply(5L, 99L))); // 부모가 삭제된 대댓글
+
+        // when
+        var result = commentService.getCommentsByPostId("test@example.com", 1L);
+
+        // then
+        assertThat(result).extracting(CommentResponse::getId).containsExactly(2L, 1L);
+        assertThat(result.get(0).getReplies()).extracting(CommentResponse::getId).containsExactly(3L, 4L);
+        assertThat(result.get(0).getReplyCount()).isEqualTo(2);
+        assertThat(result.get(1).getReplies()).isEmpty();
+        verify(commentMapper, never()).getRepliesByParentId(anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글의 댓글 목록 커서 조회 - 최상위 댓글 기준으로 다음 페이지 여부와 커서 반환")
+    void getCommentFeed_HasMore() {
+        // given
+        when(postMapper.getPostById(1L)).thenReturn(post);
+        when(boardMapper.findBoardById(1L)).thenReturn(board);
+        when(commentMapper.getCommentTreeByPostId(1L, 10L, 2)).thenReturn(Arrays.asList(
+                parentComment,
+                reply(3L, 2L),
+                comment));
+
+        // when
+        CommentFeedResponse response = commentService.getCommentFeed("test@example.com", 1L, 10L, 1);
+
+        // then
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(2L);
+        assertThat(response.getComments()).extracting(CommentResponse::getId).containsExactly(2L);
+        assertThat(response.getComments().get(0).getReplies()).hasSize(1);
+    }
+
+    private Comment reply(Long id, Long parentId) {
+        return Comment.builder()
+                .id(id)
+                .postId(1L)
+                .parentId(parentId)
+                .authorEmail("other@example.com")
+                .content("대댓글 " + id)
+                .depth(1)
+                .build();
     }
 
     @Test
@@ -4,6 +4,7 @@ import com.example.demo.dto.hobby.HobbyRequest;
 import com.example.demo.mapper.HobbyMapper;
 import com.example.demo.model.Category;
 import com.example.demo.model.Hobby;
+import com.example.demo.model.HobbyCategoryLink;
 import com.example.demo.model.UserHobby;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,10 +36,10 @@ class HobbyServiceTest {
     @InjectMocks
     private HobbyService hobbyService;
 
-    private Hobby hobby1;
-    private Hobby hobby2;
     private Category category1;
     private Category category2;
+    private Category category3;
+    private List<HobbyCategoryLink> links;
     private UserHobby userHobby;
 
     @BeforeEach
@@ -53,17 +54,16 @@ class HobbyServiceTest {
                 .categoryName("음악")
                 .build();
 
-        hobby1 = Hobby.builder()
-                .hobbyId(1L)
-                .hobbyName("축구")
-                .categories(Arrays.asList(category1))
+        category3 = Category.builder()
+                .categoryId(3L)
+                .categoryName("건강")
                 .build();
 
-        hobby2 = Hobby.builder()
-                .hobbyId(2L)
-                .hobbyName("피아노")
-                .categories(Arrays.asList(category2))
-                .build();
+        // 취미 이름 순: 축구(스포츠, 건강), 피아노(음악)
+        links = Arrays.asList(
+                HobbyCategoryLink.builder().hobbyId(1L).hobbyName("축구").categoryId(1L).build(),
+                HobbyCategoryLink.builder().hobbyId(1L).hobbyName("축구").categoryId(3L).build(),
+                HobbyCategoryLink.builder().hobbyId(2L).hobbyName("피아노").categoryId(2L).build());
 
         userHobby = UserHobby.builder()
                 .email("test@example.com")
@@ -72,12 +72,16 @@ class HobbyServiceTest {
                 .build();
     }
 
+    private void givenCatalog() {
+        when(hobbyMapper.getAllCategories()).thenReturn(Arrays.asList(category1, category2, category3));
+        when(hobbyMapper.getAllHobbyCategoryLinks()).thenReturn(links);
+    }
+
     @Test
     @DisplayName("모든 취미 목록 조회 성공")
     void getAllHobbies_Success() {
         // given
-        List<Hobby> expectedHobbies = Arrays.asList(hobby1, hobby2);
-        when(hobbyMapper.getAllHobbies()).thenReturn(expectedHobbies);
+        givenCatalog();
 
         // when
         List<Hobby> result = hobbyService.getAllHobbies();
@@ -85,15 +89,17 @@ class HobbyServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
-        assertThat(result).containsExactlyInAnyOrder(hobby1, hobby2);
-        verify(hobbyMapper, times(1)).getAllHobbies();
+        assertThat(result).extracting(Hobby::getHobbyName).containsExactly("축구", "피아노");
+        assertThat(result.get(0).getCategories()).isNull();
+        verify(hobbyMapper, never()).getAllHobbies();
     }
 
     @Test
     @DisplayName("모든 취미 목록 조회 - 빈 리스트")
     void getAllHobbies_EmptyList() {
         // given
-        when(hobbyMapper.getAllHobbies()).thenReturn(Collections.emptyList());
+        when(hobbyMapper.getAllCategories()).thenReturn(Collections.emptyList());
+        when(hobbyMapper.getAllHobbyCategoryLinks()).thenReturn(Collections.emptyList());
 
         // when
         List<Hobby> result = hobbyService.getAllHobbies();
@@ -101,38 +107,35 @@ class HobbyServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
-        verify(hobbyMapper, times(1)).getAllHobbies();
     }
 
     @Test
-    @DisplayName("모든 취미 목록 조회 (카테고리 정보 포함) 성공")
+    @DisplayName("모든 취미 목록 조회 (카테고리 정보 포함) 성공 - 취미별 조회 없이 카탈로그 사용")
     void getAllHobbiesWithCategories_Success() {
         // given
-        List<Hobby> hobbies = Arrays.asList(hobby1, hobby2);
-        when(hobbyMapper.getAllHobbies()).thenReturn(hobbies);
-        when(hobbyMapper.getCategoriesByHobbyId(1L)).thenReturn(Arrays.asList(category1));
-        when(hobbyMapper.getCategoriesByHobbyId(2L)).thenReturn(Arrays.asList(category2));
+        givenCatalog();
 
         // when
         List<Hobby> result = hobbyService.getAllHobbiesWithCategories();
+        hobbyService.getAllHobbiesWithCategories();
 
         // then
         assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
-        assertThat(result.get(0).getCategories()).isNotNull();
-        assertThat(result.get(0).getCategories()).hasSize(1);
-        assertThat(result.get(1).getCategories()).isNotNull();
-        assertThat(result.get(1).getCategories()).hasSize(1);
-        verify(hobbyMapper, times(1)).getAllHobbies();
-        verify(hobbyMapper, times(1)).getCategoriesByHobbyId(1L);
-        verify(hobbyMapper, times(1)).getCategoriesByHobbyId(2L);
+        // 취미별 카테고리는 이름 순
+        assertThat(result.get(0).getCategories()).extracting(Category::getCategoryName)
+                .containsExactly("건강", "스포츠");
+        assertThat(result.get(1).getCategories()).containsExactly(category2);
+        verify(hobbyMapper, times(1)).getAllCategories();
+        verify(hobbyMapper, times(1)).getAllHobbyCategoryLinks();
+        verify(hobbyMapper, never()).getCategoriesByHobbyId(anyLong());
     }
 
     @Test
     @DisplayName("취미 ID로 취미 조회 성공")
     void getHobbyById_Success() {
         // given
-        when(hobbyMapper.getHobbyById(1L)).thenReturn(hobby1);
+        givenCatalog();
 
         // when
         Hobby result = hobbyService.getHobbyById(1L);
@@ -141,29 +144,27 @@ class HobbyServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getHobbyId()).isEqualTo(1L);
         assertThat(result.getHobbyName()).isEqualTo("축구");
-        verify(hobbyMapper, times(1)).getHobbyById(1L);
+        verify(hobbyMapper, never()).getHobbyById(anyLong());
     }
 
     @Test
     @DisplayName("취미 ID로 취미 조회 - 존재하지 않는 ID")
     void getHobbyById_NotFound() {
         // given
-        when(hobbyMapper.getHobbyById(999L)).thenReturn(null);
+        givenCatalog();
 
         // when
         Hobby result = hobbyService.getHobbyById(999L);
 
         // then
         assertThat(result).isNull();
-        verify(hobbyMapper, times(1)).getHobbyById(999L);
     }
 
     @Test
     @DisplayName("카테고리 ID로 취미 목록 조회 성공")
     void getHobbiesByCategoryId_Success() {
         // given
-        List<Hobby> expectedHobbies = Arrays.asList(hobby1);
-        when(hobbyMapper.getHobbiesByCategoryId(1L)).thenReturn(expectedHobbies);
+        givenCatalog();
 
         // when
         List<Hobby> result = hobbyService.getHobbiesByCategoryId(1L);
@@ -172,23 +173,22 @@ class HobbyServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getHobbyId()).isEqualTo(1L);
-        verify(hobbyMapper, times(1)).getHobbiesByCategoryId(1L);
+        assertThat(hobbyService.getHobbiesByCategoryId(999L)).isEmpty();
+        verify(hobbyMapper, never()).getHobbiesByCategoryId(anyLong());
     }
 
     @Test
     @DisplayName("모든 카테고리 목록 조회 성공")
     void getAllCategories_Success() {
         // given
-        List<Category> expectedCategories = Arrays.asList(category1, category2);
-        when(hobbyMapper.getAllCategories()).thenReturn(expectedCategories);
+        givenCatalog();
 
         // when
         List<Category> result = hobbyService.getAllCategories();
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactlyInAnyOrder(category1, category2);
+        assertThat(result).containsExactly(category1, category2, category3);
         verify(hobbyMapper, times(1)).getAllCategories();
     }
 
@@ -217,14 +217,14 @@ class HobbyServiceTest {
         String email = "test@example.com";
         Long hobbyId = 1L;
         Long categoryId = 1L;
-        when(hobbyMapper.isHobbyInCategory(hobbyId, categoryId)).thenReturn(true);
+        givenCatalog();
         doNothing().when(hobbyMapper).insertUserHobby(any(UserHobby.class));
 
         // when
         hobbyService.registerUserHobby(email, hobbyId, categoryId);
 
         // then
-        verify(hobbyMapper, times(1)).isHobbyInCategory(hobbyId, categoryId);
+        verify(hobbyMapper, never()).isHobbyInCategory(anyLong(), anyLong());
         verify(hobbyMapper, times(1)).insertUserHobby(any(UserHobby.class));
     }
 
@@ -235,13 +235,12 @@ class HobbyServiceTest {
         String email = "test@example.com";
         Long hobbyId = 1L;
         Long categoryId = 2L; // 잘못된 카테고리
-        when(hobbyMapper.isHobbyInCategory(hobbyId, categoryId)).thenReturn(false);
+        givenCatalog();
 
         // when & then
         assertThatThrownBy(() -> hobbyService.registerUserHobby(email, hobbyId, categoryId))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("속하지 않습니다");
-        verify(hobbyMapper, times(1)).isHobbyInCategory(hobbyId, categoryId);
         verify(hobbyMapper, never()).insertUserHobby(any(UserHobby.class));
     }
 
@@ -260,8 +259,7 @@ class HobbyServiceTest {
                 .build();
         List<HobbyRequest> hobbies = Arrays.asList(hobbyRequest1, hobbyRequest2);
 
-        when(hobbyMapper.isHobbyInCategory(1L, 1L)).thenReturn(true);
-        when(hobbyMapper.isHobbyInCategory(2L, 2L)).thenReturn(true);
+        givenCatalog();
         doNothing().when(hobbyMapper).deleteAllUserHobbies(email);
         doNothing().when(hobbyMapper).insertUserHobby(any(UserHobby.class));
 
@@ -270,7 +268,7 @@ class HobbyServiceTest {
 
         // then
         verify(hobbyMapper, times(1)).deleteAllUserHobbies(email);
-        verify(hobbyMapper, times(2)).isHobbyInCategory(anyLong(), anyLong());
+        verify(hobbyMapper, never()).isHobbyInCategory(anyLong(), anyLong());
         verify(hobbyMapper, times(2)).insertUserHobby(any(UserHobby.class));
     }
 
@@ -321,7 +319,7 @@ class HobbyServiceTest {
 
         // then
         verify(hobbyMapper, times(1)).deleteAllUserHobbies(email);
-        verify(hobbyMapper, never()).isHobbyInCategory(anyLong(), anyLong());
+        verify(hobbyMapper, never()).getAllHobbyCategoryLinks();
         verify(hobbyMapper, never()).insertUserHobby(any(UserHobby.class));
     }
 
@@ -329,36 +327,34 @@ class HobbyServiceTest {
     @DisplayName("취미 ID 유효성 검증 성공")
     void isValidHobby_Success() {
         // given
-        when(hobbyMapper.getHobbyById(1L)).thenReturn(hobby1);
+        givenCatalog();
 
         // when
         boolean result = hobbyService.isValidHobby(1L);
 
         // then
         assertThat(result).isTrue();
-        verify(hobbyMapper, times(1)).getHobbyById(1L);
+        verify(hobbyMapper, never()).getHobbyById(anyLong());
     }
 
     @Test
     @DisplayName("취미 ID 유효성 검증 실패")
     void isValidHobby_Fail() {
         // given
-        when(hobbyMapper.getHobbyById(999L)).thenReturn(null);
+        givenCatalog();
 
         // when
         boolean result = hobbyService.isValidHobby(999L);
 
         // then
         assertThat(result).isFalse();
-        verify(hobbyMapper, times(1)).getHobbyById(999L);
     }
 
     @Test
     @DisplayName("카테고리 ID 유효성 검증 성공")
     void isValidCategory_Success() {
         // given
-        List<Category> categories = Arrays.asList(category1, category2);
-        when(hobbyMapper.getAllCategories()).thenReturn(categories);
+        givenCatalog();
 
         // when
         boolean result = hobbyService.isValidCategory(1L);
@@ -372,16 +368,30 @@ class HobbyServiceTest {
     @DisplayName("카테고리 ID 유효성 검증 실패")
     void isValidCategory_Fail() {
         // given
-        List<Category> categories = Arrays.asList(category1, category2);
-        when(hobbyMapper.getAllCategories()).thenReturn(categories);
+        givenCatalog();
 
         // when
         boolean result = hobbyService.isValidCategory(999L);
 
         // then
         assertThat(result).isFalse();
-        verify(hobbyMapper, times(1)).getAllCategories();
     }
-}
 
+    @Test
+    @DisplayName("카탈로그 다시 읽기 - 새 스냅샷으로 교체")
+    void reloadCatalog_ReplacesSnapshot() {
+        // given
+        givenCatalog();
+        assertThat(hobbyService.isHobbyInCategory(2L, 1L)).isFalse();
+        List<HobbyCategoryLink> updatedLinks = new ArrayList<>(links);
+        updatedLinks.add(HobbyCategoryLink.builder().hobbyId(2L).hobbyName("피아노").categoryId(1L).build());
+        when(hobbyMapper.getAllHobbyCategoryLinks()).thenReturn(updatedLinks);
 
+        // when
+        hobbyService.reloadCatalog();
+
+        // then
+        assertThat(hobbyService.isHobbyInCategory(2L, 1L)).isTrue();
+        verify(hobbyMapper, times(2)).getAllHobbyCategoryLinks();
+    }
+}
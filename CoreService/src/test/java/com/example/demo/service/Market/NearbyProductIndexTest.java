@@ -0,0 +1,148 @@
+package com.example.demo.service.Market;
+
+import com.example.demo.mapper.Market.ProductMapper;
+import com.example.demo.model.Market.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearbyProductIndex 테스트")
+class NearbyProductIndexTest {
+
+    // 서울시청
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @InjectMocks
+    private NearbyProductIndex nearbyProductIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(nearbyProductIndex, "enabled", true);
+        ReflectionTestUtils.setField(nearbyProductIndex, "cellSizeDeg", 0.05);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 사용할 수 없음")
+    void isReady_BeforeRebuild() {
+        assertThat(nearbyProductIndex.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("반경 내 상품을 가까운 순서로 반환")
+    void findWithin_SortedByDistance() {
+        // given
+        when(productMapper.findNearbyIndexEntries()).thenReturn(Arrays.asList(
+                location(1L, 37.5796, 126.9770),   // 경복궁 (약 1.5km)
+                location(2L, 37.5700, 126.9830),   // 광화문 부근 (약 0.6km)
+                location(3L, 35.1796, 129.0756))); // 부산 (약 325km)
+
+        // when
+        nearbyProductIndex.rebuild();
+
+        // then
+        assertThat(nearbyProductIndex.isReady()).isTrue();
+        assertThat(nearbyProductIndex.findWithin(LATITUDE, LONGITUDE, 3)).containsExactly(2L, 1L);
+        assertThat(nearbyProductIndex.findWithin(LATITUDE, LONGITUDE, 1)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("전체 적재 - 같은 격자에 상품이 많아도 모두 적재, 중복 행은 한 번만")
+    void rebuild_ManyProductsInOneCell() {
+        // given
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            products.add(location(id, 37.5700 + id * 0.00001, 126.9830));
+        }
+        products.add(location(1L, 37.5700, 126.9830));
+        when(productMapper.findNearbyIndexEntries()).thenReturn(products);
+
+        // when
+        nearbyProductIndex.rebuild();
+
+        // then
+        List<Long> found = nearbyProductIndex.findWithin(LATITUDE, LONGITUDE, 3);
+        assertThat(found).hasSize(1000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("등록된 대면 상품은 바로 추가, 마감된 상품은 바로 제거")
+    void addAndRemove() {
+        // given
+        when(productMapper.findNearbyIndexEntries()).thenReturn(Collections.emptyList());
+        nearbyProductIndex.rebuild();
+        Product product = location(10L, 37.5700, 126.9830);
+        product.setTransactionType("대면");
+
+        // when
+        nearbyProductIndex.add(product);
+
+        // then
+        assertThat(nearbyProductIndex.findWithin(LATITUDE, LONGITUDE, 1)).containsExactly(10L);
+
+        // when
+        nearbyProductIndex.remove(10L);
+
+        // then
+        assertThat(nearbyProductIndex.findWithin(LATITUDE, LONGITUDE, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재적재 중 추가/제거된 상품은 새 인덱스에도 반영")
+    void rebuild_ReplaysMutationsDuringLoad() {
+        // given
+        when(productMapper.findNearbyIndexEntries()).thenReturn(Collections.emptyList());
+        nearbyProductIndex.rebuild();
+        Product added = location(10L, 37.5700, 126.9830);
+        added.setTransactionType("대면");
+        // DB 조회 시점에는 10번이 아직 없고 20번은 남아 있음, 조회 중에 10번 추가/20번 마감
+        when(productMapper.findNearbyIndexEntries()).thenAnswer(invocation -> {
+            nearbyProductIndex.add(added);
+            nearbyProductIndex.remove(20L);
+            return List.of(location(20L, 37.5710, 126.9830));
+        });
+
+        // when
+        nearbyProductIndex.rebuild();
+
+        // then
+        assertThat(nearbyProductIndex.findWithin(LATITUDE, LONGITUDE, 1)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("비대면 상품은 추가하지 않음")
+    void add_IgnoresNonFaceToFace() {
+        // given
+        when(productMapper.findNearbyIndexEntries()).thenReturn(Collections.emptyList());
+        nearbyProductIndex.rebuild();
+        Product product = location(10L, 37.5700, 126.9830);
+        product.setTransactionType("비대면");
+
+        // when
+        nearbyProductIndex.add(product);
+
+        // then
+        assertThat(nearbyProductIndex.findWithin(LATITUDE, LONGITUDE, 1)).isEmpty();
+    }
+
+    private Product location(Long id, double latitude, double longitude) {
+        return Product.builder().id(id).latitude(latitude).longitude(longitude).build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.demo.service.Market;
+
+import com.example.demo.mapper.Market.ProductMapper;
+import com.example.demo.mapper.Market.TransactionsMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParticipantSlotService 테스트")
+class ParticipantSlotServiceTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private TransactionsMapper transactionsMapper;
+
+    @Mock
+    private NearbyProductIndex nearbyProductIndex;
+
+    @Mock
+    private ProductCardService productCardService;
+
+    @InjectMocks
+    private ParticipantSlotService participantSlotService;
+
+    @Test
+    @DisplayName("남은 자리가 있으면 승인 후 자리 예약")
+    void approve_Approved() {
+        // given
+        when(productMapper.approvePendingRequest(1L, 10L)).thenReturn(1);
+        when(productMapper.reserveParticipantSlot(1L)).thenReturn(1);
+        when(productMapper.updateProductVisibility(1L)).thenReturn(0);
+
+        // when
+        ParticipantSlotService.Result result = participantSlotService.approve(1L, 10L);
+
+        // then
+        assertThat(result).isEqualTo(ParticipantSlotService.Result.APPROVED);
+        verify(productCardService).evict(1L);
+        verify(productMapper, never()).getCurrentParticipants(anyLong());
+        verify(nearbyProductIndex, never()).remove(anyLong());
+        verifyNoInteractions(transactionsMapper);
+    }
+
+    @Test
+    @DisplayName("마지막 자리면 모집 마감 후 승인 참여자 거래를 한 번에 생성")
+    void approve_Closed() {
+        // given
+        when(productMapper.approvePendingRequest(1L, 10L)).thenReturn(1);
+        when(productMapper.reserveParticipantSlot(1L)).thenReturn(1);
+        when(productMapper.updateProductVisibility(1L)).thenReturn(1);
+        when(transactionsMapper.insertTransactionsForApprovedRequests(1L, ParticipantSlotService.TRANSACTION_DESCRIPTION))
+                .thenReturn(3);
+
+        // when
+        ParticipantSlotService.Result result = participantSlotService.approve(1L, 10L);
+
+        // then
+        assertThat(result).isEqualTo(ParticipantSlotService.Result.CLOSED);
+        verify(transactionsMapper, times(1)).insertTransactionsForApprovedRequests(anyLong(), anyString());
+        verify(productMapper, never()).updateRequestStatusToComplete(anyLong());
+        verify(nearbyProductIndex).remove(1L);
+    }
+
+    @Test
+    @DisplayName("남은 자리가 없으면 승인 되돌림")
+    void approve_Full() {
+        // given
+        when(productMapper.approvePendingRequest(1L, 10L)).thenReturn(1);
+        when(productMapper.reserveParticipantSlot(1L)).thenReturn(0);
+
+        // when
+        ParticipantSlotService.Result result = participantSlotService.approve(1L, 10L);
+
+        // then
+        assertThat(result).isEqualTo(ParticipantSlotService.Result.FULL);
+        verify(productMapper).revertRequestApproval(10L);
+        verify(productMapper, never()).updateProductVisibility(anyLong());
+        verifyNoInteractions(productCardService);
+    }
+
+    @Test
+    @DisplayName("이미 승인된 요청은 자리를 다시 예약하지 않음")
+    void approve_AlreadyProcessed() {
+        // given
+        when(productMapper.approvePendingRequest(1L, 10L)).thenReturn(0);
+
+        // when
+        ParticipantSlotService.Result result = participantSlotService.approve(1L, 10L);
+
+        // then
+        assertThat(result).isEqualTo(ParticipantSlotService.Result.ALREADY_PROCESSED);
+        verify(productMapper, never()).reserveParticipantSlot(anyLong());
+    }
+
+    @Test
+    @DisplayName("참여 인원 보정 - 보정한 상품의 카드 캐시 삭제")
+    void reconcile_EvictsCorrectedCards() {
+        // given
+        when(productMapper.findParticipantCountMismatches()).thenReturn(List.of(1L, 2L));
+        when(productMapper.reconcileParticipantCounts(List.of(1L, 2L))).thenReturn(2);
+
+        // when
+        participantSlotService.reconcile();
+
+        // then
+        verify(productCardService).evict(1L);
+        verify(productCardService).evict(2L);
+    }
+
+    @Test
+    @DisplayName("참여 인원 보정 - 다른 상품이 없으면 UPDATE 없음")
+    void reconcile_NoMismatch() {
+        // given
+        when(productMapper.findParticipantCountMismatches()).thenReturn(List.of());
+
+        // when
+        participantSlotService.reconcile();
+
+        // then
+        verify(productMapper, never()).reconcileParticipantCounts(anyList());
+        verifyNoInteractions(productCardService);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.demo.service.Market;
+
+import com.example.demo.config.RedisCacheConfig;
+import com.example.demo.dto.Market.ProductCardFeedResponse;
+import com.example.demo.dto.Market.ProductCardResponse;
+import com.example.demo.mapper.Market.ProductMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCardService 테스트")
+class ProductCardServiceTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @InjectMocks
+    private ProductCardService productCardService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(productCardService, "defaultFeedPageSize", 20);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 카드만 한 번에 조회 후 저장, 요청한 상품 ID 순서 유지")
+    void getCards_LoadsOnlyMisses() {
+        // given
+        when(cacheManager.getCache(RedisCacheConfig.CACHE_PRODUCT_CARDS)).thenReturn(cache);
+        ProductCardResponse cached = card(2L, null);
+        when(cache.get(3L, ProductCardResponse.class)).thenReturn(null);
+        when(cache.get(2L, ProductCardResponse.class)).thenReturn(cached);
+        when(cache.get(1L, ProductCardResponse.class)).thenReturn(null);
+        when(productMapper.findCardsByIds(Arrays.asList(3L, 1L)))
+                .thenReturn(Arrays.asList(card(1L, 10L), card(3L, null)));
+
+        // when
+        List<ProductCardResponse> result = productCardService.getCards(Arrays.asList(3L, 2L, 1L));
+
+        // then
+        assertThat(result).extracting(ProductCardResponse::getId).containsExactly(3L, 2L, 1L);
+        assertThat(result.get(2).getThumbnailPath()).isEqualTo("/api/core/market/products/images/10");
+        assertThat(result.get(0).getThumbnailPath()).isNull();
+        verify(cache).put(eq(1L), any(ProductCardResponse.class));
+        verify(cache).put(eq(3L), any(ProductCardResponse.class));
+        verify(cache, never()).put(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("모두 캐시에 있으면 DB 조회 없음")
+    void getCards_AllCached() {
+        // given
+        when(cacheManager.getCache(RedisCacheConfig.CACHE_PRODUCT_CARDS)).thenReturn(cache);
+        when(cache.get(1L, ProductCardResponse.class)).thenReturn(card(1L, null));
+
+        // when
+        List<ProductCardResponse> result = productCardService.getCards(List.of(1L));
+
+        // then
+        assertThat(result).hasSize(1);
+        verify(productMapper, never()).findCardsByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("카드 피드 조회 - 다음 페이지가 있으면 요청 수만큼 반환하고 마지막 ID를 커서로 반환")
+    void getCardFeed_HasMore() {
+        // given
+        when(productMapper.findFeedIds(null, 100L, 3)).thenReturn(Arrays.asList(99L, 98L, 97L));
+        when(cacheManager.getCache(RedisCacheConfig.CACHE_PRODUCT_CARDS)).thenReturn(cache);
+        when(productMapper.findCardsByIds(Arrays.asList(99L, 98L)))
+                .thenReturn(Arrays.asList(card(98L, null), card(99L, null)));
+
+        // when
+        ProductCardFeedResponse response = productCardService.getCardFeed(null, 100L, 2);
+
+        // then
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(98L);
+        assertThat(response.getCards()).extracting(ProductCardResponse::getId).containsExactly(99L, 98L);
+    }
+
+    @Test
+    @DisplayName("같은 상품 ID가 여러 번 있으면 처음 위치에 한 번만 반환")
+    void getCards_DeduplicatesIds() {
+        // given
+        when(cacheManager.getCache(RedisCacheConfig.CACHE_PRODUCT_CARDS)).thenReturn(cache);
+        when(productMapper.findCardsByIds(Arrays.asList(2L, 1L)))
+                .thenReturn(Arrays.asList(card(1L, null), card(2L, null)));
+
+        // when
+        List<ProductCardResponse> result = productCardService.getCards(Arrays.asList(2L, 1L, 2L));
+
+        // then
+        assertThat(result).extracting(ProductCardResponse::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 캐시/카드 조회 생략")
+    void getRequestedCards_Empty() {
+        // given
+        when(productMapper.findRequestedProductIds("test@example.com")).thenReturn(Collections.emptyList());
+
+        // when
+        List<ProductCardResponse> result = productCardService.getRequestedCards("test@example.com");
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(cacheManager);
+    }
+
+    @Test
+    @DisplayName("상품 변경 시 카드 삭제")
+    void evict() {
+        // given
+        when(cacheManager.getCache(RedisCacheConfig.CACHE_PRODUCT_CARDS)).thenReturn(cache);
+
+        // when
+        productCardService.evict(1L);
+
+        // then
+        verify(cache).evict(1L);
+    }
+
+    private ProductCardResponse card(Long id, Long thumbnailImageId) {
+        return ProductCardResponse.builder()
+                .id(id)
+                .title("상품 " + id)
+                .nickname("판매자")
+                .dopamine(50)
+                .thumbnailImageId(thumbnailImageId)
+                .build();
+    }
+}
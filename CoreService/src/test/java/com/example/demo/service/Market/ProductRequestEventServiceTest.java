@@ -0,0 +1,198 @@
+package com.example.demo.service.Market;
+
+import com.example.demo.dto.chat.ChatRoomRequest;
+import com.example.demo.dto.chat.ChatRoomResponse;
+import com.example.demo.mapper.Market.ProductRequestEventMapper;
+import com.example.demo.model.Market.ProductRequestEvent;
+import com.example.demo.service.ChatService;
+import com.example.demo.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductRequestEventService 테스트")
+class ProductRequestEventServiceTest {
+
+    @Mock
+    private ProductRequestEventMapper productRequestEventMapper;
+
+    @Mock
+    private ChatService chatService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private ProductRequestEventService productRequestEventService;
+
+    @BeforeEach
+    void setUp() {
+        // 실행기는 호출 스레드에서 바로 실행
+        productRequestEventService = new ProductRequestEventService(
+                productRequestEventMapper, chatService, notificationService, new SyncTaskExecutor());
+        ReflectionTestUtils.setField(productRequestEventService, "maxAttempts", 5);
+        ReflectionTestUtils.setField(productRequestEventService, "retryDelaySeconds", 10);
+        ReflectionTestUtils.setField(productRequestEventService, "leaseSeconds", 60);
+        ReflectionTestUtils.setField(productRequestEventService, "batchSize", 100);
+    }
+
+    @Test
+    @DisplayName("채팅방 생성 등록 - 이벤트 저장 후 점유하여 채팅방 생성, 완료 처리")
+    void enqueueChatRoom_CreatesRoom() {
+        // given
+        doAnswer(invocation -> {
+            invocation.<ProductRequestEvent>getArgument(0).setId(1L);
+            return null;
+        }).when(productRequestEventMapper).insertEvent(any(ProductRequestEvent.class));
+        when(productRequestEventMapper.claimEvent(1L, 60)).thenReturn(1);
+        when(chatService.createOrGetChatRoom(eq("buyer@example.com"), any(ChatRoomRequest.class)))
+                .thenReturn(ChatRoomResponse.builder().success(true).build());
+
+        // when
+        productRequestEventService.enqueueChatRoom(10L, "buyer@example.com");
+
+        // then
+        ArgumentCaptor<ProductRequestEvent> captor = ArgumentCaptor.forClass(ProductRequestEvent.class);
+        verify(productRequestEventMapper).insertEvent(captor.capture());
+        assertThat(captor.getValue().getEventType()).isEqualTo(ProductRequestEvent.TYPE_CHAT_ROOM);
+        assertThat(captor.getValue().getProductId()).isEqualTo(10L);
+        verify(productRequestEventMapper).markDone(1L);
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 점유한 이벤트는 처리하지 않음")
+    void process_SkipsWhenNotClaimed() {
+        // given
+        ProductRequestEvent event = notification(2L);
+        when(productRequestEventMapper.claimEvent(2L, 60)).thenReturn(0);
+
+        // when
+        productRequestEventService.process(event);
+
+        // then
+        verifyNoInteractions(notificationService);
+        verify(productRequestEventMapper, never()).markDone(anyLong());
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 재처리 예약")
+    void process_MarksFailed() {
+        // given
+        ProductRequestEvent event = notification(3L);
+        when(productRequestEventMapper.claimEvent(3L, 60)).thenReturn(1);
+        doThrow(new RuntimeException("전송 실패")).when(notificationService)
+                .sendNotification("owner@example.com", "새 신청", "PRODUCT_REQUEST", 0, 10L);
+
+        // when
+        productRequestEventService.process(event);
+
+        // then
+        verify(productRequestEventMapper).markFailed(3L, "전송 실패", 5, 10);
+        verify(productRequestEventMapper, never()).markDone(anyLong());
+    }
+
+    @Test
+    @DisplayName("재처리 주기 - 처리할 차례가 된 이벤트를 모두 처리")
+    void processDueEvents() {
+        // given
+        when(productRequestEventMapper.findDueEvents(100)).thenReturn(List.of(notification(4L)));
+        when(productRequestEventMapper.claimEvent(4L, 60)).thenReturn(1);
+
+        // when
+        productRequestEventService.processDueEvents();
+
+        // then
+        verify(notificationService).sendNotification("owner@example.com", "새 신청", "PRODUCT_REQUEST", 0, 10L);
+        verify(productRequestEventMapper).markDone(4L);
+    }
+
+    @Test
+    @DisplayName("채팅방 조회 시 대기 중인 이벤트가 없으면 바로 반환")
+    void processPendingChatRoom_NothingPending() {
+        // given
+        when(productRequestEventMapper.findPendingChatRoomEvents(10L, "buyer@example.com"))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        boolean pending = productRequestEventService.processPendingChatRoom(10L, "buyer@example.com");
+
+        // then
+        assertThat(pending).isFalse();
+        verify(productRequestEventMapper, never()).claimEvent(anyLong(), anyInt());
+        verifyNoInteractions(chatService);
+    }
+
+    @Test
+    @DisplayName("채팅방 조회 시 대기 중인 채팅방 생성 이벤트를 바로 처리")
+    void processPendingChatRoom_ProcessesInline() {
+        // given
+        when(productRequestEventMapper.findPendingChatRoomEvents(10L, "buyer@example.com"))
+                .thenReturn(List.of(chatRoom(5L, "PENDING")));
+        when(productRequestEventMapper.claimEvent(5L, 60)).thenReturn(1);
+        when(chatService.createOrGetChatRoom(eq("buyer@example.com"), any(ChatRoomRequest.class)))
+                .thenReturn(ChatRoomResponse.builder().success(true).build());
+
+        // when
+        boolean pending = productRequestEventService.processPendingChatRoom(10L, "buyer@example.com");
+
+        // then
+        assertThat(pending).isFalse();
+        verify(productRequestEventMapper).markDone(5L);
+    }
+
+    @Test
+    @DisplayName("채팅방 조회 시 다른 곳에서 처리 중인 이벤트는 기다리지 않고 처리 중으로 반환")
+    void processPendingChatRoom_InFlightElsewhere() {
+        // given
+        when(productRequestEventMapper.findPendingChatRoomEvents(10L, "buyer@example.com"))
+                .thenReturn(List.of(chatRoom(5L, "PROCESSING")));
+        when(productRequestEventMapper.claimEvent(5L, 60)).thenReturn(0);
+
+        // when
+        boolean pending = productRequestEventService.processPendingChatRoom(10L, "buyer@example.com");
+
+        // then
+        assertThat(pending).isTrue();
+        verify(productRequestEventMapper, times(1)).findPendingChatRoomEvents(10L, "buyer@example.com");
+        verifyNoInteractions(chatService);
+    }
+
+    private ProductRequestEvent chatRoom(Long id, String status) {
+        return ProductRequestEvent.builder()
+                .id(id)
+                .eventType(ProductRequestEvent.TYPE_CHAT_ROOM)
+                .productId(10L)
+                .userEmail("buyer@example.com")
+                .status(status)
+                .build();
+    }
+
+    private ProductRequestEvent notification(Long id) {
+        return ProductRequestEvent.builder()
+                .id(id)
+                .eventType(ProductRequestEvent.TYPE_NOTIFICATION)
+                .productId(10L)
+                .userEmail("owner@example.com")
+                .message("새 신청")
+                .notificationType("PRODUCT_REQUEST")
+                .chatroomId(0)
+                .status("PENDING")
+                .build();
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.demo.service.Market;
+
+import com.example.demo.dto.Market.ProductFeedResponse;
+import com.example.demo.dto.Market.ProductResponse;
+import com.example.demo.mapper.Market.ProductImageMapper;
+import com.example.demo.mapper.Market.ProductMapper;
+import com.example.demo.mapper.Market.TransactionsMapper;
+import com.example.demo.model.Market.Product;
+import com.example.demo.model.Market.ProductImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductService 테스트")
+class ProductServiceTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private ProductImageMapper productImageMapper;
+
+    @Mock
+    private TransactionsMapper transactionsMapper;
+
+    @Mock
+    private ParticipantSlotService participantSlotService;
+
+    @Mock
+    private ProductRequestEventService productRequestEventService;
+
+    @InjectMocks
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(productService, "defaultFeedPageSize", 20);
+    }
+
+    @Test
+    @DisplayName("상품 피드 조회 - 다음 페이지가 있으면 요청 수만큼 반환하고 마지막 ID를 커서로 반환")
+    void getProductFeed_HasMore() {
+        // given
+        when(productMapper.findFeedPage("test@example.com", 100L, 3))
+                .thenReturn(Arrays.asList(product(99L), product(98L), product(97L)));
+        when(productImageMapper.findByProductIds(Arrays.asList(99L, 98L)))
+                .thenReturn(Arrays.asList(image(1L, 99L), image(2L, 99L), image(3L, 98L)));
+
+        // when
+        ProductFeedResponse response = productService.getProductFeed("test@example.com", 100L, 2);
+
+        // then
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(98L);
+        assertThat(response.getProducts()).hasSize(2);
+        assertThat(response.getProducts().get(0).getImagePaths())
+                .containsExactly("/api/core/market/products/images/1", "/api/core/market/products/images/2");
+        assertThat(response.getProducts().get(0).getThumbnailPath()).isEqualTo("/api/core/market/products/images/1");
+        assertThat(response.getProducts().get(0).getDays()).containsExactly("월", "수");
+        verify(productImageMapper, never()).findByProductId(anyLong());
+    }
+
+    @Test
+    @DisplayName("상품 피드 조회 - 마지막 페이지")
+    void getProductFeed_LastPage() {
+        // given
+        when(productMapper.findFeedPage(null, null, 21)).thenReturn(Collections.singletonList(product(1L)));
+        when(productImageMapper.findByProductIds(List.of(1L))).thenReturn(Collections.emptyList());
+
+        // when
+        ProductFeedResponse response = productService.getProductFeed(null, null, null);
+
+        // then
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getNextCursor()).isEqualTo(1L);
+        assertThat(response.getProducts().get(0).getImagePaths()).isEmpty();
+        assertThat(response.getProducts().get(0).getThumbnailPath()).isNull();
+    }
+
+    @Test
+    @DisplayName("상품 피드 조회 - 페이지 크기는 최대 50개로 제한, 결과가 없으면 이미지 조회 생략")
+    void getProductFeed_CapsPageSize() {
+        // given
+        when(productMapper.findFeedPage(null, null, 51)).thenReturn(Collections.emptyList());
+
+        // when
+        ProductFeedResponse response = productService.getProductFeed(null, null, 1000);
+
+        // then
+        assertThat(response.getProducts()).isEmpty();
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        verifyNoInteractions(productImageMapper);
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 이미지는 상품 ID로 한 번에 조회 (상품별 조회 없음)")
+    void getProductsByUserAndType_BatchesImages() {
+        // given
+        List<String> types = List.of("판매");
+        when(productMapper.findProductsByEmailAndType("seller@example.com", types))
+                .thenReturn(Arrays.asList(product(2L), product(1L)));
+        when(productImageMapper.findByProductIds(Arrays.asList(2L, 1L)))
+                .thenReturn(Arrays.asList(image(5L, 1L), image(6L, 2L)));
+
+        // when
+        List<ProductResponse> result = productService.getProductsByUserAndType("seller@example.com", types)
+                .getBody().getData();
+
+        // then
+        assertThat(result).extracting(ProductResponse::getId).containsExactly(2L, 1L);
+        assertThat(result.get(0).getThumbnailPath()).isEqualTo("/api/core/market/products/images/6");
+        assertThat(result.get(1).getThumbnailPath()).isEqualTo("/api/core/market/products/images/5");
+        verify(productImageMapper, times(1)).findByProductIds(anyList());
+        verify(productImageMapper, never()).findByProductId(anyLong());
+    }
+
+    @Test
+    @DisplayName("카테고리별 상품 조회 - 마감된 상품은 이미지 조회 대상에서도 제외")
+    void getProducts_SkipsHiddenProducts() {
+        // given
+        Product visible = product(2L);
+        visible.setVisible(true);
+        Product hidden = product(1L);
+        when(productMapper.findFilteredProducts(1L, "price")).thenReturn(Arrays.asList(visible, hidden));
+        when(productImageMapper.findByProductIds(List.of(2L))).thenReturn(Collections.emptyList());
+
+        // when
+        List<ProductResponse> result = productService.getProducts(1L, "price");
+
+        // then
+        assertThat(result).extracting(ProductResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("요청 승인 - 모집이 마감되지 않으면 승인한 요청의 거래만 생성")
+    void approveProductRequest_InsertsSingleTransaction() {
+        // given
+        givenApprovableRequest();
+        when(participantSlotService.approve(1L, 10L)).thenReturn(ParticipantSlotService.Result.APPROVED);
+
+        // when
+        productService.approveProductRequest("seller@example.com", 1L, 10L);
+
+        // then
+        verify(transactionsMapper, times(1)).insertTransaction(any());
+        verify(productRequestEventService).enqueueNotification(eq("buyer@example.com"), anyString(),
+                eq("PRODUCT_REQUEST"), eq(0), eq(1L));
+    }
+
+    @Test
+    @DisplayName("요청 승인 - 모집이 마감되면 거래는 마감 처리에서 일괄 생성 (단건 생성 없음)")
+    void approveProductRequest_ClosedSkipsSingleInsert() {
+        // given
+        givenApprovableRequest();
+        when(participantSlotService.approve(1L, 10L)).thenReturn(ParticipantSlotService.Result.CLOSED);
+
+        // when
+        productService.approveProductRequest("seller@example.com", 1L, 10L);
+
+        // then
+        verify(transactionsMapper, never()).insertTransaction(any());
+    }
+
+    private void givenApprovableRequest() {
+        Product product = product(1L);
+        product.setPrice(1000);
+        when(productMapper.findById(1L, "seller@example.com")).thenReturn(product);
+        when(productMapper.findRequesterEmailByRequestId(10L)).thenReturn("buyer@example.com");
+    }
+
+    private Product product(Long id) {
+        return Product.builder()
+                .id(id)
+                .title("상품 " + id)
+                .email("seller@example.com")
+                .transactionType("대면")
+                .registrationType("판매")
+                .days("[\"월\",\"수\"]")
+                .build();
+    }
+
+    private ProductImage image(Long id, Long productId) {
+        return ProductImage.builder().id(id).productId(productId).imagePath("/images/" + id + ".png").build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.board.PagedPostResponse;
 import com.example.demo.dto.board.PostCreateRequest;
+import com.example.demo.dto.board.PostSearchRequest;
 import com.example.demo.dto.board.PostUpdateRequest;
 import com.example.demo.mapper.board.BoardMapper;
 import com.example.demo.mapper.board.BoardMemberMapper;
@@ -16,14 +18,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -44,6 +49,9 @@ class PostServiceTest {
     @Mock
     private FileStorageService fileStorageService;
 
+    @Mock
+    private PostViewCountService postViewCountService;
+
     @InjectMocks
     private PostService postService;
 
@@ -55,6 +63,9 @@ class PostServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(postService, "ngramTokenSize", 2);
+        ReflectionTestUtils.setField(postService, "snippetLength", 120);
+
         board = Board.builder()
                 .id(1L)
                 .name("테스트 게시판")
@@ -223,7 +234,7 @@ class PostServiceTest {
         when(boardMemberMapper.findBoardMemberByEmailAndBoardId("test@example.com", 1L))
                 .thenReturn(boardMember);
         when(postMapper.getPostImagesByPostId(1L)).thenReturn(Collections.emptyList());
-        doNothing().when(postMapper).increaseViewCount(1L);
+        when(postViewCountService.getPendingViews(1L)).thenReturn(3);
 
         // when
         var result = postService.getPostById("test@example.com", 1L);
@@ -232,7 +243,9 @@ class PostServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getTitle()).isEqualTo("테스트 게시글");
-        verify(postMapper, times(1)).increaseViewCount(1L);
+        assertThat(result.getViewCount()).isEqualTo(3);
+        verify(postViewCountService, times(1)).recordView(1L, "test@example.com");
+        verify(postMapper, never()).increaseViewCount(anyLong());
     }
 
     @Test
@@ -256,7 +269,7 @@ class PostServiceTest {
         when(boardMemberMapper.findBoardMemberByEmailAndBoardId("test@example.com", 1L))
                 .thenReturn(boardMember);
         when(postMapper.getPostsByBoardId(1L)).thenReturn(posts);
-        when(postMapper.getPostImagesByPostId(1L)).thenReturn(Collections.emptyList());
+        when(postMapper.getPostImagesByPostIds(List.of(1L))).thenReturn(Collections.emptyList());
 
         // when
         var result = postService.getPostsByBoardId("test@example.com", 1L);
@@ -268,6 +281,28 @@ class PostServiceTest {
         verify(postMapper, times(1)).getPostsByBoardId(1L);
     }
 
+    @Test
+    @DisplayName("게시판 내 게시글 목록 조회 - 이미지는 게시글 ID로 한 번에 조회 (게시글별 조회 없음)")
+    void getPostsByBoardId_BatchesImages() {
+        // given
+        Post second = Post.builder().id(2L).boardId(1L).authorEmail("other@example.com").title("두 번째").build();
+        when(boardMapper.findBoardById(1L)).thenReturn(board);
+        when(postMapper.getPostsByBoardId(1L)).thenReturn(Arrays.asList(second, post));
+        when(postMapper.getPostImagesByPostIds(List.of(2L, 1L))).thenReturn(Arrays.asList(
+                PostImage.builder().id(1L).postId(1L).imageUrl("/images/a.png").build(),
+                PostImage.builder().id(2L).postId(1L).imageUrl("/images/b.png").build(),
+                PostImage.builder().id(3L).postId(2L).imageUrl("/images/c.png").build()));
+
+        // when
+        var result = postService.getPostsByBoardId("test@example.com", 1L);
+
+        // then
+        assertThat(result.get(0).getImageUrls()).containsExactly("/images/c.png");
+        assertThat(result.get(1).getImageUrls()).containsExactly("/images/a.png", "/images/b.png");
+        verify(postMapper, times(1)).getPostImagesByPostIds(anyList());
+        verify(postMapper, never()).getPostImagesByPostId(anyLong());
+    }
+
     @Test
     @DisplayName("게시글 검색 성공")
     void searchPosts_Success() {
@@ -276,8 +311,9 @@ class PostServiceTest {
         when(boardMapper.findBoardById(1L)).thenReturn(board);
         when(boardMemberMapper.findBoardMemberByEmailAndBoardId("test@example.com", 1L))
                 .thenReturn(boardMember);
-        when(postMapper.searchPosts(1L, "테스트")).thenReturn(posts);
-        when(postMapper.getPostImagesByPostId(1L)).thenReturn(Collections.emptyList());
+        when(postMapper.searchPosts(1L, "테스트", "\"테스트\"")).thenReturn(posts);
+        when(postMapper.getPostImagesByPostIds(List.of(1L))).thenReturn(Collections.emptyList());
+        when(postViewCountService.getPendingViews(List.of(1L))).thenReturn(Map.of(1L, 3));
 
         // when
         var result = postService.searchPosts("test@example.com", 1L, "테스트");
@@ -285,7 +321,10 @@ class PostServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
-        verify(postMapper, times(1)).searchPosts(1L, "테스트");
+        assertThat(result.get(0).getViewCount()).isEqualTo(3); // 아직 반영되지 않은 조회수 포함
+        assertThat(result.get(0).getHighlightedTitle()).isEqualTo("<em>테스트</em> 게시글");
+        assertThat(result.get(0).getContentSnippet()).isEqualTo("<em>테스트</em> 내용");
+        verify(postMapper, times(1)).searchPosts(1L, "테스트", "\"테스트\"");
     }
 
     @Test
@@ -300,6 +339,102 @@ class PostServiceTest {
         assertThatThrownBy(() -> postService.searchPosts("test@example.com", 1L, "테스트"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("멤버만 게시글을 검색할 수 있습니다");
-        verify(postMapper, never()).searchPosts(anyLong(), anyString());
+        verify(postMapper, never()).searchPosts(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("필터 검색 - 한 글자 검색어는 전문 검색 없이 LIKE 검색, 정렬 방향은 ASC/DESC만 허용")
+    void searchPostsWithFilters_ShortKeywordFallsBackToLike() {
+        // given
+        when(boardMapper.findBoardById(1L)).thenReturn(board);
+        PostSearchRequest request = PostSearchRequest.builder()
+                .boardId(1L)
+                .keyword("글")
+                .sortBy("relevance")
+                .sortDirection("DESC; DROP TABLE board_posts")
+                .build();
+        when(postMapper.findPostsWithFilters(1L, "글", null, null, null, null, "relevance", "DESC", 0, 10))
+                .thenReturn(Collections.singletonList(post));
+        when(postMapper.countPostsWithFilters(1L, "글", null, null, null, null)).thenReturn(1);
+        when(postMapper.getPostImagesByPostIds(List.of(1L))).thenReturn(Collections.emptyList());
+
+        // when
+        PagedPostResponse result = postService.searchPostsWithFilters("test@example.com", request);
+
+        // then
+        assertThat(result.getSortDirection()).isEqualTo("DESC");
+        assertThat(result.getContent().get(0).getHighlightedTitle()).isEqualTo("테스트 게시<em>글</em>");
+    }
+
+    @Test
+    @DisplayName("필터 검색 - 작성자 검색은 전문 검색 구문을 넘기고 하이라이트하지 않음")
+    void searchPostsWithFilters_AuthorSearch() {
+        // given
+        when(boardMapper.findBoardById(1L)).thenReturn(board);
+        PostSearchRequest request = PostSearchRequest.builder()
+                .boardId(1L)
+                .keyword("홍길동")
+                .searchField("author")
+                .build();
+        when(postMapper.findPostsWithFilters(1L, "홍길동", "\"홍길동\"", "author", null, null, "createdAt", "DESC", 0, 10))
+                .thenReturn(Collections.singletonList(post));
+        when(postMapper.countPostsWithFilters(1L, "홍길동", "\"홍길동\"", "author", null, null)).thenReturn(1);
+        when(postMapper.getPostImagesByPostIds(List.of(1L))).thenReturn(Collections.emptyList());
+        when(postViewCountService.getPendingViews(List.of(1L))).thenReturn(Map.of(1L, 2));
+
+        // when
+        PagedPostResponse result = postService.searchPostsWithFilters("test@example.com", request);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().get(0).getViewCount()).isEqualTo(2); // 아직 반영되지 않은 조회수 포함
+        assertThat(result.getContent().get(0).getHighlightedTitle()).isNull();
+        assertThat(result.getContent().get(0).getContentSnippet()).isNull();
+    }
+
+    @Test
+    @DisplayName("필터 검색 - 제목 검색은 제목만 하이라이트")
+    void searchPostsWithFilters_TitleSearchHighlightsTitleOnly() {
+        // given
+        when(boardMapper.findBoardById(1L)).thenReturn(board);
+        PostSearchRequest request = PostSearchRequest.builder()
+                .boardId(1L)
+                .keyword("테스트")
+                .searchField("title")
+                .build();
+        when(postMapper.findPostsWithFilters(1L, "테스트", "\"테스트\"", "title", null, null, "createdAt", "DESC", 0, 10))
+                .thenReturn(Collections.singletonList(post));
+        when(postMapper.countPostsWithFilters(1L, "테스트", "\"테스트\"", "title", null, null)).thenReturn(1);
+        when(postMapper.getPostImagesByPostIds(List.of(1L))).thenReturn(Collections.emptyList());
+
+        // when
+        PagedPostResponse result = postService.searchPostsWithFilters("test@example.com", request);
+
+        // then
+        assertThat(result.getContent().get(0).getHighlightedTitle()).isEqualTo("<em>테스트</em> 게시글");
+        assertThat(result.getContent().get(0).getContentSnippet()).isNull();
+    }
+
+    @Test
+    @DisplayName("필터 검색 - 본문 검색은 본문만 하이라이트")
+    void searchPostsWithFilters_ContentSearchHighlightsContentOnly() {
+        // given
+        when(boardMapper.findBoardById(1L)).thenReturn(board);
+        PostSearchRequest request = PostSearchRequest.builder()
+                .boardId(1L)
+                .keyword("테스트")
+                .searchField("content")
+                .build();
+        when(postMapper.findPostsWithFilters(1L, "테스트", "\"테스트\"", "content", null, null, "createdAt", "DESC", 0, 10))
+                .thenReturn(Collections.singletonList(post));
+        when(postMapper.countPostsWithFilters(1L, "테스트", "\"테스트\"", "content", null, null)).thenReturn(1);
+        when(postMapper.getPostImagesByPostIds(List.of(1L))).thenReturn(Collections.emptyList());
+
+        // when
+        PagedPostResponse result = postService.searchPostsWithFilters("test@example.com", request);
+
+        // then
+        assertThat(result.getContent().get(0).getHighlightedTitle()).isNull();
+        assertThat(result.getContent().get(0).getContentSnippet()).isEqualTo("<em>테스트</em> 내용");
     }
 }
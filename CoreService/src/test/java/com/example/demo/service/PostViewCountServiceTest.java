@@ -0,0 +1,213 @@
+package com.example.demo.service;
+
+import com.example.demo.mapper.board.PostMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostViewCountService 테스트")
+class PostViewCountServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private PostMapper postMapper;
+
+    @InjectMocks
+    private PostViewCountService postViewCountService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postViewCountService, "enabled", true);
+        ReflectionTestUtils.setField(postViewCountService, "dedupWindowSeconds", 600L);
+        ReflectionTestUtils.setField(postViewCountService, "orphanAgeMs", 300000L);
+    }
+
+    @Test
+    @DisplayName("처음 조회하면 Redis에 증가분 누적 (DB UPDATE 없음)")
+    void recordView_FirstView() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(valueOperations.setIfAbsent("board:post-views:viewed:1:test@example.com", 1, Duration.ofSeconds(600)))
+                .thenReturn(true);
+
+        // when
+        boolean counted = postViewCountService.recordView(1L, "test@example.com");
+
+        // then
+        assertThat(counted).isTrue();
+        verify(hashOperations, times(1)).increment("board:post-views:pending", "1", 1L);
+        verify(postMapper, never()).increaseViewCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 시간 안에 다시 조회하면 집계하지 않음")
+    void recordView_DuplicateView() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+
+        // when
+        boolean counted = postViewCountService.recordView(1L, "test@example.com");
+
+        // then
+        assertThat(counted).isFalse();
+        verify(redisTemplate, never()).opsForHash();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB에 바로 반영")
+    void recordView_RedisFailure() {
+        // given
+        when(redisTemplate.opsForValue()).thenThrow(new RuntimeException("Redis 연결 실패"));
+
+        // when
+        postViewCountService.recordView(1L, "test@example.com");
+
+        // then
+        verify(postMapper, times(1)).increaseViewCount(1L);
+    }
+
+    @Test
+    @DisplayName("미반영 증가분 조회 - 증가분이 있는 게시글만 반환")
+    void getPendingViews() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(eq("board:post-views:pending"), anyList())).thenReturn(Arrays.asList(3, null));
+
+        // when
+        Map<Long, Integer> pending = postViewCountService.getPendingViews(List.of(1L, 2L));
+
+        // then
+        assertThat(pending).containsExactly(Map.entry(1L, 3));
+    }
+
+    @Test
+    @DisplayName("일괄 반영 - 누적분을 한 번의 UPDATE로 반영 후 삭제")
+    @SuppressWarnings("unchecked")
+    void flush_Success() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(1L);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(anyString())).thenReturn(Map.of("1", 5, "2", 1));
+
+        // when
+        postViewCountService.flush();
+
+        // then
+        verify(postMapper, times(1)).addViewCounts(Map.of(1L, 5L, 2L, 1L));
+        verify(redisTemplate, times(1)).delete(startsWith("board:post-views:flushing:"));
+    }
+
+    @Test
+    @DisplayName("일괄 반영 - 누적분이 없으면 DB 조회 없음")
+    @SuppressWarnings("unchecked")
+    void flush_Empty() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(0L);
+
+        // when
+        postViewCountService.flush();
+
+        // then
+        verifyNoInteractions(postMapper);
+    }
+
+    @Test
+    @DisplayName("일괄 반영 - DB 반영 실패 시 누적분을 되돌림")
+    @SuppressWarnings("unchecked")
+    void flush_RestoresOnFailure() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(1L);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(anyString())).thenReturn(Map.of("1", 5));
+        when(postMapper.addViewCounts(anyMap())).thenThrow(new RuntimeException("DB 오류"));
+
+        // when
+        postViewCountService.flush();
+
+        // then
+        verify(hashOperations, times(1)).increment("board:post-views:pending", "1", 5L);
+    }
+
+    @Test
+    @DisplayName("일괄 반영 - DB 반영 후 키 삭제에 실패하면 되돌리지 않고 다음 정리 주기에 다시 삭제")
+    @SuppressWarnings("unchecked")
+    void flush_DeleteFailureDoesNotRestore() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(1L);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(anyString())).thenReturn(Map.of("1", 5));
+        when(redisTemplate.delete(anyString())).thenThrow(new RuntimeException("connection reset"));
+
+        // when
+        postViewCountService.flush();
+
+        // then
+        verify(postMapper, times(1)).addViewCounts(Map.of(1L, 5L));
+        verify(hashOperations, never()).increment(anyString(), any(), anyLong());
+
+        // 정리 주기: 삭제를 다시 시도하고, 오래된 키로 조회되어도 누적분으로 되돌리지 않음
+        ArgumentCaptor<String> flushingKey = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).delete(flushingKey.capture());
+        ReflectionTestUtils.setField(postViewCountService, "orphanAgeMs", 0L);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of(flushingKey.getValue()));
+
+        postViewCountService.sweepOrphans();
+
+        verify(redisTemplate, times(2)).delete(flushingKey.getValue());
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList());
+    }
+
+    @Test
+    @DisplayName("남은 반영용 키 정리 - 오래된 키만 누적분으로 되돌림")
+    @SuppressWarnings("unchecked")
+    void sweepOrphans_MergesOnlyOldKeys() {
+        // given
+        long now = System.currentTimeMillis();
+        String orphan = "board:post-views:flushing:" + (now - 600000) + ":a";
+        String inProgress = "board:post-views:flushing:" + now + ":b";
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of(orphan, inProgress));
+        when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(2L);
+
+        // when
+        postViewCountService.sweepOrphans();
+
+        // then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(orphan, "board:post-views:pending")));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(inProgress, "board:post-views:pending")));
+    }
+}
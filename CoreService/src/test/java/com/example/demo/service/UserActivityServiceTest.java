@@ -0,0 +1,48 @@
+package com.example.demo.service;
+
+import com.example.demo.mapper.UserMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserActivityService 테스트")
+class UserActivityServiceTest {
+
+    @Mock
+    private UserMapper userMapper;
+
+    @InjectMocks
+    private UserActivityService userActivityService;
+
+    @Test
+    @DisplayName("활동 기록 시 활동 내역 추가 후 집계 갱신")
+    void recordActivity_UpdatesSummary() {
+        // when
+        userActivityService.recordActivity("test@example.com", 50, 0);
+
+        // then
+        InOrder inOrder = inOrder(userMapper);
+        inOrder.verify(userMapper).initializeUserActivity("test@example.com", 50, 0);
+        inOrder.verify(userMapper).upsertActivitySummary("test@example.com", 50, 0);
+    }
+
+    @Test
+    @DisplayName("집계 재계산 실패 시 예외를 전파하지 않음")
+    void rebuildSummaries_SwallowsFailure() {
+        // given
+        when(userMapper.rebuildActivitySummaries()).thenThrow(new RuntimeException("DB 오류"));
+
+        // when
+        userActivityService.rebuildSummaries();
+
+        // then
+        verify(userMapper, times(1)).rebuildActivitySummaries();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("GeoUtils 테스트")
+class GeoUtilsTest {
+
+    @Test
+    @DisplayName("반경 안의 좌표는 모두 사각형 안에 포함")
+    void boundingBox_ContainsAllPointsWithinDistance() {
+        // given
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+        double distanceKm = 5;
+        Random random = new Random(42);
+
+        // when
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(latitude, longitude, distanceKm);
+
+        // then
+        for (int i = 0; i < 10000; i++) {
+            double lat = latitude + (random.nextDouble() - 0.5) * 0.2;
+            double lng = longitude + (random.nextDouble() - 0.5) * 0.2;
+            if (GeoUtils.distanceKm(latitude, longitude, lat, lng) <= distanceKm) {
+                assertThat(box.contains(lat, lng)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("날짜 변경선을 넘으면 경도 범위를 전체로 확장")
+    void boundingBox_CrossingAntimeridian() {
+        // when
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(0, 179.99, 10);
+
+        // then
+        assertThat(box.getMinLongitude()).isEqualTo(-180.0);
+        assertThat(box.getMaxLongitude()).isEqualTo(180.0);
+    }
+
+    @Test
+    @DisplayName("거리 계산 - 서울시청에서 부산시청까지 약 325km")
+    void distanceKm_Success() {
+        // when
+        double distance = GeoUtils.distanceKm(37.5665, 126.9780, 35.1796, 129.0756);
+
+        // then
+        assertThat(distance).isCloseTo(325, within(5.0));
+        assertThat(GeoUtils.distanceKm(37.5665, 126.9780, 37.5665, 126.9780)).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchUtils 테스트")
+class SearchUtilsTest {
+
+    @Test
+    @DisplayName("검색어는 따옴표를 제거한 구문 검색어로 변환")
+    void toFullTextPhrase_QuotesPhrase() {
+        assertThat(SearchUtils.toFullTextPhrase("  자바  \"스프링\" ", 2)).isEqualTo("\"자바 스프링\"");
+        assertThat(SearchUtils.toFullTextPhrase("+java -spring*", 2)).isEqualTo("\"+java -spring*\"");
+    }
+
+    @Test
+    @DisplayName("ngram 토큰보다 짧은 단어가 있거나 비어 있으면 전문 검색 불가 (null)")
+    void toFullTextPhrase_ShortWord() {
+        assertThat(SearchUtils.toFullTextPhrase("글", 2)).isNull();
+        assertThat(SearchUtils.toFullTextPhrase("자바 a", 2)).isNull();
+        assertThat(SearchUtils.toFullTextPhrase(" \" ", 2)).isNull();
+        assertThat(SearchUtils.toFullTextPhrase(null, 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("하이라이트 - 대소문자 무시, HTML은 이스케이프")
+    void highlight_EscapesHtml() {
+        // when
+        String result = SearchUtils.highlight("<b>Java</b> 와 java", "JAVA");
+
+        // then
+        assertThat(result).isEqualTo("&lt;b&gt;<em>Java</em>&lt;/b&gt; 와 <em>java</em>");
+    }
+
+    @Test
+    @DisplayName("발췌 - 검색어 주변만 잘라서 하이라이트")
+    void snippet_AroundFirstMatch() {
+        // given
+        String content = "가".repeat(100) + "스프링" + "나".repeat(100);
+
+        // when
+        String result = SearchUtils.snippet(content, "스프링", 20);
+
+        // then
+        assertThat(result).isEqualTo("..." + "가".repeat(5) + "<em>스프링</em>" + "나".repeat(12) + "...");
+    }
+
+    @Test
+    @DisplayName("발췌 - 검색어가 없으면 앞부분 반환")
+    void snippet_NoMatch() {
+        assertThat(SearchUtils.snippet("abcdefghij", "xyz", 4)).isEqualTo("abcd...");
+        assertThat(SearchUtils.snippet("짧은 글", "글", 120)).isEqualTo("짧은 <em>글</em>");
+    }
+}
@@ -95,6 +95,7 @@ CREATE TABLE IF NOT EXISTS Products (
     address VARCHAR(255) NULL,
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_products_geo (transaction_type, latitude, longitude),
     FOREIGN KEY (email) REFERENCES Users(email) ON DELETE CASCADE,
     FOREIGN KEY (category_id) REFERENCES categories(category_id) ON DELETE RESTRICT,
     FOREIGN KEY (hobby_id) REFERENCES hobbies(hobby_id) ON DELETE RESTRICT
@@ -239,6 +240,25 @@ CREATE TABLE IF NOT EXISTS UnreadNotices (
     UNIQUE KEY unique_unread_notice (notice_id, email)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- 20. ProductRequestEvents 테이블 (상품 요청/승인 후속 작업 아웃박스)
+CREATE TABLE IF NOT EXISTS ProductRequestEvents (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(30) NOT NULL,
+    product_id BIGINT NOT NULL,
+    user_email VARCHAR(255) NOT NULL,
+    message VARCHAR(500),
+    notification_type VARCHAR(50),
+    chatroom_id INT,
+    status ENUM('PENDING', 'PROCESSING', 'DONE', 'FAILED') NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_product_request_events_due (status, next_attempt_at),
+    INDEX idx_product_request_events_user (product_id, user_email, event_type)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- ============================================
 -- 활동(마일리지,도파민) 테이블
 -- ============================================
@@ -253,6 +273,72 @@ CREATE TABLE IF NOT EXISTS PointsDopamineActivity (
     FOREIGN KEY (email) REFERENCES Users(email) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- 사용자별 활동 집계 테이블 (활동 내역 추가 시 함께 갱신, 매일 재계산으로 보정)
+CREATE TABLE IF NOT EXISTS UserActivitySummary (
+    email VARCHAR(255) NOT NULL PRIMARY KEY,
+    total_points INT NOT NULL DEFAULT 0,
+    total_dopamine INT NOT NULL DEFAULT 0,
+    latest_points INT NOT NULL DEFAULT 0,
+    latest_dopamine INT NOT NULL DEFAULT 0,
+    latest_activity_time TIMESTAMP NULL,
+    FOREIGN KEY (email) REFERENCES Users(email) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- ============================================
+-- 전문 검색 인덱스 (게시글/작성자 검색, 기존 DB에도 다시 실행하면 없는 인덱스만 생성)
+-- ============================================
+
+-- 게시글 검색은 MATCH ... AGAINST (BOOLEAN MODE)로 ft_board_posts_title_content, ft_users_name_nickname 인덱스를 사용
+-- 인덱스가 없으면 MATCH ... AGAINST 쿼리가 실패하므로 배포 전에 이 구간을 기존 DB에 먼저 실행해야 함
+-- 한글 부분 검색을 위해 ngram 파서 사용, 서버 설정(my.cnf [mysqld])을 인덱스 생성 전에 맞춰야 함
+--   ngram_token_size=2            : 기본값, 서버 시작 옵션이라 바꾸면 인덱스를 다시 만들어야 함
+--                                   CoreService의 board.search.ngram-token-size도 같은 값으로 맞춤 (이보다 짧은 단어는 LIKE 검색)
+--   innodb_ft_enable_stopword=OFF : 기본 불용어(a, is 등)가 들어간 ngram 토큰도 색인
+-- board_posts 테이블이 아직 없으면 건너뛰고, 테이블 생성 후 다시 실행하면 인덱스 생성
+
+DELIMITER $$
+DROP PROCEDURE IF EXISTS create_fulltext_index_if_not_exists$$
+CREATE PROCEDURE create_fulltext_index_if_not_exists(
+    IN p_table_name VARCHAR(255),
+    IN p_index_name VARCHAR(255),
+    IN p_columns VARCHAR(1000)
+)
+BEGIN
+    DECLARE table_exists INT DEFAULT 0;
+    DECLARE index_exists INT DEFAULT 0;
+
+    SELECT COUNT(1) INTO table_exists
+    FROM information_schema.tables
+    WHERE table_schema = DATABASE()
+    AND table_name = p_table_name;
+
+    SELECT COUNT(1) INTO index_exists
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+    AND table_name = p_table_name
+    AND index_name = p_index_name;
+
+    IF table_exists = 0 THEN
+        SELECT CONCAT('테이블이 없어 건너뜁니다: ', p_table_name) AS message;
+    ELSEIF index_exists = 0 THEN
+        SET @sql = CONCAT('CREATE FULLTEXT INDEX ', p_index_name, ' ON ', p_table_name, ' ', p_columns, ' WITH PARSER ngram');
+        PREPARE stmt FROM @sql;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+
+        SELECT CONCAT('전문 검색 인덱스 생성 완료: ', p_index_name, ' on ', p_table_name) AS message;
+    ELSE
+        SELECT CONCAT('인덱스가 이미 존재합니다: ', p_index_name) AS message;
+    END IF;
+END$$
+DELIMITER ;
+
+-- 제목/본문 검색 (searchPosts, findPostsWithFilters, countPostsWithFilters)
+CALL create_fulltext_index_if_not_exists('board_posts', 'ft_board_posts_title_content', '(title, content)');
+
+-- 작성자 검색: 이름/닉네임으로 사용자를 먼저 찾은 뒤 author_email로 게시글 조회
+CALL create_fulltext_index_if_not_exists('Users', 'ft_users_name_nickname', '(name, nickname)');
+
 -- ============================================
 -- 초기 데이터 삽입 (선택사항)
 -- ============================================